@@ -0,0 +1,49 @@
+package com.reviewservice.cdc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Chooses where relayed changes go with {@code review.cdc.publisher}: {@code memory} and
+ * {@code file} keep them for the long-poll endpoint, {@code kafka-rest} produces them to
+ * a Kafka topic.
+ */
+@Configuration
+@ConditionalOnProperty(name = "review.cdc.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeDataCaptureConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "review.cdc.publisher", havingValue = "memory", matchIfMissing = true)
+    public InMemoryChangeLog inMemoryChangeLog(@Value("${review.cdc.memory.capacity:100000}") int capacity) {
+        return new InMemoryChangeLog(capacity);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "review.cdc.publisher", havingValue = "file")
+    public FileSegmentChangeLog fileSegmentChangeLog(
+        @Value("${review.cdc.file.directory:./changes}") String directory,
+        @Value("${review.cdc.file.segment-size:64MB}") DataSize segmentSize,
+        @Value("${review.cdc.file.retained-segments:16}") int retainedSegments,
+        ObjectMapper objectMapper
+    ) throws IOException {
+        return new FileSegmentChangeLog(Path.of(directory), segmentSize.toBytes(), retainedSegments, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "review.cdc.publisher", havingValue = "kafka-rest")
+    public KafkaRestChangePublisher kafkaRestChangePublisher(
+        RestClient.Builder restClientBuilder,
+        @Value("${review.cdc.kafka-rest.url}") String url,
+        @Value("${review.cdc.kafka-rest.topic:review-changes}") String topic
+    ) {
+        return new KafkaRestChangePublisher(restClientBuilder.baseUrl(url).build(), topic);
+    }
+}
@@ -0,0 +1,15 @@
+package com.reviewservice.cdc;
+
+import com.reviewservice.dto.ChangeEventDto;
+
+import java.util.List;
+
+/**
+ * Where the outbox relay sends changes. A batch is delivered in order; when publishing
+ * throws, the relay keeps the batch in the outbox and retries it, so publishers see each
+ * change at least once.
+ */
+public interface ChangeEventPublisher {
+
+    void publish(List<ChangeEventDto> batch);
+}
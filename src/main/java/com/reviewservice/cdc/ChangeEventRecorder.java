@@ -0,0 +1,74 @@
+package com.reviewservice.cdc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.entity.ChangeEventType;
+import com.reviewservice.entity.OutboxEvent;
+import com.reviewservice.event.RatingSummaryChangedEvent;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.event.ReviewResponseAddedEvent;
+import com.reviewservice.event.ReviewVoteChangedEvent;
+import com.reviewservice.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Writes each review, vote, response and rating summary change to the outbox. Listens
+ * synchronously, so the row is inserted on the writer's shard inside the writer's
+ * transaction and commits or rolls back with it.
+ */
+@Component
+@ConditionalOnProperty(name = "review.cdc.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ChangeEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        ChangeEventType type = switch (event.getType()) {
+            case CREATED -> ChangeEventType.REVIEW_CREATED;
+            case UPDATED -> ChangeEventType.REVIEW_UPDATED;
+            case DELETED -> ChangeEventType.REVIEW_DELETED;
+        };
+        record(type, event.getEntityType(), event.getEntityId(), event.getReviewId(), event);
+    }
+
+    @EventListener
+    public void onVoteChanged(ReviewVoteChangedEvent event) {
+        record(ChangeEventType.VOTE_CHANGED, event.getEntityType(), event.getEntityId(), event.getReviewId(), event);
+    }
+
+    @EventListener
+    public void onResponseAdded(ReviewResponseAddedEvent event) {
+        record(ChangeEventType.RESPONSE_ADDED, event.getEntityType(), event.getEntityId(), event.getReviewId(), event);
+    }
+
+    @EventListener
+    public void onRatingSummaryChanged(RatingSummaryChangedEvent event) {
+        record(ChangeEventType.SUMMARY_CHANGED, event.getEntityType(), event.getEntityId(), null, event);
+    }
+
+    private void record(ChangeEventType type, String entityType, String entityId, Long reviewId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + type + " change", e);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+            .type(type)
+            .entityType(entityType)
+            .entityId(entityId)
+            .reviewId(reviewId)
+            .payload(payload)
+            .createdAt(LocalDateTime.now())
+            .build());
+    }
+}
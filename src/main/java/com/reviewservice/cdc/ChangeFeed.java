@@ -0,0 +1,112 @@
+package com.reviewservice.cdc;
+
+import com.reviewservice.dto.ChangeBatchDto;
+import com.reviewservice.dto.ChangeEventDto;
+import com.reviewservice.exception.ChangeFeedUnavailableException;
+import com.reviewservice.exception.ChangeOffsetExpiredException;
+import com.reviewservice.exception.ResourceNotFoundException;
+import lombok.Value;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Long polling over the change log. A poll with nothing to read parks without holding a
+ * request thread and is answered when the relay appends, or empty when it times out.
+ * The log only holds what this instance relayed, so only the instance holding the relay
+ * lease answers; the others send consumers away rather than serve a partial feed.
+ */
+@Component
+@ConditionalOnProperty(name = "review.cdc.enabled", havingValue = "true", matchIfMissing = true)
+public class ChangeFeed {
+
+    // Null when the publisher sends changes elsewhere instead of keeping them
+    private final ChangeLog changeLog;
+    // Null on instances that never relay
+    private final RelayLease relayLease;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    public ChangeFeed(ChangeEventPublisher publisher, ObjectProvider<RelayLease> relayLease) {
+        this.changeLog = publisher instanceof ChangeLog log ? log : null;
+        this.relayLease = relayLease.getIfAvailable();
+    }
+
+    /**
+     * Up to {@code limit} changes from {@code offset} on, or from the oldest retained one
+     * when it is null.
+     */
+    public DeferredResult<ChangeBatchDto> poll(Long offset, int limit, Duration timeout) {
+        if (changeLog == null) {
+            throw new ResourceNotFoundException("Changes are not kept by this service; read them from the publisher");
+        }
+        if (relayLease == null || !relayLease.isHeld()) {
+            throw new ChangeFeedUnavailableException("Changes are served by the instance relaying them; this one is not");
+        }
+
+        long from = offset == null ? changeLog.startOffset() : offset;
+        DeferredResult<ChangeBatchDto> result =
+            new DeferredResult<>(timeout.toMillis(), () -> new ChangeBatchDto(List.of(), from));
+        Waiter waiter = new Waiter(from, limit, result);
+        if (tryComplete(waiter)) {
+            return result;
+        }
+        if (timeout.isZero()) {
+            result.setResult(new ChangeBatchDto(List.of(), from));
+            return result;
+        }
+
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        // An append between the first read and registering would not have woken it
+        if (tryComplete(waiter)) {
+            waiters.remove(waiter);
+        }
+        return result;
+    }
+
+    void notifyAppended() {
+        for (Waiter waiter : waiters) {
+            if (tryComplete(waiter)) {
+                waiters.remove(waiter);
+            }
+        }
+    }
+
+    private boolean tryComplete(Waiter waiter) {
+        DeferredResult<ChangeBatchDto> result = waiter.getResult();
+        if (result.isSetOrExpired()) {
+            return true;
+        }
+        if (waiter.getOffset() == changeLog.endOffset()) {
+            return false;
+        }
+
+        List<ChangeEventDto> events;
+        try {
+            events = changeLog.read(waiter.getOffset(), waiter.getLimit());
+        } catch (IllegalArgumentException e) {
+            result.setErrorResult(new ChangeOffsetExpiredException(String.format(
+                "Offset %d is not retained; changes from %d to %d are available",
+                waiter.getOffset(), changeLog.startOffset(), changeLog.endOffset())));
+            return true;
+        }
+        if (events.isEmpty()) {
+            return false;
+        }
+        result.setResult(new ChangeBatchDto(events, waiter.getOffset() + events.size()));
+        return true;
+    }
+
+    @Value
+    private static class Waiter {
+        long offset;
+        int limit;
+        DeferredResult<ChangeBatchDto> result;
+    }
+}
@@ -0,0 +1,24 @@
+package com.reviewservice.cdc;
+
+import com.reviewservice.dto.ChangeEventDto;
+
+import java.util.List;
+
+/**
+ * A publisher that keeps what it was sent as a log consumers read by offset. Appending
+ * assigns each event the next offset.
+ */
+public interface ChangeLog extends ChangeEventPublisher {
+
+    /**
+     * Up to {@code limit} events from {@code offset} on, which must lie between
+     * {@link #startOffset()} and {@link #endOffset()}.
+     */
+    List<ChangeEventDto> read(long offset, int limit);
+
+    // Offset of the oldest event still retained
+    long startOffset();
+
+    // Offset the next event will get
+    long endOffset();
+}
@@ -0,0 +1,238 @@
+package com.reviewservice.cdc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.dto.ChangeEventDto;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Appends events as JSON lines to segment files named after the offset of their first
+ * event. A segment is closed once it reaches {@code segmentBytes}, and the oldest are
+ * deleted beyond {@code retainedSegments}. Each batch is forced to disk before the relay
+ * removes it from the outbox. On opening, a line left half written by a crash is cut off.
+ */
+public class FileSegmentChangeLog implements ChangeLog, Closeable {
+
+    // Every this many lines a position is kept in memory; reads skip at most this many lines
+    static final int INDEX_INTERVAL = 64;
+
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int retainedSegments;
+    private final ObjectMapper objectMapper;
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private FileChannel active;
+    private long end;
+
+    public FileSegmentChangeLog(Path directory, long segmentBytes, int retainedSegments,
+                                ObjectMapper objectMapper) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.retainedSegments = retainedSegments;
+        this.objectMapper = objectMapper;
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SUFFIX)).toList()) {
+                String name = file.getFileName().toString();
+                long base = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+                segments.put(base, new Segment(base, file));
+            }
+        }
+        for (Segment segment : segments.values()) {
+            segment.recover();
+        }
+
+        if (segments.isEmpty()) {
+            roll();
+        } else {
+            Segment last = segments.lastEntry().getValue();
+            end = last.next;
+            active = FileChannel.open(last.path, StandardOpenOption.WRITE);
+            active.position(last.size);
+        }
+    }
+
+    @Override
+    public synchronized void publish(List<ChangeEventDto> batch) {
+        try {
+            int i = 0;
+            while (i < batch.size()) {
+                Segment segment = segments.lastEntry().getValue();
+                if (segment.size >= segmentBytes) {
+                    segment = roll();
+                }
+
+                ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+                List<Long> positions = new ArrayList<>();
+                long offset = segment.next;
+                while (i < batch.size() && (chunk.size() == 0 || segment.size + chunk.size() < segmentBytes)) {
+                    if ((offset - segment.base) % INDEX_INTERVAL == 0) {
+                        positions.add(segment.size + chunk.size());
+                    }
+                    ChangeEventDto event = batch.get(i++);
+                    event.setOffset(offset++);
+                    chunk.write(objectMapper.writeValueAsBytes(event));
+                    chunk.write('\n');
+                }
+
+                append(segment, chunk.toByteArray());
+                segment.positions.addAll(positions);
+                segment.next = offset;
+                end = offset;
+            }
+            active.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to change log in " + directory, e);
+        }
+    }
+
+    @Override
+    public synchronized List<ChangeEventDto> read(long offset, int limit) {
+        if (offset < startOffset() || offset > end) {
+            throw new IllegalArgumentException("Offset " + offset + " is outside " + startOffset() + ".." + end);
+        }
+
+        List<ChangeEventDto> events = new ArrayList<>();
+        try {
+            Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+            while (entry != null && offset < end && events.size() < limit) {
+                Segment segment = entry.getValue();
+                read(segment, offset, limit, events);
+                offset = segment.next;
+                entry = segments.higherEntry(entry.getKey());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read change log in " + directory, e);
+        }
+        return events;
+    }
+
+    @Override
+    public synchronized long startOffset() {
+        return segments.firstKey();
+    }
+
+    @Override
+    public synchronized long endOffset() {
+        return end;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        active.close();
+    }
+
+    private void read(Segment segment, long offset, int limit, List<ChangeEventDto> events) throws IOException {
+        long relative = offset - segment.base;
+        long position = segment.positions.get((int) (relative / INDEX_INTERVAL));
+        long current = offset - relative % INDEX_INTERVAL;
+
+        try (FileChannel channel = FileChannel.open(segment.path, StandardOpenOption.READ);
+             BufferedReader reader = new BufferedReader(Channels.newReader(channel.position(position),
+                 StandardCharsets.UTF_8))) {
+            while (current < segment.next && events.size() < limit) {
+                String line = reader.readLine();
+                if (current >= offset) {
+                    events.add(objectMapper.readValue(line, ChangeEventDto.class));
+                }
+                current++;
+            }
+        }
+    }
+
+    private void append(Segment segment, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            while (buffer.hasRemaining()) {
+                active.write(buffer);
+            }
+        } catch (IOException e) {
+            // Leave no partial batch behind; the relay sends the batch again
+            active.truncate(segment.size);
+            active.position(segment.size);
+            throw e;
+        }
+        segment.size += bytes.length;
+    }
+
+    private Segment roll() throws IOException {
+        if (active != null) {
+            active.force(false);
+            active.close();
+        }
+
+        Segment segment = new Segment(end, directory.resolve(String.format("%020d%s", end, SUFFIX)));
+        segment.next = end;
+        active = FileChannel.open(segment.path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        segments.put(end, segment);
+
+        while (segments.size() > retainedSegments) {
+            Files.deleteIfExists(segments.pollFirstEntry().getValue().path);
+        }
+        return segment;
+    }
+
+    private static final class Segment {
+
+        final long base;
+        final Path path;
+        // Start of every INDEX_INTERVAL-th line
+        final List<Long> positions = new ArrayList<>();
+        long next;
+        long size;
+
+        Segment(long base, Path path) {
+            this.base = base;
+            this.path = path;
+        }
+
+        void recover() throws IOException {
+            long position = 0;
+            long lineStart = 0;
+            long lines = 0;
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+                int b;
+                while ((b = in.read()) != -1) {
+                    position++;
+                    if (b == '\n') {
+                        if (lines % INDEX_INTERVAL == 0) {
+                            positions.add(lineStart);
+                        }
+                        lines++;
+                        lineStart = position;
+                    }
+                }
+            }
+
+            if (position > lineStart) {
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(lineStart);
+                }
+            }
+            size = lineStart;
+            next = base + lines;
+        }
+    }
+}
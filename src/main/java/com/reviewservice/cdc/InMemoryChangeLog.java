@@ -0,0 +1,52 @@
+package com.reviewservice.cdc;
+
+import com.reviewservice.dto.ChangeEventDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the last {@code capacity} events in a ring. Offsets start at 0 on every start of
+ * the service, so consumers holding older offsets must start over.
+ */
+public class InMemoryChangeLog implements ChangeLog {
+
+    private final ChangeEventDto[] ring;
+    private long end;
+
+    public InMemoryChangeLog(int capacity) {
+        this.ring = new ChangeEventDto[capacity];
+    }
+
+    @Override
+    public synchronized void publish(List<ChangeEventDto> batch) {
+        for (ChangeEventDto event : batch) {
+            event.setOffset(end);
+            ring[(int) (end % ring.length)] = event;
+            end++;
+        }
+    }
+
+    @Override
+    public synchronized List<ChangeEventDto> read(long offset, int limit) {
+        if (offset < startOffset() || offset > end) {
+            throw new IllegalArgumentException("Offset " + offset + " is outside " + startOffset() + ".." + end);
+        }
+        long until = Math.min(end, offset + limit);
+        List<ChangeEventDto> events = new ArrayList<>((int) (until - offset));
+        for (long i = offset; i < until; i++) {
+            events.add(ring[(int) (i % ring.length)]);
+        }
+        return events;
+    }
+
+    @Override
+    public synchronized long startOffset() {
+        return Math.max(0, end - ring.length);
+    }
+
+    @Override
+    public synchronized long endOffset() {
+        return end;
+    }
+}
@@ -0,0 +1,54 @@
+package com.reviewservice.cdc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.reviewservice.dto.ChangeEventDto;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Produces batches to a Kafka topic through the Kafka REST Proxy v2 API, which Confluent
+ * REST Proxy and Redpanda serve. Records are keyed by entity, so the changes of one
+ * entity land in one partition in order.
+ */
+public class KafkaRestChangePublisher implements ChangeEventPublisher {
+
+    static final MediaType KAFKA_JSON = MediaType.parseMediaType("application/vnd.kafka.json.v2+json");
+
+    private final RestClient restClient;
+    private final String topic;
+
+    public KafkaRestChangePublisher(RestClient restClient, String topic) {
+        this.restClient = restClient;
+        this.topic = topic;
+    }
+
+    @Override
+    public void publish(List<ChangeEventDto> batch) {
+        List<Map<String, Object>> records = batch.stream()
+            .map(event -> Map.<String, Object>of(
+                "key", event.getEntityType() + ":" + event.getEntityId(),
+                "value", event))
+            .collect(Collectors.toList());
+
+        JsonNode response = restClient.post()
+            .uri("/topics/{topic}", topic)
+            .contentType(KAFKA_JSON)
+            .body(Map.of("records", records))
+            .retrieve()
+            .body(JsonNode.class);
+
+        // The proxy answers 200 even when single records fail
+        if (response != null) {
+            for (JsonNode offset : response.path("offsets")) {
+                if (!offset.path("error_code").isMissingNode() && !offset.path("error_code").isNull()) {
+                    throw new IllegalStateException("Kafka rejected a change for topic " + topic + ": "
+                        + offset.path("error").asText());
+                }
+            }
+        }
+    }
+}
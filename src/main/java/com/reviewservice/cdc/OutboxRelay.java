@@ -0,0 +1,119 @@
+package com.reviewservice.cdc;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.dto.ChangeEventDto;
+import com.reviewservice.entity.OutboxEvent;
+import com.reviewservice.repository.OutboxEventRepository;
+import com.reviewservice.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves changes from the outbox of each shard to the publisher in batches, oldest first,
+ * and deletes them once published. Only the instance holding the {@link RelayLease} relays.
+ * A batch that fails to publish stays in the outbox and is retried on the next run, so
+ * changes are delivered at least once; consumers drop repeats by event ID. Changes of one
+ * entity keep their order, as they are all written on the entity's shard; changes of
+ * different shards interleave.
+ */
+@Component
+@ConditionalOnProperty(name = {"review.cdc.enabled", "review.cdc.relay-enabled"}, havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ShardRouter shardRouter;
+    private final RelayLease relayLease;
+    private final ChangeEventPublisher publisher;
+    private final ChangeFeed changeFeed;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OutboxRelay(
+        OutboxEventRepository outboxEventRepository,
+        ShardRouter shardRouter,
+        RelayLease relayLease,
+        ChangeEventPublisher publisher,
+        ChangeFeed changeFeed,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        @Value("${review.cdc.batch-size:500}") int batchSize
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.shardRouter = shardRouter;
+        this.relayLease = relayLease;
+        this.publisher = publisher;
+        this.changeFeed = changeFeed;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${review.cdc.relay-interval:PT0.2S}")
+    public synchronized void relay() {
+        shardRouter.forEachShard(shard -> {
+            try {
+                int published;
+                do {
+                    // Renewed per batch, so a long backlog does not outlast the lease
+                    if (!relayLease.tryAcquire()) {
+                        return;
+                    }
+                    published = relayBatch(shard);
+                } while (published == batchSize);
+            } catch (RuntimeException e) {
+                log.error("Failed to publish changes from shard {}; retrying on the next run", shard, e);
+            }
+        });
+    }
+
+    // Reads and deletes in short transactions of their own, so no connection is held while publishing
+    private int relayBatch(int shard) {
+        List<OutboxEvent> rows = transactionTemplate.execute(status ->
+            outboxEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, batchSize)));
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+
+        List<ChangeEventDto> batch = new ArrayList<>(rows.size());
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (OutboxEvent row : rows) {
+            batch.add(toDto(shard, row));
+            ids.add(row.getId());
+        }
+        publisher.publish(batch);
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.deleteAllByIdInBatch(ids));
+
+        log.debug("Published {} changes from shard {}", rows.size(), shard);
+        changeFeed.notifyAppended();
+        return rows.size();
+    }
+
+    private ChangeEventDto toDto(int shard, OutboxEvent row) {
+        try {
+            return ChangeEventDto.builder()
+                .eventId(shard + "-" + row.getId())
+                .type(row.getType())
+                .entityType(row.getEntityType())
+                .entityId(row.getEntityId())
+                .reviewId(row.getReviewId())
+                .occurredAt(row.getCreatedAt())
+                .payload(objectMapper.readTree(row.getPayload()))
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload in outbox event " + row.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.reviewservice.cdc;
+
+import com.reviewservice.entity.OutboxRelayLease;
+import com.reviewservice.repository.OutboxRelayLeaseRepository;
+import com.reviewservice.sharding.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Elects the one instance that relays the outbox. The holder renews the lease on every
+ * relay run; when it stops, another instance takes over once {@code relay-lease} has
+ * passed. Instance clocks must agree to well within that.
+ */
+@Component
+@ConditionalOnProperty(name = {"review.cdc.enabled", "review.cdc.relay-enabled"}, havingValue = "true",
+    matchIfMissing = true)
+@Slf4j
+public class RelayLease {
+
+    // All shards are relayed by one instance, so the lease lives on the first
+    private static final int LEASE_SHARD = 0;
+
+    private final OutboxRelayLeaseRepository leaseRepository;
+    private final String owner;
+    private final Duration duration;
+    private volatile LocalDateTime heldUntil;
+
+    public RelayLease(
+        OutboxRelayLeaseRepository leaseRepository,
+        @Value("${review.cdc.relay-owner:}") String owner,
+        @Value("${review.cdc.relay-lease:10s}") Duration duration
+    ) {
+        this.leaseRepository = leaseRepository;
+        this.owner = owner.isBlank() ? "relay-" + UUID.randomUUID() : owner;
+        this.duration = duration;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        ShardContext.run(LEASE_SHARD, () -> {
+            if (leaseRepository.existsById(OutboxRelayLease.ID)) {
+                return;
+            }
+            try {
+                leaseRepository.save(OutboxRelayLease.builder()
+                    .id(OutboxRelayLease.ID)
+                    .owner(owner)
+                    .expiresAt(LocalDateTime.now())
+                    .build());
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created it first
+            }
+        });
+        tryAcquire();
+    }
+
+    /**
+     * Takes or renews the lease; false while another instance holds it.
+     */
+    public boolean tryAcquire() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(duration);
+        boolean held = ShardContext.call(LEASE_SHARD, () ->
+            leaseRepository.claim(OutboxRelayLease.ID, owner, now, expiresAt)) == 1;
+
+        if (held && heldUntil == null) {
+            log.info("Relaying the outbox as {}", owner);
+        } else if (!held && heldUntil != null) {
+            log.warn("Lost the outbox relay lease; another instance relays now");
+        }
+        heldUntil = held ? expiresAt : null;
+        return held;
+    }
+
+    public boolean isHeld() {
+        LocalDateTime until = heldUntil;
+        return until != null && until.isAfter(LocalDateTime.now());
+    }
+}
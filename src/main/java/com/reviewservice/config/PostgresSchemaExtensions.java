@@ -0,0 +1,60 @@
+package com.reviewservice.config;
+
+import com.reviewservice.sharding.ShardRouter;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Applies the Postgres-only DDL in {@code db/postgres} (generated columns, GIN indexes, ...)
+ * that Hibernate's schema update cannot express. Scripts are idempotent and run in file name
+ * order after Hibernate has created the tables, on every shard; other databases skip them.
+ * Each script is sent as a single statement, so it may contain function bodies and DO blocks.
+ */
+@Component
+@Slf4j
+public class PostgresSchemaExtensions implements InitializingBean {
+
+    private static final String SCRIPTS = "classpath:db/postgres/*.sql";
+
+    private final DataSource dataSource;
+    private final ShardRouter shardRouter;
+
+    // Injected so the tables exist before the scripts alter them
+    public PostgresSchemaExtensions(
+        DataSource dataSource,
+        ShardRouter shardRouter,
+        EntityManagerFactory entityManagerFactory
+    ) {
+        this.dataSource = dataSource;
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                log.info("Skipping Postgres schema extensions");
+                return;
+            }
+        }
+
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources(SCRIPTS);
+        Arrays.sort(scripts, Comparator.comparing(Resource::getFilename));
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(scripts);
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        shardRouter.forEachShard(shard -> populator.execute(dataSource));
+        log.info("Applied {} Postgres schema extension scripts", scripts.length);
+    }
+}
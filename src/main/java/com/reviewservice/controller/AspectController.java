@@ -0,0 +1,55 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.dto.AspectCountDto;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.search.ReviewAspectIndex;
+import com.reviewservice.service.ReviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/aspects")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Review Aspects", description = "APIs for aspect chips mentioned in an entity's reviews")
+public class AspectController {
+
+    private final ReviewAspectIndex reviewAspectIndex;
+    private final ReviewService reviewService;
+
+    @GetMapping
+    @Operation(summary = "Get top aspects", description = "Most mentioned terms in an entity's reviews, with review counts")
+    public ResponseEntity<List<AspectCountDto>> getTopAspects(
+        @RequestParam @Parameter(description = "Entity type") String entityType,
+        @RequestParam @Parameter(description = "Entity ID") String entityId,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(50) @Parameter(description = "Number of aspects") int limit,
+        @RequestParam(defaultValue = "2") @Min(1) @Parameter(description = "Minimum reviews mentioning an aspect") int minCount
+    ) {
+        return ResponseEntity.ok(reviewAspectIndex.getTopAspects(entityType, entityId, limit, minCount));
+    }
+
+    @GetMapping("/reviews")
+    @Operation(summary = "Get reviews by aspect", description = "Reviews of an entity mentioning an aspect, newest first")
+    public ResponseEntity<Page<ReviewResponseDto>> getReviewsByAspect(
+        @RequestParam @Parameter(description = "Entity type") String entityType,
+        @RequestParam @Parameter(description = "Entity ID") String entityId,
+        @RequestParam @NotBlank @Parameter(description = "Aspect, e.g. battery") String aspect,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "10") @Max(100) int size
+    ) {
+        Page<Long> reviewIds = reviewAspectIndex.getReviewIds(entityType, entityId, aspect, PageRequest.of(page, size));
+        return ResponseEntity.ok(reviewService.getReviewsByIds(entityType, entityId, reviewIds));
+    }
+}
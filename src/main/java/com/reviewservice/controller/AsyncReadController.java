@@ -0,0 +1,65 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.service.AsyncReviewReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1/async")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Async Reads", description = "Review reads that hold no request thread while waiting for the database")
+public class AsyncReadController {
+
+    private final AsyncReviewReader asyncReviewReader;
+
+    @GetMapping("/reviews/{reviewId}")
+    @Operation(summary = "Get review by ID", description = "Same as GET /api/v1/reviews/{reviewId}, answered asynchronously")
+    public CompletableFuture<ReviewResponseDto> getReviewById(@PathVariable Long reviewId) {
+        return asyncReviewReader.getReviewById(reviewId);
+    }
+
+    @GetMapping("/reviews")
+    @Operation(summary = "Stream reviews by entity",
+        description = "Active reviews of an entity as application/x-ndjson, one review per line, sent in chunks as they are read")
+    public void streamReviewsByEntity(
+        @RequestParam @Parameter(description = "Entity type (e.g., PRODUCT, SERVICE)") String entityType,
+        @RequestParam @Parameter(description = "Entity ID") String entityId,
+        @RequestParam(required = false) @Parameter(description = "Minimum rating filter") Integer minRating,
+        @RequestParam(required = false) @Parameter(description = "Maximum rating filter") Integer maxRating,
+        @RequestParam(required = false) @Parameter(description = "Show only verified reviews") Boolean verifiedOnly,
+        @RequestParam(defaultValue = "createdAt") String sortBy,
+        @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+        @RequestParam(defaultValue = "1000") @Min(1) @Max(10000) @Parameter(description = "Most reviews to send") int limit,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        // Ties are broken by ID so the order is stable; reviews written meanwhile can still
+        // shift the offset chunks
+        asyncReviewReader.streamReviewsByEntity(entityType, entityId, minRating, maxRating, verifiedOnly,
+            Sort.by(direction, sortBy).and(Sort.by(direction, "id")), limit, request, response);
+    }
+
+    @GetMapping("/ratings")
+    @Operation(summary = "Get rating summary", description = "Same as GET /api/v1/ratings, answered asynchronously")
+    public CompletableFuture<RatingSummaryDto> getRatingSummary(
+        @RequestParam @Parameter(description = "Entity type") String entityType,
+        @RequestParam @Parameter(description = "Entity ID") String entityId
+    ) {
+        return asyncReviewReader.getRatingSummary(entityType, entityId);
+    }
+}
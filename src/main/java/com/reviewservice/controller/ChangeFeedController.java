@@ -0,0 +1,39 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.cdc.ChangeFeed;
+import com.reviewservice.dto.ChangeBatchDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnProperty(name = "review.cdc.enabled", havingValue = "true", matchIfMissing = true)
+@Tag(name = "Changes", description = "Stream of review, vote, response and rating summary changes")
+public class ChangeFeedController {
+
+    private final ChangeFeed changeFeed;
+
+    @GetMapping
+    @Operation(summary = "Poll changes",
+        description = "Changes from offset on, oldest first; waits up to wait seconds for new ones when there are none. "
+            + "Pass nextOffset as offset to continue")
+    public DeferredResult<ChangeBatchDto> poll(
+        @RequestParam(required = false) @Min(0) @Parameter(description = "First offset to read; oldest retained when omitted") Long offset,
+        @RequestParam(defaultValue = "100") @Min(1) @Max(1000) @Parameter(description = "Changes per batch") int limit,
+        @RequestParam(defaultValue = "30") @Min(0) @Max(60) @Parameter(description = "Seconds to wait for changes") int wait
+    ) {
+        return changeFeed.poll(offset, limit, Duration.ofSeconds(wait));
+    }
+}
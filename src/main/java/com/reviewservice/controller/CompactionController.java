@@ -0,0 +1,30 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.dto.CompactionResultDto;
+import com.reviewservice.service.ReviewCompactionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/compaction")
+@RequiredArgsConstructor
+@Tag(name = "Compaction", description = "APIs for purging deleted reviews")
+public class CompactionController {
+
+    private final ReviewCompactionService reviewCompactionService;
+
+    @PostMapping
+    @Operation(summary = "Compact deleted reviews",
+        description = "Archive reviews deleted longer than the retention period and purge their images, votes and responses")
+    public ResponseEntity<CompactionResultDto> compact() {
+        return reviewCompactionService.compact()
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+}
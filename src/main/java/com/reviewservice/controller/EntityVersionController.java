@@ -0,0 +1,41 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.dto.EntityVersionBatchRequest;
+import com.reviewservice.dto.EntityVersionDto;
+import com.reviewservice.service.EntityVersionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/versions")
+@RequiredArgsConstructor
+@Tag(name = "Entity Versions", description = "APIs for reading per-entity change versions used as cache keys")
+public class EntityVersionController {
+
+    private final EntityVersionService entityVersionService;
+
+    @GetMapping
+    @Operation(summary = "Get entity version",
+        description = "Retrieve the current version of an entity's reviews, votes and responses")
+    public ResponseEntity<EntityVersionDto> getVersion(
+        @RequestParam @Parameter(description = "Entity type") String entityType,
+        @RequestParam @Parameter(description = "Entity ID") String entityId
+    ) {
+        return ResponseEntity.ok(entityVersionService.getVersion(entityType, entityId));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get entity versions", description = "Retrieve versions for many entities of one type")
+    public ResponseEntity<List<EntityVersionDto>> getVersions(
+        @Valid @RequestBody EntityVersionBatchRequest request
+    ) {
+        return ResponseEntity.ok(entityVersionService.getVersions(request.getEntityType(), request.getEntityIds()));
+    }
+}
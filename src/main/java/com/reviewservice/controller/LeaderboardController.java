@@ -0,0 +1,45 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.dto.LeaderboardPageDto;
+import com.reviewservice.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/leaderboard")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Leaderboard", description = "APIs for top-rated entities per entity type")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping
+    @Operation(summary = "Get leaderboard",
+        description = "Entities of a type ranked by Bayesian-average rating; pass nextCursor to continue")
+    public ResponseEntity<LeaderboardPageDto> getLeaderboard(
+        @RequestParam @Parameter(description = "Entity type") String entityType,
+        @RequestParam(required = false) @Min(1) @Parameter(description = "Minimum number of reviews") Integer minReviews,
+        @RequestParam(defaultValue = "20") @Min(1) @Max(100) @Parameter(description = "Entries per page") int limit,
+        @RequestParam(required = false) @Parameter(description = "Cursor from the previous page") String cursor
+    ) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(entityType, minReviews, limit, cursor));
+    }
+
+    @PostMapping("/rescore")
+    @Operation(summary = "Rescore leaderboard",
+        description = "Recompute stored scores in the background, e.g. after changing the prior")
+    public ResponseEntity<Void> rescore() {
+        return leaderboardService.startRescore()
+            ? ResponseEntity.status(HttpStatus.ACCEPTED).build()
+            : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.dto.ModerationDecisionRequest;
+import com.reviewservice.dto.ModerationQueuePageDto;
+import com.reviewservice.dto.ModerationResultDto;
+import com.reviewservice.entity.ModerationStatus;
+import com.reviewservice.service.ModerationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/moderation")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Moderation", description = "APIs for the review moderation queue")
+public class ModerationController {
+
+    private final ModerationService moderationService;
+
+    @GetMapping("/queue")
+    @Operation(summary = "Get moderation queue",
+        description = "Reviews in a moderation state, oldest first; pass nextAfterId as afterId to continue")
+    public ResponseEntity<ModerationQueuePageDto> getQueue(
+        @RequestParam(defaultValue = "PENDING") @Parameter(description = "Moderation state") ModerationStatus status,
+        @RequestParam(required = false) @Parameter(description = "Last review ID of the previous page") Long afterId,
+        @RequestParam(defaultValue = "50") @Min(1) @Max(500) @Parameter(description = "Reviews per page") int limit
+    ) {
+        return ResponseEntity.ok(moderationService.getQueue(status, afterId, limit));
+    }
+
+    @PostMapping("/flag")
+    @Operation(summary = "Flag reviews", description = "Put active reviews not yet moderated in the queue as pending")
+    public ResponseEntity<ModerationResultDto> flag(@Valid @RequestBody ModerationDecisionRequest request) {
+        return ResponseEntity.ok(moderationService.flag(request));
+    }
+
+    @PostMapping("/approve")
+    @Operation(summary = "Approve reviews", description = "Approve up to 1000 pending reviews")
+    public ResponseEntity<ModerationResultDto> approve(@Valid @RequestBody ModerationDecisionRequest request) {
+        return ResponseEntity.ok(moderationService.approve(request));
+    }
+
+    @PostMapping("/reject")
+    @Operation(summary = "Reject reviews",
+        description = "Reject up to 1000 pending or approved reviews; they are removed and their rating summaries recomputed")
+    public ResponseEntity<ModerationResultDto> reject(@Valid @RequestBody ModerationDecisionRequest request) {
+        return ResponseEntity.ok(moderationService.reject(request));
+    }
+}
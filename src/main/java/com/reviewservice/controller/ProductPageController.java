@@ -0,0 +1,50 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.dto.ProductPageDto;
+import com.reviewservice.entity.EntityVersion;
+import com.reviewservice.service.EntityVersionService;
+import com.reviewservice.service.ReviewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/v1/product-page")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Product Page", description = "Aggregate API for rendering an entity's review section")
+public class ProductPageController {
+
+    private final ReviewService reviewService;
+    private final EntityVersionService entityVersionService;
+
+    @GetMapping
+    @Operation(summary = "Get product page",
+        description = "Retrieve rating summary, first page of reviews and most helpful reviews in one call")
+    public ResponseEntity<ProductPageDto> getProductPage(
+        @RequestParam @Parameter(description = "Entity type") String entityType,
+        @RequestParam @Parameter(description = "Entity ID") String entityId,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(100) @Parameter(description = "Reviews on the first page") int size,
+        @RequestParam(defaultValue = "3") @Min(0) @Max(20) @Parameter(description = "Number of most helpful reviews") int topHelpful,
+        WebRequest webRequest
+    ) {
+        EntityVersion version = entityVersionService.findVersion(entityType, entityId).orElse(null);
+        if (version != null && webRequest.checkNotModified(version.toEtag(), version.lastModifiedMillis())) {
+            return null;
+        }
+
+        ProductPageDto productPage = reviewService.getProductPage(entityType, entityId, size, topHelpful);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePublic())
+            .header(EntityVersion.VERSION_HEADER, version != null ? version.getVersion().toString() : "0")
+            .body(productPage);
+    }
+}
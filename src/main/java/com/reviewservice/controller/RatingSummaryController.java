@@ -1,13 +1,31 @@
 package com.reviewservice.controller;
 
 import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.dto.RatingTrendPointDto;
+import com.reviewservice.dto.RatingWindowDto;
+import com.reviewservice.entity.EntityVersion;
+import com.reviewservice.live.RatingSummaryStream;
+import com.reviewservice.service.EntityVersionService;
+import com.reviewservice.service.RatingBucketBackfill;
 import com.reviewservice.service.RatingSummaryService;
+import com.reviewservice.service.RatingTrendService;
+import com.reviewservice.service.TrendInterval;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/ratings")
@@ -16,15 +34,44 @@ import org.springframework.web.bind.annotation.*;
 public class RatingSummaryController {
 
     private final RatingSummaryService ratingSummaryService;
+    private final EntityVersionService entityVersionService;
+    private final RatingTrendService ratingTrendService;
+    private final RatingBucketBackfill ratingBucketBackfill;
+    private final RatingSummaryStream ratingSummaryStream;
 
     @GetMapping
     @Operation(summary = "Get rating summary", description = "Retrieve rating summary for an entity")
     public ResponseEntity<RatingSummaryDto> getRatingSummary(
         @RequestParam @Parameter(description = "Entity type") String entityType,
-        @RequestParam @Parameter(description = "Entity ID") String entityId
+        @RequestParam @Parameter(description = "Entity ID") String entityId,
+        WebRequest webRequest
     ) {
+        EntityVersion version = entityVersionService.findVersion(entityType, entityId).orElse(null);
+        if (version != null && webRequest.checkNotModified(version.toEtag(), version.lastModifiedMillis())) {
+            return null;
+        }
+
         RatingSummaryDto summary = ratingSummaryService.getRatingSummary(entityType, entityId);
-        return ResponseEntity.ok(summary);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePublic())
+            .header(EntityVersion.VERSION_HEADER, version != null ? version.getVersion().toString() : "0")
+            .body(summary);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream rating summary",
+        description = "Server-sent events: the current summary as a summary event, then the changed fields of each "
+            + "update as delta events. Updates in a burst are sent once; a client that falls behind gets the latest "
+            + "full summary")
+    public ResponseEntity<SseEmitter> streamRatingSummary(
+        @RequestParam @Parameter(description = "Entity type") String entityType,
+        @RequestParam @Parameter(description = "Entity ID") String entityId
+    ) {
+        return ratingSummaryStream.subscribe(entityType, entityId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build());
     }
 
     @PostMapping("/refresh")
@@ -33,7 +80,48 @@ public class RatingSummaryController {
         @RequestParam @Parameter(description = "Entity type") String entityType,
         @RequestParam @Parameter(description = "Entity ID") String entityId
     ) {
-        ratingSummaryService.updateRatingSummary(entityType, entityId);
+        ratingSummaryService.refreshRatingSummary(entityType, entityId);
         return ResponseEntity.ok().build();
     }
+
+    @GetMapping("/window")
+    @Operation(summary = "Get rating window",
+        description = "Aggregate ratings of reviews created between two dates (inclusive), last 30 days by default")
+    public ResponseEntity<RatingWindowDto> getRatingWindow(
+        @RequestParam @Parameter(description = "Entity type") String entityType,
+        @RequestParam @Parameter(description = "Entity ID") String entityId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Parameter(description = "First day, ISO date") LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Parameter(description = "Last day, ISO date") LocalDate to
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(ratingTrendService.getWindow(entityType, entityId, start, end));
+    }
+
+    @GetMapping("/trend")
+    @Operation(summary = "Get rating trend",
+        description = "Review count and average rating per day, week or month between two dates (inclusive)")
+    public ResponseEntity<List<RatingTrendPointDto>> getRatingTrend(
+        @RequestParam @Parameter(description = "Entity type") String entityType,
+        @RequestParam @Parameter(description = "Entity ID") String entityId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Parameter(description = "First day, ISO date") LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Parameter(description = "Last day, ISO date") LocalDate to,
+        @RequestParam(defaultValue = "DAY") @Parameter(description = "DAY, WEEK or MONTH") TrendInterval interval
+    ) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok(ratingTrendService.getTrend(entityType, entityId, from, end, interval));
+    }
+
+    @PostMapping("/buckets/backfill")
+    @Operation(summary = "Backfill rating buckets",
+        description = "Rebuild daily rating buckets from existing reviews in the background")
+    public ResponseEntity<Void> backfillRatingBuckets() {
+        return ratingBucketBackfill.start()
+            ? ResponseEntity.status(HttpStatus.ACCEPTED).build()
+            : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
 }
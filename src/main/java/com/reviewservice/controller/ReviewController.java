@@ -1,35 +1,54 @@
 package com.reviewservice.controller;
 
 import com.reviewservice.dto.*;
+import com.reviewservice.entity.EntityVersion;
+import com.reviewservice.ratelimit.RateLimited;
+import com.reviewservice.service.EntityVersionService;
+import com.reviewservice.service.ReviewPageCache;
+import com.reviewservice.service.ReviewPageKey;
 import com.reviewservice.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/reviews")
 @RequiredArgsConstructor
+@Validated
 @Tag(name = "Review Management", description = "APIs for managing reviews and ratings")
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final EntityVersionService entityVersionService;
+    private final ReviewPageCache reviewPageCache;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RateLimited(value = "create-review", user = "#request.userId",
+        entity = "#request.entityType + ':' + #request.entityId")
     @Operation(summary = "Create a new review", description = "Submit a review for a product or service with optional images")
     public ResponseEntity<ReviewResponseDto> createReview(
         @Valid @ModelAttribute ReviewRequest request,
@@ -40,6 +59,7 @@ public class ReviewController {
     }
 
     @PutMapping(value = "/{reviewId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RateLimited(value = "update-review", user = "#userId", entity = "@reviewEntityKeys.of(#reviewId)")
     @Operation(summary = "Update a review", description = "Update an existing review with optional new images")
     public ResponseEntity<ReviewResponseDto> updateReview(
         @PathVariable Long reviewId,
@@ -52,6 +72,7 @@ public class ReviewController {
     }
 
     @DeleteMapping("/{reviewId}")
+    @RateLimited(value = "delete-review", user = "#userId")
     @Operation(summary = "Delete a review", description = "Delete a review by ID")
     public ResponseEntity<Void> deleteReview(
         @PathVariable Long reviewId,
@@ -68,41 +89,86 @@ public class ReviewController {
         return ResponseEntity.ok(response);
     }
 
-    @GetMapping
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get reviews by entity", description = "Retrieve reviews for a specific entity with filters")
-    public ResponseEntity<Page<ReviewResponseDto>> getReviewsByEntity(
+    @ApiResponse(responseCode = "200", description = "A page of reviews",
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ReviewPage.class)))
+    public ResponseEntity<byte[]> getReviewsByEntity(
         @RequestParam @Parameter(description = "Entity type (e.g., PRODUCT, SERVICE)") String entityType,
         @RequestParam @Parameter(description = "Entity ID") String entityId,
         @RequestParam(required = false) @Parameter(description = "Minimum rating filter") Integer minRating,
         @RequestParam(required = false) @Parameter(description = "Maximum rating filter") Integer maxRating,
         @RequestParam(required = false) @Parameter(description = "Show only verified reviews") Boolean verifiedOnly,
-        @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "0") @Min(0) int page,
+        // Bounded before the page cache is reached, so one request cannot fill it
+        @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
         @RequestParam(defaultValue = "createdAt") String sortBy,
-        @RequestParam(defaultValue = "DESC") Sort.Direction direction
+        @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+        @RequestParam(required = false) @Parameter(description = "User whose helpfulness votes to include") String viewerId,
+        @RequestParam(defaultValue = "false") @Parameter(description = "Include each review's latest response") boolean includeResponses,
+        WebRequest webRequest
     ) {
+        EntityVersion version = entityVersionService.findVersion(entityType, entityId).orElse(null);
+        if (version != null && webRequest.checkNotModified(version.toEtag(), version.lastModifiedMillis())) {
+            return null;
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        Page<ReviewResponseDto> reviews = reviewService.getReviewsByEntity(
-            entityType, entityId, minRating, maxRating, verifiedOnly, pageable
-        );
-        return ResponseEntity.ok(reviews);
+        Supplier<Page<ReviewResponseDto>> loader = () -> {
+            Page<ReviewResponseDto> reviews = reviewService.getReviewsByEntity(
+                entityType, entityId, minRating, maxRating, verifiedOnly, pageable
+            );
+            if (includeResponses) {
+                reviewService.applyLatestResponses(reviews.getContent());
+            }
+            return reviews;
+        };
+
+        byte[] body;
+        if (viewerId != null) {
+            // Viewer votes differ per user, so these pages bypass the shared page cache
+            Page<ReviewResponseDto> reviews = loader.get();
+            reviewService.applyViewerVotes(reviews.getContent(), viewerId);
+            body = reviewPageCache.render(reviews);
+        } else if (version != null && reviewPageCache.isCacheable(page)) {
+            ReviewPageKey key = new ReviewPageKey(entityType, entityId, version.getVersion(),
+                minRating, maxRating, verifiedOnly, page, size, sortBy, direction, includeResponses);
+            body = reviewPageCache.getOrRender(key, loader);
+        } else {
+            body = reviewPageCache.render(loader.get());
+        }
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(viewerId != null ? CacheControl.noCache().cachePrivate() : CacheControl.noCache().cachePublic())
+            .header(EntityVersion.VERSION_HEADER, version != null ? version.getVersion().toString() : "0")
+            .body(body);
     }
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "Get reviews by user", description = "Retrieve all reviews submitted by a user")
     public ResponseEntity<Page<ReviewResponseDto>> getReviewsByUser(
         @PathVariable String userId,
-        @RequestParam(defaultValue = "0") int page,
-        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "0") @Min(0) int page,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
         @RequestParam(defaultValue = "createdAt") String sortBy,
-        @RequestParam(defaultValue = "DESC") Sort.Direction direction
+        @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+        @RequestParam(required = false) @Parameter(description = "User whose helpfulness votes to include") String viewerId,
+        @RequestParam(defaultValue = "false") @Parameter(description = "Include each review's latest response") boolean includeResponses
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
         Page<ReviewResponseDto> reviews = reviewService.getReviewsByUser(userId, pageable);
+        if (includeResponses) {
+            reviewService.applyLatestResponses(reviews.getContent());
+        }
+        if (viewerId != null) {
+            reviewService.applyViewerVotes(reviews.getContent(), viewerId);
+        }
         return ResponseEntity.ok(reviews);
     }
 
     @PostMapping("/{reviewId}/helpfulness")
+    @RateLimited(value = "helpfulness", user = "#request.userId", entity = "@reviewEntityKeys.of(#reviewId)")
     @Operation(summary = "Mark review helpfulness", description = "Mark a review as helpful or unhelpful")
     public ResponseEntity<Void> markHelpfulness(
         @PathVariable Long reviewId,
@@ -113,6 +179,7 @@ public class ReviewController {
     }
 
     @PostMapping("/{reviewId}/responses")
+    @RateLimited(value = "responses", user = "#request.responderId", entity = "@reviewEntityKeys.of(#reviewId)")
     @Operation(summary = "Add response to review", description = "Add a response to a review (vendor/admin)")
     public ResponseEntity<ReviewResponseDetailDto> addResponse(
         @PathVariable Long reviewId,
@@ -121,4 +188,9 @@ public class ReviewController {
         ReviewResponseDetailDto response = reviewService.addResponse(reviewId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    // Documents the listing, whose body is pre-rendered JSON of a page of reviews
+    @Schema(name = "ReviewPage")
+    interface ReviewPage extends Page<ReviewResponseDto> {
+    }
 }
@@ -0,0 +1,52 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.dto.ReviewSearchResultDto;
+import com.reviewservice.search.ReviewSearchEngine;
+import com.reviewservice.search.ReviewSearchQuery;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/reviews/search")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Review Search", description = "APIs for keyword search over review titles and comments")
+public class ReviewSearchController {
+
+    private final ReviewSearchEngine reviewSearchEngine;
+
+    @GetMapping
+    @Operation(summary = "Search reviews",
+        description = "Full-text search with \"quoted phrases\", rating/verified filters and highlighted matches")
+    public ResponseEntity<Page<ReviewSearchResultDto>> searchReviews(
+        @RequestParam @NotBlank @Parameter(description = "Search text") String q,
+        @RequestParam(required = false) @Parameter(description = "Entity type") String entityType,
+        @RequestParam(required = false) @Parameter(description = "Entity ID") String entityId,
+        @RequestParam(required = false) @Parameter(description = "Minimum rating filter") Integer minRating,
+        @RequestParam(required = false) @Parameter(description = "Maximum rating filter") Integer maxRating,
+        @RequestParam(required = false) @Parameter(description = "Show only verified reviews") Boolean verifiedOnly,
+        @RequestParam(defaultValue = "0") @Min(0) int page,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size
+    ) {
+        ReviewSearchQuery query = ReviewSearchQuery.builder()
+            .text(q)
+            .entityType(entityType)
+            .entityId(entityId)
+            .minRating(minRating)
+            .maxRating(maxRating)
+            .verifiedOnly(verifiedOnly)
+            .build();
+
+        return ResponseEntity.ok(reviewSearchEngine.search(query, PageRequest.of(page, size)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AspectCountDto {
+
+    private String aspect;
+    private Integer count;
+}
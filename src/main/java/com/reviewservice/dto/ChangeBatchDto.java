@@ -0,0 +1,20 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeBatchDto {
+
+    private List<ChangeEventDto> events;
+
+    // Pass as offset to resume after this batch
+    private long nextOffset;
+}
@@ -0,0 +1,30 @@
+package com.reviewservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.reviewservice.entity.ChangeEventType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeEventDto {
+
+    // Position in the change log; null until the event is appended to one
+    private Long offset;
+
+    // Stable across redelivery: "<shard>-<outbox ID>"
+    private String eventId;
+
+    private ChangeEventType type;
+    private String entityType;
+    private String entityId;
+    private Long reviewId;
+    private LocalDateTime occurredAt;
+    private JsonNode payload;
+}
@@ -0,0 +1,20 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompactionResultDto {
+
+    private long reviewsArchived;
+    private long imagesDeleted;
+    private long votesDeleted;
+    private long responsesDeleted;
+    private long bytesReclaimed;
+    private int batches;
+}
@@ -0,0 +1,25 @@
+package com.reviewservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EntityVersionBatchRequest {
+
+    @NotBlank(message = "Entity type is required")
+    private String entityType;
+
+    @NotEmpty(message = "At least one entity ID is required")
+    @Size(max = 500, message = "At most 500 entity IDs per request")
+    private List<String> entityIds;
+}
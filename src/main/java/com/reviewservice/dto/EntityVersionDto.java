@@ -0,0 +1,20 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EntityVersionDto {
+
+    private String entityType;
+    private String entityId;
+    private Long version;
+    private LocalDateTime updatedAt;
+}
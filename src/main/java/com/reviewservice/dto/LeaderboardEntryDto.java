@@ -0,0 +1,19 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntryDto {
+
+    private String entityType;
+    private String entityId;
+    private Double averageRating;
+    private Integer totalReviews;
+    private Double bayesianScore;
+}
@@ -0,0 +1,20 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardPageDto {
+
+    private List<LeaderboardEntryDto> entries;
+
+    // Opaque keyset cursor for the next page; null on the last page
+    private String nextCursor;
+}
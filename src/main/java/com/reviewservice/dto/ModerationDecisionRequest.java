@@ -0,0 +1,28 @@
+package com.reviewservice.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ModerationDecisionRequest {
+
+    @NotEmpty(message = "At least one review ID is required")
+    @Size(max = 1000, message = "At most 1000 review IDs per request")
+    private List<Long> reviewIds;
+
+    @NotBlank(message = "Moderator ID is required")
+    private String moderatorId;
+
+    @Size(max = 500, message = "Note must not exceed 500 characters")
+    private String note;
+}
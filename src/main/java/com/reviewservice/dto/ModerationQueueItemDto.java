@@ -0,0 +1,28 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ModerationQueueItemDto {
+
+    private Long reviewId;
+    private String entityType;
+    private String entityId;
+    private String userId;
+    private Integer rating;
+    private String title;
+    private String comment;
+    private String moderationStatus;
+    private String moderatorId;
+    private String moderationNote;
+    private LocalDateTime moderatedAt;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ModerationQueuePageDto {
+
+    private List<ModerationQueueItemDto> items;
+
+    // Pass as afterId for the next page; null on the last page
+    private Long nextAfterId;
+}
@@ -0,0 +1,19 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ModerationResultDto {
+
+    private int requested;
+
+    // Reviews not in a state the action applies to are skipped
+    private int updated;
+    private int summariesRecomputed;
+}
@@ -18,6 +18,7 @@ public class RatingSummaryDto {
     private String entityId;
     private Double averageRating;
     private Integer totalReviews;
+    private Double bayesianScore;
     private Map<Integer, Integer> ratingDistribution;
     private LocalDateTime updatedAt;
 }
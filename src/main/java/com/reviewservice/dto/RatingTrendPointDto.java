@@ -0,0 +1,19 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingTrendPointDto {
+
+    private LocalDate periodStart;
+    private Double averageRating;
+    private Integer totalReviews;
+}
@@ -0,0 +1,24 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingWindowDto {
+
+    private String entityType;
+    private String entityId;
+    private LocalDate from;
+    private LocalDate to;
+    private Double averageRating;
+    private Integer totalReviews;
+    private Map<Integer, Integer> ratingDistribution;
+}
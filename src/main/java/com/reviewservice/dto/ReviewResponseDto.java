@@ -1,5 +1,6 @@
 package com.reviewservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,9 +25,27 @@ public class ReviewResponseDto {
     private Boolean verified;
     private Integer helpfulCount;
     private Integer unhelpfulCount;
+    private Integer responseCount;
     private List<ImageMetadataDto> images;
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<ReviewResponseDetailDto> responses;
+
+    // Listings set this when asked to include responses
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ReviewResponseDetailDto latestResponse;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private RatingSummaryDto ratingSummary;
+
+    // HELPFUL, UNHELPFUL or NONE for the viewerId passed to a listing; absent otherwise
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String viewerVote;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean degraded;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> degradedParts;
 }
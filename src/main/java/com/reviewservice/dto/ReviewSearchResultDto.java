@@ -0,0 +1,28 @@
+package com.reviewservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewSearchResultDto {
+
+    private Long id;
+    private String entityType;
+    private String entityId;
+    private String userId;
+    private Integer rating;
+    private String title;
+    private String comment;
+    private Boolean verified;
+    private LocalDateTime createdAt;
+    private Double score;
+    private String titleHighlight;
+    private String commentHighlight;
+}
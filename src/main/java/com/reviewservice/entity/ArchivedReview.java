@@ -0,0 +1,63 @@
+package com.reviewservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A deleted review moved out of {@code reviews} by compaction. Keeps the review's own
+ * columns for audit; images, votes and responses are not archived.
+ */
+@Entity
+@Table(name = "reviews_archive", indexes = {
+    @Index(name = "idx_archive_entity_type_id", columnList = "entityType,entityId"),
+    @Index(name = "idx_archive_user_id", columnList = "userId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedReview {
+
+    @Id
+    private Long id;
+
+    @Convert(converter = EntityTypeConverter.class)
+    @Column(nullable = false)
+    private String entityType;
+
+    @Column(nullable = false)
+    private String entityId;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private Integer rating;
+
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 2000)
+    private String comment;
+
+    @Column(nullable = false)
+    private Boolean verified;
+
+    @Column(nullable = false)
+    private Integer helpfulCount;
+
+    @Column(nullable = false)
+    private Integer unhelpfulCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
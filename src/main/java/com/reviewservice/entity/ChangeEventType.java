@@ -0,0 +1,10 @@
+package com.reviewservice.entity;
+
+public enum ChangeEventType {
+    REVIEW_CREATED,
+    REVIEW_UPDATED,
+    REVIEW_DELETED,
+    VOTE_CHANGED,
+    RESPONSE_ADDED,
+    SUMMARY_CHANGED
+}
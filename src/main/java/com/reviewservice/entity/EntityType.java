@@ -0,0 +1,25 @@
+package com.reviewservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Lookup table for entity type names. Reviews and rating summaries store the small id
+ * instead of repeating the name in every row and index entry. Ids are assigned per
+ * database by {@code EntityTypeRegistry}, so each shard has its own numbering.
+ */
+@Entity
+@Table(name = "entity_types")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EntityType {
+
+    @Id
+    private Short id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
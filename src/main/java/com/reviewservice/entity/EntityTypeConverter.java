@@ -0,0 +1,29 @@
+package com.reviewservice.entity;
+
+import com.reviewservice.service.EntityTypeRegistry;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps entity type names to their {@code entity_types} id. Created by Hibernate through
+ * the Spring bean container, which supplies the registry.
+ */
+@Converter
+public class EntityTypeConverter implements AttributeConverter<String, Short> {
+
+    private final EntityTypeRegistry registry;
+
+    public EntityTypeConverter(EntityTypeRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(String name) {
+        return name != null ? registry.idOf(name) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short id) {
+        return id != null ? registry.nameOf(id) : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.reviewservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Entity
+@Table(name = "entity_versions",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"entityType", "entityId"}),
+    indexes = @Index(name = "idx_entity_versions_updated_at_id", columnList = "updatedAt,id")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EntityVersion {
+
+    public static final String VERSION_HEADER = "X-Entity-Version";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String entityType;
+
+    @Column(nullable = false)
+    private String entityId;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long version = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public String toEtag() {
+        return "W/\"" + version + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
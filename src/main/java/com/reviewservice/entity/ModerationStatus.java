@@ -0,0 +1,31 @@
+package com.reviewservice.entity;
+
+/**
+ * Where a review stands in the moderation queue; null until it is flagged. Stored as a
+ * fixed smallint code like {@link ReviewStatus}.
+ */
+public enum ModerationStatus {
+
+    PENDING((short) 0),
+    APPROVED((short) 1),
+    REJECTED((short) 2);
+
+    private final short code;
+
+    ModerationStatus(short code) {
+        this.code = code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static ModerationStatus fromCode(short code) {
+        for (ModerationStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown moderation status code: " + code);
+    }
+}
@@ -0,0 +1,18 @@
+package com.reviewservice.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class ModerationStatusConverter implements AttributeConverter<ModerationStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(ModerationStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public ModerationStatus convertToEntityAttribute(Short code) {
+        return code != null ? ModerationStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.reviewservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change written in the same transaction as the write it describes, waiting for the
+ * outbox relay to publish it. Rows are deleted once published.
+ */
+@Entity
+@Table(name = "review_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ChangeEventType type;
+
+    @Column(nullable = false)
+    private String entityType;
+
+    @Column(nullable = false)
+    private String entityId;
+
+    @Column
+    private Long reviewId;
+
+    // JSON of the application event the change was recorded from
+    @Column(nullable = false, length = 8000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
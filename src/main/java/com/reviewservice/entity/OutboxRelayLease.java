@@ -0,0 +1,31 @@
+package com.reviewservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The single row naming the instance that relays the outbox, until {@code expiresAt}
+ * unless it renews. Kept on the first shard for all of them.
+ */
+@Entity
+@Table(name = "review_outbox_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxRelayLease {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,72 @@
+package com.reviewservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "rating_daily_buckets",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"entityType", "entityId", "bucketDate"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RatingDailyBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String entityType;
+
+    @Column(nullable = false)
+    private String entityId;
+
+    @Column(nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long ratingSum = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer fiveStarCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer fourStarCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer threeStarCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer twoStarCount = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer oneStarCount = 0;
+
+    public void add(int rating, int delta) {
+        reviewCount += delta;
+        ratingSum += (long) rating * delta;
+        switch (rating) {
+            case 5 -> fiveStarCount += delta;
+            case 4 -> fourStarCount += delta;
+            case 3 -> threeStarCount += delta;
+            case 2 -> twoStarCount += delta;
+            case 1 -> oneStarCount += delta;
+            default -> throw new IllegalArgumentException("Rating out of range: " + rating);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.reviewservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
@@ -10,7 +11,8 @@ import java.time.LocalDateTime;
     uniqueConstraints = @UniqueConstraint(columnNames = {"entityType", "entityId"}),
     indexes = {
         @Index(name = "idx_entity_summary", columnList = "entityType,entityId"),
-        @Index(name = "idx_avg_rating", columnList = "averageRating")
+        @Index(name = "idx_avg_rating", columnList = "averageRating"),
+        @Index(name = "idx_type_bayesian_score", columnList = "entityType,bayesianScore,id")
     }
 )
 @Getter
@@ -24,6 +26,7 @@ public class RatingSummary {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Convert(converter = EntityTypeConverter.class)
     @Column(nullable = false)
     private String entityType;
 
@@ -38,6 +41,12 @@ public class RatingSummary {
     @Builder.Default
     private Integer totalReviews = 0;
 
+    // Average shrunk towards a prior, so a single 5-star review does not top the leaderboard
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Double bayesianScore = 0.0;
+
     @Column(nullable = false)
     @Builder.Default
     private Integer fiveStarCount = 0;
@@ -58,6 +67,10 @@ public class RatingSummary {
     @Builder.Default
     private Integer oneStarCount = 0;
 
+    public long ratingSum() {
+        return 5L * fiveStarCount + 4L * fourStarCount + 3L * threeStarCount + 2L * twoStarCount + oneStarCount;
+    }
+
     @UpdateTimestamp
     @Column(nullable = false)
     private LocalDateTime updatedAt;
@@ -2,16 +2,20 @@ package com.reviewservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews", indexes = {
+@Table(name = "reviews", uniqueConstraints = {
+    @UniqueConstraint(name = Review.UNIQUE_AUTHOR, columnNames = {"entityType", "entityId", "userId"})
+}, indexes = {
     @Index(name = "idx_entity_type_id", columnList = "entityType,entityId"),
     @Index(name = "idx_user_id", columnList = "userId"),
     @Index(name = "idx_rating", columnList = "rating"),
-    @Index(name = "idx_created_at", columnList = "createdAt")
+    @Index(name = "idx_created_at", columnList = "createdAt"),
+    @Index(name = "idx_moderation_status_id", columnList = "moderationStatus,id")
 })
 @Getter
 @Setter
@@ -20,10 +24,14 @@ import java.time.LocalDateTime;
 @Builder
 public class Review {
 
+    // One review per user and entity; createReview reports a violation as a duplicate
+    public static final String UNIQUE_AUTHOR = "uk_review_entity_user";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Convert(converter = EntityTypeConverter.class)
     @Column(nullable = false)
     private String entityType;
 
@@ -54,9 +62,16 @@ public class Review {
     @Builder.Default
     private Integer unhelpfulCount = 0;
 
+    // Denormalized count of review_responses rows, kept by addResponse in SQL; not updatable, so
+    // saving a review loaded before a response was added does not write back the old count
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer responseCount = 0;
+
     @Column(nullable = false)
     @Builder.Default
-    private String status = "ACTIVE";
+    private ReviewStatus status = ReviewStatus.ACTIVE;
 
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
@@ -66,6 +81,9 @@ public class Review {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Column
+    private ModerationStatus moderationStatus;
+
     @Column
     private LocalDateTime moderatedAt;
 
@@ -7,7 +7,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "review_helpfulness",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"reviewId", "userId"}),
+    // The review's creation time is part of the key so the constraint also holds on a table partitioned by it
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_review_helpfulness_vote",
+        columnNames = {"reviewId", "userId", "reviewCreatedAt"}
+    ),
     indexes = {
         @Index(name = "idx_review_id", columnList = "reviewId"),
         @Index(name = "idx_user_id_helpfulness", columnList = "userId")
@@ -30,6 +34,10 @@ public class ReviewHelpfulness {
     @Column(nullable = false)
     private String userId;
 
+    // Copied from the review; review_helpfulness is partitioned by it when partitioning is enabled
+    @Column(nullable = false)
+    private LocalDateTime reviewCreatedAt;
+
     @Column(nullable = false)
     private Boolean helpful;
 
@@ -0,0 +1,30 @@
+package com.reviewservice.entity;
+
+/**
+ * Stored as a fixed smallint code rather than the ordinal, so reordering or adding
+ * constants never changes what existing rows mean.
+ */
+public enum ReviewStatus {
+
+    ACTIVE((short) 0),
+    DELETED((short) 1);
+
+    private final short code;
+
+    ReviewStatus(short code) {
+        this.code = code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static ReviewStatus fromCode(short code) {
+        for (ReviewStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown review status code: " + code);
+    }
+}
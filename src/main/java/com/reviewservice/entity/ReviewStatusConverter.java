@@ -0,0 +1,18 @@
+package com.reviewservice.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class ReviewStatusConverter implements AttributeConverter<ReviewStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(ReviewStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public ReviewStatus convertToEntityAttribute(Short code) {
+        return code != null ? ReviewStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.reviewservice.event;
+
+import com.reviewservice.entity.RatingSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RatingSummaryChangedEvent {
+
+    private final Long summaryId;
+    private final String entityType;
+    private final String entityId;
+    private final Double averageRating;
+    private final Integer totalReviews;
+    private final Double bayesianScore;
+
+    public static RatingSummaryChangedEvent of(RatingSummary summary) {
+        return new RatingSummaryChangedEvent(
+            summary.getId(),
+            summary.getEntityType(),
+            summary.getEntityId(),
+            summary.getAverageRating(),
+            summary.getTotalReviews(),
+            summary.getBayesianScore()
+        );
+    }
+}
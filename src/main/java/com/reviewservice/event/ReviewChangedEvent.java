@@ -0,0 +1,75 @@
+package com.reviewservice.event;
+
+import com.reviewservice.entity.Review;
+import com.reviewservice.repository.ReviewListRow;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long reviewId;
+    private final String entityType;
+    private final String entityId;
+    private final String userId;
+    private final Integer rating;
+    private final Integer previousRating;
+    private final String title;
+    private final String comment;
+    private final Boolean verified;
+    private final LocalDateTime createdAt;
+
+    public static ReviewChangedEvent created(Review review) {
+        return of(Type.CREATED, review, null);
+    }
+
+    public static ReviewChangedEvent updated(Review review, Integer previousRating) {
+        return of(Type.UPDATED, review, previousRating);
+    }
+
+    public static ReviewChangedEvent deleted(Review review) {
+        return of(Type.DELETED, review, review.getRating());
+    }
+
+    public static ReviewChangedEvent deleted(ReviewListRow row) {
+        return new ReviewChangedEvent(
+            Type.DELETED,
+            row.getId(),
+            row.getEntityType(),
+            row.getEntityId(),
+            row.getUserId(),
+            row.getRating(),
+            row.getRating(),
+            row.getTitle(),
+            row.getComment(),
+            row.getVerified(),
+            row.getCreatedAt()
+        );
+    }
+
+    private static ReviewChangedEvent of(Type type, Review review, Integer previousRating) {
+        return new ReviewChangedEvent(
+            type,
+            review.getId(),
+            review.getEntityType(),
+            review.getEntityId(),
+            review.getUserId(),
+            review.getRating(),
+            previousRating,
+            review.getTitle(),
+            review.getComment(),
+            review.getVerified(),
+            review.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.reviewservice.event;
+
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class ReviewResponseAddedEvent {
+
+    private final Long responseId;
+    private final Long reviewId;
+    private final String entityType;
+    private final String entityId;
+    private final String responderId;
+    private final String responderType;
+    private final String response;
+    private final LocalDateTime createdAt;
+
+    public static ReviewResponseAddedEvent of(Review review, ReviewResponse response) {
+        return new ReviewResponseAddedEvent(
+            response.getId(),
+            review.getId(),
+            review.getEntityType(),
+            review.getEntityId(),
+            response.getResponderId(),
+            response.getResponderType(),
+            response.getResponse(),
+            response.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.reviewservice.event;
+
+import com.reviewservice.entity.Review;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReviewVoteChangedEvent {
+
+    private final Long reviewId;
+    private final String entityType;
+    private final String entityId;
+    private final String userId;
+    private final Boolean helpful;
+    // Null when the user had not voted on the review before
+    private final Boolean previousHelpful;
+    private final Integer helpfulCount;
+    private final Integer unhelpfulCount;
+
+    public static ReviewVoteChangedEvent of(Review review, String userId, Boolean helpful, Boolean previousHelpful) {
+        return new ReviewVoteChangedEvent(
+            review.getId(),
+            review.getEntityType(),
+            review.getEntityId(),
+            userId,
+            helpful,
+            previousHelpful,
+            review.getHelpfulCount(),
+            review.getUnhelpfulCount()
+        );
+    }
+}
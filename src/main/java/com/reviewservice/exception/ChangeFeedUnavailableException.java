@@ -0,0 +1,7 @@
+package com.reviewservice.exception;
+
+public class ChangeFeedUnavailableException extends RuntimeException {
+    public ChangeFeedUnavailableException(String message) {
+        super(message);
+    }
+}
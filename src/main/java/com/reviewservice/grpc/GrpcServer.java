@@ -0,0 +1,92 @@
+package com.reviewservice.grpc;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves {@link ReviewGrpcService} on its own port, next to the REST API. It starts once
+ * the context is ready and stops before the services it calls, letting calls in flight
+ * finish within {@code shutdown-grace}.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "review.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServer implements SmartLifecycle {
+
+    private final ReviewGrpcService reviewGrpcService;
+    private final int port;
+    private final int threads;
+    private final Duration shutdownGrace;
+    private ExecutorService executor;
+    private Server server;
+
+    public GrpcServer(
+        ReviewGrpcService reviewGrpcService,
+        @Value("${review.grpc.port:9090}") int port,
+        @Value("${review.grpc.threads:32}") int threads,
+        @Value("${review.grpc.shutdown-grace:10s}") Duration shutdownGrace
+    ) {
+        this.reviewGrpcService = reviewGrpcService;
+        this.port = port;
+        this.threads = threads;
+        this.shutdownGrace = shutdownGrace;
+    }
+
+    @Override
+    public synchronized void start() {
+        // Calls block on the database, so they get a bounded pool rather than the transport threads
+        executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("grpc-call-"));
+        server = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+            .addService(reviewGrpcService)
+            .executor(executor)
+            .build();
+        try {
+            server.start();
+        } catch (IOException e) {
+            executor.shutdown();
+            throw new UncheckedIOException("Cannot start the gRPC server on port " + port, e);
+        }
+        log.info("gRPC server listening on port {}", server.getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGrace.toMillis(), TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        server = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    public synchronized int getPort() {
+        return server != null ? server.getPort() : -1;
+    }
+}
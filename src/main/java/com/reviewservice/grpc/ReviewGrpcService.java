@@ -0,0 +1,224 @@
+package com.reviewservice.grpc;
+
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.exception.InvalidRequestException;
+import com.reviewservice.exception.RateLimitExceededException;
+import com.reviewservice.exception.ResourceNotFoundException;
+import com.reviewservice.exception.UnauthorizedException;
+import com.reviewservice.grpc.proto.BatchGetRatingSummariesRequest;
+import com.reviewservice.grpc.proto.BatchGetRatingSummariesResponse;
+import com.reviewservice.grpc.proto.ExportReviewsRequest;
+import com.reviewservice.grpc.proto.GetRatingSummaryRequest;
+import com.reviewservice.grpc.proto.ListReviewsRequest;
+import com.reviewservice.grpc.proto.ListReviewsResponse;
+import com.reviewservice.grpc.proto.RatingSummary;
+import com.reviewservice.grpc.proto.Review;
+import com.reviewservice.grpc.proto.ReviewServiceGrpc;
+import com.reviewservice.service.RatingSummaryService;
+import com.reviewservice.service.ReviewService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The gRPC face of the review and rating summary reads, for internal callers that would
+ * rather not pay for JSON. Requests go through the same services as the REST API.
+ */
+@Component
+@Slf4j
+public class ReviewGrpcService extends ReviewServiceGrpc.ReviewServiceImplBase {
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final ReviewService reviewService;
+    private final RatingSummaryService ratingSummaryService;
+    private final int exportChunkSize;
+
+    public ReviewGrpcService(
+        ReviewService reviewService,
+        RatingSummaryService ratingSummaryService,
+        @Value("${review.grpc.export-chunk-size:500}") int exportChunkSize
+    ) {
+        this.reviewService = reviewService;
+        this.ratingSummaryService = ratingSummaryService;
+        this.exportChunkSize = exportChunkSize;
+    }
+
+    @Override
+    public void getRatingSummary(GetRatingSummaryRequest request, StreamObserver<RatingSummary> responseObserver) {
+        respond(responseObserver, () -> {
+            requireEntity(request.getEntityType(), request.getEntityId());
+            return ReviewProtoMapper.toProto(
+                ratingSummaryService.getRatingSummary(request.getEntityType(), request.getEntityId()));
+        });
+    }
+
+    @Override
+    public void batchGetRatingSummaries(
+        BatchGetRatingSummariesRequest request,
+        StreamObserver<BatchGetRatingSummariesResponse> responseObserver
+    ) {
+        respond(responseObserver, () -> {
+            if (request.getEntityType().isBlank()) {
+                throw new InvalidRequestException("Entity type is required");
+            }
+            if (request.getEntityIdsCount() > MAX_BATCH_SIZE) {
+                throw new InvalidRequestException("At most " + MAX_BATCH_SIZE + " entity IDs per request");
+            }
+
+            BatchGetRatingSummariesResponse.Builder response = BatchGetRatingSummariesResponse.newBuilder();
+            if (request.getEntityIdsCount() == 0) {
+                return response.build();
+            }
+            List<RatingSummaryDto> summaries = ratingSummaryService.getRatingSummaries(
+                request.getEntityType(), request.getEntityIdsList());
+            summaries.forEach(summary -> response.addSummaries(ReviewProtoMapper.toProto(summary)));
+            return response.build();
+        });
+    }
+
+    @Override
+    public void listReviews(ListReviewsRequest request, StreamObserver<ListReviewsResponse> responseObserver) {
+        respond(responseObserver, () -> {
+            requireEntity(request.getEntityType(), request.getEntityId());
+            int size = request.getSize() == 0 ? DEFAULT_PAGE_SIZE : request.getSize();
+            if (request.getPage() < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                throw new InvalidRequestException("Page must be 0 or more and size between 1 and " + MAX_PAGE_SIZE);
+            }
+            String sortBy = request.getSortBy().isEmpty() ? "createdAt" : request.getSortBy();
+            Sort.Direction direction = request.getAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+
+            Page<ReviewResponseDto> reviews = reviewService.getReviewsByEntity(
+                request.getEntityType(),
+                request.getEntityId(),
+                request.hasMinRating() ? request.getMinRating() : null,
+                request.hasMaxRating() ? request.getMaxRating() : null,
+                request.getVerifiedOnly() ? true : null,
+                PageRequest.of(request.getPage(), size, Sort.by(direction, sortBy)));
+
+            ListReviewsResponse.Builder response = ListReviewsResponse.newBuilder()
+                .setTotalElements(reviews.getTotalElements())
+                .setTotalPages(reviews.getTotalPages());
+            reviews.getContent().forEach(review -> response.addReviews(ReviewProtoMapper.toProto(review)));
+            return response.build();
+        });
+    }
+
+    @Override
+    public void exportReviews(ExportReviewsRequest request, StreamObserver<Review> responseObserver) {
+        ServerCallStreamObserver<Review> call = (ServerCallStreamObserver<Review>) responseObserver;
+        try {
+            requireEntity(request.getEntityType(), request.getEntityId());
+        } catch (RuntimeException e) {
+            call.onError(toStatus(e));
+            return;
+        }
+
+        ReviewExport export = new ReviewExport(request.getEntityType(), request.getEntityId(), call);
+        call.setOnCancelHandler(() -> log.debug("Review export of {} {} cancelled by the client",
+            request.getEntityType(), request.getEntityId()));
+        call.setOnReadyHandler(export::drain);
+    }
+
+    /**
+     * Sends an entity's reviews a chunk at a time, reading the next chunk only once the
+     * client has taken the previous one, so a slow reader never has more than a chunk
+     * buffered. Chunks continue after the last ID sent, so each costs the same however far
+     * the export is, and reviews written meanwhile are neither sent twice nor shift others
+     * out. gRPC calls {@link #drain} one at a time, whenever the call can take more.
+     */
+    private class ReviewExport {
+
+        private final String entityType;
+        private final String entityId;
+        private final ServerCallStreamObserver<Review> call;
+        private Iterator<ReviewResponseDto> chunk = Collections.emptyIterator();
+        private long lastId;
+        private boolean lastChunk;
+        private boolean done;
+
+        ReviewExport(String entityType, String entityId, ServerCallStreamObserver<Review> call) {
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.call = call;
+        }
+
+        void drain() {
+            if (done) {
+                return;
+            }
+            try {
+                while (call.isReady() && !call.isCancelled()) {
+                    if (chunk.hasNext()) {
+                        ReviewResponseDto review = chunk.next();
+                        lastId = review.getId();
+                        call.onNext(ReviewProtoMapper.toProto(review));
+                    } else if (lastChunk) {
+                        done = true;
+                        call.onCompleted();
+                        return;
+                    } else {
+                        List<ReviewResponseDto> reviews = reviewService.getReviewsByEntityAfter(
+                            entityType, entityId, lastId, exportChunkSize);
+                        chunk = reviews.iterator();
+                        lastChunk = reviews.size() < exportChunkSize;
+                    }
+                }
+            } catch (RuntimeException e) {
+                done = true;
+                call.onError(toStatus(e));
+            }
+        }
+    }
+
+    private static void requireEntity(String entityType, String entityId) {
+        if (entityType.isBlank() || entityId.isBlank()) {
+            throw new InvalidRequestException("Entity type and entity ID are required");
+        }
+    }
+
+    private static <T> void respond(StreamObserver<T> responseObserver, Supplier<T> read) {
+        T response;
+        try {
+            response = read.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    // The gRPC counterparts of the statuses GlobalExceptionHandler answers with
+    private static StatusRuntimeException toStatus(RuntimeException e) {
+        Status status;
+        if (e instanceof ResourceNotFoundException) {
+            status = Status.NOT_FOUND.withDescription(e.getMessage());
+        } else if (e instanceof InvalidRequestException) {
+            status = Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        } else if (e instanceof UnauthorizedException) {
+            status = Status.PERMISSION_DENIED.withDescription(e.getMessage());
+        } else if (e instanceof RateLimitExceededException) {
+            status = Status.RESOURCE_EXHAUSTED.withDescription(e.getMessage());
+        } else {
+            log.error("gRPC read failed", e);
+            status = Status.INTERNAL.withDescription("An unexpected error occurred");
+        }
+        return status.asRuntimeException();
+    }
+}
@@ -0,0 +1,128 @@
+package com.reviewservice.grpc;
+
+import com.google.protobuf.Timestamp;
+import com.reviewservice.dto.ImageMetadataDto;
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.grpc.proto.Image;
+import com.reviewservice.grpc.proto.RatingSummary;
+import com.reviewservice.grpc.proto.Review;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Maps the service DTOs to their Protobuf messages. Protobuf has no nulls, so absent
+ * values are left unset and read back as their defaults.
+ */
+final class ReviewProtoMapper {
+
+    private ReviewProtoMapper() {
+    }
+
+    static Review toProto(ReviewResponseDto review) {
+        Review.Builder builder = Review.newBuilder();
+        if (review.getId() != null) {
+            builder.setId(review.getId());
+        }
+        if (review.getEntityType() != null) {
+            builder.setEntityType(review.getEntityType());
+        }
+        if (review.getEntityId() != null) {
+            builder.setEntityId(review.getEntityId());
+        }
+        if (review.getUserId() != null) {
+            builder.setUserId(review.getUserId());
+        }
+        if (review.getRating() != null) {
+            builder.setRating(review.getRating());
+        }
+        if (review.getTitle() != null) {
+            builder.setTitle(review.getTitle());
+        }
+        if (review.getComment() != null) {
+            builder.setComment(review.getComment());
+        }
+        if (review.getVerified() != null) {
+            builder.setVerified(review.getVerified());
+        }
+        if (review.getHelpfulCount() != null) {
+            builder.setHelpfulCount(review.getHelpfulCount());
+        }
+        if (review.getUnhelpfulCount() != null) {
+            builder.setUnhelpfulCount(review.getUnhelpfulCount());
+        }
+        if (review.getResponseCount() != null) {
+            builder.setResponseCount(review.getResponseCount());
+        }
+        if (review.getStatus() != null) {
+            builder.setStatus(review.getStatus());
+        }
+        if (review.getCreatedAt() != null) {
+            builder.setCreatedAt(toTimestamp(review.getCreatedAt()));
+        }
+        if (review.getUpdatedAt() != null) {
+            builder.setUpdatedAt(toTimestamp(review.getUpdatedAt()));
+        }
+        if (review.getImages() != null) {
+            review.getImages().forEach(image -> builder.addImages(toProto(image)));
+        }
+        return builder.build();
+    }
+
+    static Image toProto(ImageMetadataDto image) {
+        Image.Builder builder = Image.newBuilder();
+        if (image.getId() != null) {
+            builder.setId(image.getId());
+        }
+        if (image.getFileName() != null) {
+            builder.setFileName(image.getFileName());
+        }
+        if (image.getContentType() != null) {
+            builder.setContentType(image.getContentType());
+        }
+        if (image.getFileSize() != null) {
+            builder.setFileSize(image.getFileSize());
+        }
+        if (image.getUploadedAt() != null) {
+            builder.setUploadedAt(toTimestamp(image.getUploadedAt()));
+        }
+        return builder.build();
+    }
+
+    static RatingSummary toProto(RatingSummaryDto summary) {
+        RatingSummary.Builder builder = RatingSummary.newBuilder()
+            .setEntityType(summary.getEntityType())
+            .setEntityId(summary.getEntityId());
+        if (summary.getAverageRating() != null) {
+            builder.setAverageRating(summary.getAverageRating());
+        }
+        if (summary.getTotalReviews() != null) {
+            builder.setTotalReviews(summary.getTotalReviews());
+        }
+        if (summary.getBayesianScore() != null) {
+            builder.setBayesianScore(summary.getBayesianScore());
+        }
+        if (summary.getRatingDistribution() != null) {
+            summary.getRatingDistribution().forEach((stars, count) -> {
+                if (count != null) {
+                    builder.putRatingDistribution(stars, count);
+                }
+            });
+        }
+        if (summary.getUpdatedAt() != null) {
+            builder.setUpdatedAt(toTimestamp(summary.getUpdatedAt()));
+        }
+        return builder.build();
+    }
+
+    // Timestamps are stored as the server's local time, as written by LocalDateTime.now()
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        Instant instant = time.atZone(ZoneId.systemDefault()).toInstant();
+        return Timestamp.newBuilder()
+            .setSeconds(instant.getEpochSecond())
+            .setNanos(instant.getNano())
+            .build();
+    }
+}
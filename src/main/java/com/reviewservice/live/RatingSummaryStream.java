@@ -0,0 +1,417 @@
+package com.reviewservice.live;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.reviewservice.dto.EntityVersionDto;
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.event.RatingSummaryChangedEvent;
+import com.reviewservice.service.EntityVersionService;
+import com.reviewservice.service.RatingSummaryService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Pushes rating summary changes to server-sent event subscribers of an entity. Changes in a
+ * burst are coalesced: the summary is reloaded once per {@code coalesce-window} and sent to
+ * every subscriber as the fields that changed. Each subscriber holds at most one unsent
+ * state; a newer one replaces it, and a subscriber that missed states gets the full
+ * summary instead of a delta. Writes happen on a small sender pool with at most one task
+ * per subscriber, so a slow client delays only itself and nothing queues up behind it.
+ * A send that takes longer than {@code send-timeout} drops its subscriber and interrupts
+ * the sender; the container's write timeout frees threads the interrupt cannot.
+ * Changes written through other instances are picked up by polling entity versions.
+ */
+@Component
+@Slf4j
+public class RatingSummaryStream {
+
+    static final String SUMMARY = "summary";
+    static final String DELTA = "delta";
+
+    // Keeps the IN lists of the version poll short
+    private static final int VERSION_BATCH_SIZE = 1_000;
+
+    private final RatingSummaryService ratingSummaryService;
+    private final EntityVersionService entityVersionService;
+    private final ObjectMapper objectMapper;
+    private final long coalesceMillis;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int maxSubscribers;
+    private final Map<TopicKey, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ScheduledExecutorService timer;
+    private final ExecutorService sender;
+
+    public RatingSummaryStream(
+        RatingSummaryService ratingSummaryService,
+        EntityVersionService entityVersionService,
+        ObjectMapper objectMapper,
+        @Value("${review.live-ratings.coalesce-window:250ms}") Duration coalesceWindow,
+        @Value("${review.live-ratings.timeout:30m}") Duration timeout,
+        @Value("${review.live-ratings.send-timeout:5s}") Duration sendTimeout,
+        @Value("${review.live-ratings.max-subscribers:18000}") int maxSubscribers,
+        @Value("${review.live-ratings.sender-threads:8}") int senderThreads
+    ) {
+        this.ratingSummaryService = ratingSummaryService;
+        this.entityVersionService = entityVersionService;
+        this.objectMapper = objectMapper;
+        this.coalesceMillis = coalesceWindow.toMillis();
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.maxSubscribers = maxSubscribers;
+        this.timer = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("rating-stream-timer-"));
+        // Unbounded, but holds at most one task per subscriber and one flush per entity
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("rating-stream-"));
+        long checkMillis = Math.max(sendTimeout.toMillis() / 2, 1);
+        timer.scheduleWithFixedDelay(this::expireStuckSends, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A stream of the entity's summary, or empty when this instance has no room for
+     * another subscriber.
+     */
+    public Optional<SseEmitter> subscribe(String entityType, String entityId) {
+        return subscribe(entityType, entityId, new SseEmitter(timeoutMillis));
+    }
+
+    Optional<SseEmitter> subscribe(String entityType, String entityId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return Optional.empty();
+        }
+
+        TopicKey key = new TopicKey(entityType, entityId);
+        Subscriber subscriber = new Subscriber(key, emitter);
+        Topic topic = topics.compute(key, (k, existing) -> {
+            Topic joined = existing != null ? existing : new Topic(k);
+            joined.subscribers.add(subscriber);
+            return joined;
+        });
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+
+        Snapshot current = topic.current;
+        if (current != null) {
+            subscriber.offer(current);
+        } else {
+            execute(() -> flush(topic));
+        }
+        return Optional.of(emitter);
+    }
+
+    @TransactionalEventListener
+    public void onRatingSummaryChanged(RatingSummaryChangedEvent event) {
+        Topic topic = topics.get(new TopicKey(event.getEntityType(), event.getEntityId()));
+        if (topic != null) {
+            scheduleFlush(topic);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${review.live-ratings.version-poll-interval:PT2S}")
+    public void pollVersions() {
+        Map<String, List<Topic>> topicsByType = topics.values().stream()
+            .collect(Collectors.groupingBy(topic -> topic.key.getEntityType()));
+        topicsByType.forEach((entityType, typeTopics) -> {
+            for (int from = 0; from < typeTopics.size(); from += VERSION_BATCH_SIZE) {
+                List<Topic> batch = typeTopics.subList(from, Math.min(from + VERSION_BATCH_SIZE, typeTopics.size()));
+                Map<String, Long> versions;
+                try {
+                    versions = entityVersionService.getVersions(entityType, batch.stream()
+                            .map(topic -> topic.key.getEntityId())
+                            .collect(Collectors.toList())).stream()
+                        .collect(Collectors.toMap(EntityVersionDto::getEntityId, EntityVersionDto::getVersion));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to poll entity versions for live rating streams of {}", entityType, e);
+                    return;
+                }
+                for (Topic topic : batch) {
+                    long version = versions.getOrDefault(topic.key.getEntityId(), 0L);
+                    if (topic.entityVersion != version) {
+                        topic.entityVersion = version;
+                        scheduleFlush(topic);
+                    }
+                }
+            }
+        });
+    }
+
+    // Comments keep idle connections open through proxies and find clients that are gone
+    @Scheduled(fixedDelayString = "${review.live-ratings.heartbeat:PT15S}")
+    public void heartbeat() {
+        topics.values().forEach(topic -> topic.subscribers.forEach(Subscriber::offerHeartbeat));
+    }
+
+    private void expireStuckSends() {
+        long now = System.nanoTime();
+        topics.values().forEach(topic -> topic.subscribers.forEach(subscriber -> subscriber.expireIfStuck(now)));
+    }
+
+    // Version of the last state sent to the entity's subscribers; 0 before the first
+    long version(String entityType, String entityId) {
+        Topic topic = topics.get(new TopicKey(entityType, entityId));
+        Snapshot current = topic != null ? topic.current : null;
+        return current != null ? current.getVersion() : 0;
+    }
+
+    private void scheduleFlush(Topic topic) {
+        if (topic.flushScheduled.compareAndSet(false, true)) {
+            try {
+                timer.schedule(() -> execute(() -> flush(topic)), coalesceMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                topic.flushScheduled.set(false);
+            }
+        }
+    }
+
+    private void flush(Topic topic) {
+        // Changes from here on need another flush
+        topic.flushScheduled.set(false);
+
+        Snapshot next;
+        synchronized (topic) {
+            Optional<RatingSummaryDto> summary;
+            try {
+                summary = ratingSummaryService.findRatingSummary(topic.key.getEntityType(), topic.key.getEntityId());
+            } catch (RuntimeException e) {
+                log.warn("Failed to load rating summary for live stream of entity: {} with ID: {}",
+                    topic.key.getEntityType(), topic.key.getEntityId(), e);
+                return;
+            }
+            if (summary.isEmpty()) {
+                return;
+            }
+
+            ObjectNode state = objectMapper.valueToTree(summary.get());
+            Snapshot previous = topic.current;
+            if (previous != null && previous.getState().equals(state)) {
+                return;
+            }
+            next = new Snapshot(
+                previous == null ? 1 : previous.getVersion() + 1,
+                state,
+                state.toString(),
+                previous == null ? null : delta(previous.getState(), state).toString());
+            topic.current = next;
+        }
+        topic.subscribers.forEach(subscriber -> subscriber.offer(next));
+    }
+
+    private ObjectNode delta(ObjectNode from, ObjectNode to) {
+        ObjectNode delta = objectMapper.createObjectNode();
+        delta.set("entityType", to.get("entityType"));
+        delta.set("entityId", to.get("entityId"));
+        Iterator<Map.Entry<String, JsonNode>> fields = to.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().equals(from.get(field.getKey()))) {
+                delta.set(field.getKey(), field.getValue());
+            }
+        }
+        return delta;
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriber.closed = true;
+        subscriberCount.decrementAndGet();
+        topics.computeIfPresent(subscriber.key, (key, topic) -> {
+            topic.subscribers.remove(subscriber);
+            return topic.subscribers.isEmpty() ? null : topic;
+        });
+    }
+
+    private boolean execute(Runnable task) {
+        try {
+            sender.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        timer.shutdownNow();
+        List<Subscriber> subscribers = new ArrayList<>();
+        topics.values().forEach(topic -> subscribers.addAll(topic.subscribers));
+        subscribers.forEach(Subscriber::close);
+        sender.shutdown();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private final class Subscriber {
+
+        final TopicKey key;
+        final SseEmitter emitter;
+        // The latest state not yet sent; a newer one replaces it
+        final AtomicReference<Snapshot> pending = new AtomicReference<>();
+        final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean removed = new AtomicBoolean();
+        volatile boolean closed;
+        // Set when a send overran send-timeout; the draining thread completes the emitter
+        volatile boolean expired;
+        // The thread blocked in a send and since when; guarded by this
+        private Thread sendingThread;
+        private long sendStartedNanos;
+        // Only read and written while draining
+        long sentVersion;
+
+        Subscriber(TopicKey key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        void offer(Snapshot snapshot) {
+            pending.set(snapshot);
+            scheduleDrain();
+        }
+
+        void offerHeartbeat() {
+            heartbeatDue.set(true);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!closed && draining.compareAndSet(false, true) && !execute(this::drain)) {
+                draining.set(false);
+            }
+        }
+
+        private void drain() {
+            do {
+                try {
+                    while (!closed) {
+                        Snapshot snapshot = pending.getAndSet(null);
+                        if (snapshot != null) {
+                            send(snapshot);
+                        } else if (heartbeatDue.getAndSet(false)) {
+                            write(SseEmitter.event().comment(""));
+                        } else {
+                            break;
+                        }
+                    }
+                    if (expired) {
+                        close();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.debug("Closing live rating stream of entity: {} with ID: {}", key.getEntityType(), key.getEntityId());
+                    close();
+                }
+                draining.set(false);
+                // An offer that found the flag still set left its work to this drain
+            } while (!closed && (pending.get() != null || heartbeatDue.get()) && draining.compareAndSet(false, true));
+        }
+
+        private void send(Snapshot snapshot) throws IOException {
+            if (snapshot.getVersion() <= sentVersion) {
+                return;
+            }
+            if (snapshot.getDelta() != null && snapshot.getVersion() == sentVersion + 1) {
+                write(SseEmitter.event().name(DELTA).data(snapshot.getDelta()));
+            } else {
+                write(SseEmitter.event().name(SUMMARY).data(snapshot.getJson()));
+            }
+            sentVersion = snapshot.getVersion();
+            heartbeatDue.set(false);
+        }
+
+        private void write(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                sendingThread = Thread.currentThread();
+                sendStartedNanos = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                synchronized (this) {
+                    sendingThread = null;
+                }
+                // An interrupt meant for this send must not reach the next subscriber's
+                Thread.interrupted();
+            }
+        }
+
+        // Drops the subscriber without touching the emitter, which the blocked send holds
+        synchronized void expireIfStuck(long now) {
+            if (sendingThread == null || now - sendStartedNanos < sendTimeoutNanos) {
+                return;
+            }
+            log.debug("Send to live rating stream of entity: {} with ID: {} timed out", key.getEntityType(), key.getEntityId());
+            expired = true;
+            closed = true;
+            sendingThread.interrupt();
+            sendingThread = null;
+            unsubscribe(this);
+        }
+
+        void close() {
+            closed = true;
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                // Already completed
+            }
+            unsubscribe(this);
+        }
+    }
+
+    private static final class Topic {
+
+        final TopicKey key;
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final AtomicBoolean flushScheduled = new AtomicBoolean();
+        volatile Snapshot current;
+        // Entity version last seen by the poll; -1 before the first poll
+        volatile long entityVersion = -1;
+
+        Topic(TopicKey key) {
+            this.key = key;
+        }
+    }
+
+    @lombok.Value
+    private static class TopicKey {
+        String entityType;
+        String entityId;
+    }
+
+    @lombok.Value
+    private static class Snapshot {
+        long version;
+        ObjectNode state;
+        String json;
+        // Changed fields since the previous version; null for the first
+        String delta;
+    }
+}
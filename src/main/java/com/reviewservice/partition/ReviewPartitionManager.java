@@ -0,0 +1,315 @@
+package com.reviewservice.partition;
+
+import com.reviewservice.entity.ReviewStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the monthly partitions of {@code reviews} and {@code review_helpfulness} in shape:
+ * converts the tables on first run, creates partitions ahead of time, and archives the
+ * DELETED sub-partition of cold months to gzip CSV before dropping it. Each month of
+ * reviews is split by status, so archiving never touches live rows. Runs at startup and
+ * on {@code review.partitioning.maintenance-cron}; an advisory lock keeps instances from
+ * running it concurrently.
+ */
+@Component
+@ConditionalOnProperty(name = "review.partitioning.enabled", havingValue = "true")
+@Slf4j
+public class ReviewPartitionManager {
+
+    private static final String CONVERSION_SCRIPT = "classpath:db/postgres/partitioning/001-partition-reviews.sql";
+    private static final long MAINTENANCE_LOCK = 735_001L;
+    private static final int EXPORT_FETCH_SIZE = 5_000;
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("'p'yyyy_MM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter EXPORT_STAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReviewPartitionMap reviewPartitionMap;
+    private final ResourceLoader resourceLoader;
+    private final int premakeMonths;
+    private final int archiveAfterMonths;
+    private final Path archiveDir;
+    private volatile boolean postgres;
+
+    public ReviewPartitionManager(
+        JdbcTemplate jdbcTemplate,
+        ReviewPartitionMap reviewPartitionMap,
+        ResourceLoader resourceLoader,
+        @Value("${review.partitioning.premake-months:3}") int premakeMonths,
+        @Value("${review.partitioning.archive-after-months:24}") int archiveAfterMonths,
+        @Value("${review.partitioning.archive-dir:./archive}") String archiveDir
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reviewPartitionMap = reviewPartitionMap;
+        this.resourceLoader = resourceLoader;
+        this.premakeMonths = premakeMonths;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.archiveDir = Path.of(archiveDir);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+        if (!postgres) {
+            log.warn("Review partitioning is enabled but the database is not PostgreSQL; skipping");
+            return;
+        }
+        maintain();
+    }
+
+    @Scheduled(cron = "${review.partitioning.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!postgres) {
+            return;
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            // Every statement must run on this connection, which holds the session advisory lock
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            if (!Boolean.TRUE.equals(session.queryForObject(
+                    "SELECT pg_try_advisory_lock(?)", Boolean.class, MAINTENANCE_LOCK))) {
+                log.info("Partition maintenance is running elsewhere; skipping");
+                return null;
+            }
+            try {
+                convertIfNeeded(connection, session);
+                LocalDateTime legacyEnd = legacyEnd(session);
+                createPartitions(session, legacyEnd);
+                archiveColdPartitions(connection, session);
+                refreshPartitionMap(session, legacyEnd);
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, MAINTENANCE_LOCK);
+            }
+            return null;
+        });
+    }
+
+    private void convertIfNeeded(Connection connection, JdbcTemplate session) {
+        if (isPartitioned(session, "reviews") && isPartitioned(session, "review_helpfulness")
+            && primaryKeyCoversStatus(session)) {
+            return;
+        }
+
+        log.info("Converting reviews and review_helpfulness to monthly partitions");
+        Resource script = resourceLoader.getResource(CONVERSION_SCRIPT);
+        // The script holds a function body and a DO block, so it is sent as a single statement
+        ScriptUtils.executeSqlScript(connection, new EncodedResource(script), false, false,
+            ScriptUtils.DEFAULT_COMMENT_PREFIX, ScriptUtils.EOF_STATEMENT_SEPARATOR,
+            ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER, ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER);
+    }
+
+    private void createPartitions(JdbcTemplate session, LocalDateTime legacyEnd) {
+        YearMonth first = YearMonth.now();
+        if (legacyEnd != null && first.isBefore(YearMonth.from(legacyEnd))) {
+            first = YearMonth.from(legacyEnd);
+        }
+
+        for (YearMonth month = first; !month.isAfter(YearMonth.now().plusMonths(premakeMonths)); month = month.plusMonths(1)) {
+            String reviews = "reviews_" + month.format(MONTH_SUFFIX);
+            String from = month.atDay(1).atStartOfDay().format(BOUND);
+            String to = month.plusMonths(1).atDay(1).atStartOfDay().format(BOUND);
+
+            session.execute(String.format("CREATE TABLE IF NOT EXISTS %s PARTITION OF reviews " +
+                "FOR VALUES FROM ('%s') TO ('%s') PARTITION BY LIST (status)", reviews, from, to));
+            session.execute(String.format("CREATE TABLE IF NOT EXISTS %s_deleted PARTITION OF %s " +
+                "FOR VALUES IN (%d)", reviews, reviews, ReviewStatus.DELETED.getCode()));
+            session.execute(String.format("CREATE TABLE IF NOT EXISTS %s_active PARTITION OF %s DEFAULT",
+                reviews, reviews));
+            session.execute(String.format("CREATE TABLE IF NOT EXISTS review_helpfulness_%s PARTITION OF " +
+                "review_helpfulness FOR VALUES FROM ('%s') TO ('%s')", month.format(MONTH_SUFFIX), from, to));
+        }
+    }
+
+    private void archiveColdPartitions(Connection connection, JdbcTemplate session) throws SQLException {
+        YearMonth coldBefore = YearMonth.now().minusMonths(archiveAfterMonths);
+
+        for (String month : monthPartitions(session)) {
+            String deleted = month + "_deleted";
+            if (!YearMonth.parse(month.substring("reviews_".length()), MONTH_SUFFIX).isBefore(coldBefore)
+                || !hasRows(session, deleted)) {
+                continue;
+            }
+
+            // Swap in an empty partition so reviews deleted from now on still have a home
+            inTransaction(connection, () -> {
+                session.execute(String.format("ALTER TABLE %s DETACH PARTITION %s", month, deleted));
+                session.execute(String.format("ALTER TABLE %s RENAME TO %s_archiving", deleted, deleted));
+                session.execute(String.format("CREATE TABLE %s PARTITION OF %s FOR VALUES IN (%d)",
+                    deleted, month, ReviewStatus.DELETED.getCode()));
+            });
+            log.info("Detached {} for archiving", deleted);
+        }
+
+        // Also picks up tables left behind by an export that failed on an earlier run
+        for (String detached : session.queryForList(
+                "SELECT relname FROM pg_class WHERE relkind = 'r' " +
+                "AND relname ~ '^reviews_p[0-9]{4}_[0-9]{2}_deleted_archiving$' ORDER BY relname", String.class)) {
+            Path file = export(connection, detached);
+            session.execute("DROP TABLE " + detached);
+            log.info("Archived {} to {}", detached, file);
+        }
+    }
+
+    private Path export(Connection connection, String table) throws SQLException {
+        try {
+            Files.createDirectories(archiveDir);
+            String name = table.replace("_archiving", "") + "-" + LocalDateTime.now().format(EXPORT_STAMP);
+            Path partial = archiveDir.resolve(name + ".csv.gz.partial");
+            Path file = archiveDir.resolve(name + ".csv.gz");
+
+            long rows = 0;
+            boolean autoCommit = connection.getAutoCommit();
+            // Postgres only streams with a fetch size inside a transaction
+            connection.setAutoCommit(false);
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(partial)), StandardCharsets.UTF_8));
+                 Statement statement = connection.createStatement()) {
+                statement.setFetchSize(EXPORT_FETCH_SIZE);
+                try (ResultSet rs = statement.executeQuery("SELECT * FROM " + table + " ORDER BY id")) {
+                    ResultSetMetaData meta = rs.getMetaData();
+                    writeRow(out, meta.getColumnCount(), i -> meta.getColumnName(i));
+                    while (rs.next()) {
+                        writeRow(out, meta.getColumnCount(), rs::getString);
+                        rows++;
+                    }
+                }
+            } finally {
+                connection.commit();
+                connection.setAutoCommit(autoCommit);
+            }
+
+            Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Exported {} rows from {}", rows, table);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive " + table, e);
+        }
+    }
+
+    private void refreshPartitionMap(JdbcTemplate session, LocalDateTime legacyEnd) {
+        Map<Long, LocalDateTime> startByFirstId = new HashMap<>();
+        if (legacyEnd != null) {
+            Long firstId = session.queryForObject("SELECT min(id) FROM reviews_legacy", Long.class);
+            if (firstId != null) {
+                startByFirstId.put(firstId, null);
+            }
+        }
+        for (String month : monthPartitions(session)) {
+            Long firstId = session.queryForObject("SELECT min(id) FROM " + month, Long.class);
+            if (firstId != null) {
+                startByFirstId.put(firstId,
+                    YearMonth.parse(month.substring("reviews_".length()), MONTH_SUFFIX).atDay(1).atStartOfDay());
+            }
+        }
+        reviewPartitionMap.replace(startByFirstId);
+        log.debug("Refreshed review partition map with {} partitions", startByFirstId.size());
+    }
+
+    private List<String> monthPartitions(JdbcTemplate session) {
+        return session.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = to_regclass('reviews') AND c.relname ~ '^reviews_p[0-9]{4}_[0-9]{2}$' " +
+            "ORDER BY c.relname", String.class);
+    }
+
+    private LocalDateTime legacyEnd(JdbcTemplate session) {
+        List<String> bound = session.queryForList(
+            "SELECT (regexp_match(pg_get_expr(c.relpartbound, c.oid), 'TO \\(''([^'']+)''\\)'))[1] " +
+            "FROM pg_class c WHERE c.oid = to_regclass('reviews_legacy') AND c.relispartition", String.class);
+        return bound.isEmpty() || bound.get(0) == null ? null : LocalDateTime.parse(bound.get(0), BOUND);
+    }
+
+    // Month partitions are split by status, which PostgreSQL only allows under a key covering it
+    private boolean primaryKeyCoversStatus(JdbcTemplate session) {
+        return Boolean.TRUE.equals(session.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM pg_constraint c " +
+            "JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey) " +
+            "WHERE c.conrelid = to_regclass('reviews') AND c.contype = 'p' AND a.attname = 'status')",
+            Boolean.class));
+    }
+
+    private boolean isPartitioned(JdbcTemplate session, String table) {
+        return Boolean.TRUE.equals(session.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+            Boolean.class, table));
+    }
+
+    private boolean hasRows(JdbcTemplate session, String table) {
+        return Boolean.TRUE.equals(session.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + table + ")", Boolean.class));
+    }
+
+    private void inTransaction(Connection connection, Runnable work) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            work.run();
+            connection.commit();
+        } catch (RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void writeRow(Writer out, int columns, ColumnValue value) throws IOException, SQLException {
+        List<String> cells = new ArrayList<>(columns);
+        for (int i = 1; i <= columns; i++) {
+            cells.add(csv(value.get(i)));
+        }
+        out.write(String.join(",", cells));
+        out.write('\n');
+    }
+
+    private String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface ColumnValue {
+        String get(int column) throws SQLException;
+    }
+}
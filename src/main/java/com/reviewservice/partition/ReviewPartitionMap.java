@@ -0,0 +1,58 @@
+package com.reviewservice.partition;
+
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Maps review IDs to the creation-time range that can hold them, from the first ID of each
+ * reviews partition. Lookups by ID alone probe every partition; adding this range to the
+ * query lets Postgres prune to the one or two partitions the ID can be in. Empty (and
+ * lookups unbounded) unless partitioning is enabled.
+ */
+@Component
+public class ReviewPartitionMap {
+
+    // IDs and creation times are only roughly in the same order across a partition boundary
+    static final Duration MARGIN = Duration.ofDays(1);
+
+    private static final LocalDateTime LOWEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime HIGHEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private volatile NavigableMap<Long, LocalDateTime> startByFirstId = new TreeMap<>();
+
+    /**
+     * Replaces the map with the first review ID of each non-empty partition and the
+     * partition's lower bound (null for the legacy partition, which has none).
+     */
+    public void replace(Map<Long, LocalDateTime> partitionStartByFirstId) {
+        startByFirstId = new TreeMap<>(partitionStartByFirstId);
+    }
+
+    public Optional<CreatedAtRange> createdAtRange(Long reviewId) {
+        NavigableMap<Long, LocalDateTime> partitions = startByFirstId;
+        Map.Entry<Long, LocalDateTime> partition = partitions.floorEntry(reviewId);
+        if (partition == null) {
+            return Optional.empty();
+        }
+
+        // An ID below the next partition's first ID was created before that partition started
+        Map.Entry<Long, LocalDateTime> next = partitions.higherEntry(partition.getKey());
+        return Optional.of(new CreatedAtRange(
+            partition.getValue() != null ? partition.getValue().minus(MARGIN) : LOWEST,
+            next != null ? next.getValue().plus(MARGIN) : HIGHEST
+        ));
+    }
+
+    @Value
+    public static class CreatedAtRange {
+        LocalDateTime from;
+        LocalDateTime to;
+    }
+}
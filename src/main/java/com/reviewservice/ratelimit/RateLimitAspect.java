@@ -0,0 +1,58 @@
+package com.reviewservice.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies {@link RateLimited} before the handler runs, so a rejected request never reaches
+ * the database beyond the cached lookups of {@link ReviewEntityKeys}.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "review.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RateLimitAspect {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final RateLimiter rateLimiter;
+    private final BeanFactory beanFactory;
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(rateLimited)")
+    public Object limit(ProceedingJoinPoint joinPoint, RateLimited rateLimited) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+            joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), PARAMETER_NAMES);
+        context.setBeanResolver(new BeanFactoryResolver(beanFactory));
+
+        rateLimiter.acquire(rateLimited.value(),
+            evaluate(rateLimited.user(), context),
+            evaluate(rateLimited.entity(), context));
+        return joinPoint.proceed();
+    }
+
+    private String evaluate(String expression, EvaluationContext context) {
+        if (expression.isEmpty()) {
+            return null;
+        }
+        return expressions.computeIfAbsent(expression, parser::parseExpression).getValue(context, String.class);
+    }
+}
@@ -0,0 +1,39 @@
+package com.reviewservice.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "review.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Buckets kept in memory; beyond this the least recently used are dropped
+    private int maxBuckets = 100_000;
+
+    // A bucket unused for longer than its period is full again, so dropping it loses nothing
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // Keyed by the name given in @RateLimited
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    @Data
+    public static class Endpoint {
+        private Limit perUser;
+        private Limit perEntity;
+    }
+
+    @Data
+    public static class Limit {
+        // Requests allowed in a burst
+        private int capacity;
+
+        // Time for an empty bucket to refill completely
+        private Duration period;
+    }
+}
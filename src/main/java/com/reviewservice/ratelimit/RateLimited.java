@@ -0,0 +1,25 @@
+package com.reviewservice.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Applies the limits configured under {@code review.rate-limit.endpoints.<value>} to a
+ * handler method. The caller and the entity written to are resolved from its arguments
+ * with SpEL, which can call beans such as {@code @reviewEntityKeys.of(#reviewId)}; a limit
+ * whose key resolves to null is not applied.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimited {
+
+    String value();
+
+    String user() default "";
+
+    String entity() default "";
+}
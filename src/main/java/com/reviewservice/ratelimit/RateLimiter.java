@@ -0,0 +1,73 @@
+package com.reviewservice.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewservice.exception.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets per endpoint and caller, and per endpoint and entity, held in a bounded
+ * in-memory map. Limits are per instance: behind a load balancer each node allows the
+ * configured rate.
+ */
+@Component
+@ConditionalOnProperty(name = "review.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
+@Slf4j
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxBuckets())
+            .expireAfterAccess(properties.getIdleTimeout())
+            .build();
+    }
+
+    /**
+     * Takes a token from each bucket that applies, or throws {@link RateLimitExceededException}
+     * saying when to retry. A request turned away takes no token from either bucket. Null keys
+     * skip their limit.
+     */
+    public void acquire(String endpoint, String userId, String entityKey) {
+        RateLimitProperties.Endpoint limits = properties.getEndpoints().get(endpoint);
+        if (limits == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        TokenBucket userBucket = null;
+        if (userId != null && limits.getPerUser() != null) {
+            userBucket = acquire(endpoint + ":user:" + userId, limits.getPerUser(), now);
+        }
+        if (entityKey != null && limits.getPerEntity() != null) {
+            try {
+                acquire(endpoint + ":entity:" + entityKey, limits.getPerEntity(), now);
+            } catch (RateLimitExceededException e) {
+                if (userBucket != null) {
+                    userBucket.refund();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private TokenBucket acquire(String key, RateLimitProperties.Limit limit, long now) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(limit.getCapacity(), limit.getPeriod().toNanos(), now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            log.warn("Rate limit exceeded for {}; retry after {}s", key, retryAfterSeconds);
+            throw new RateLimitExceededException("Too many requests; retry after " + retryAfterSeconds + " seconds",
+                retryAfterSeconds);
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,39 @@
+package com.reviewservice.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardContext;
+import com.reviewservice.sharding.LegacyIdLocator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * The entity a review belongs to, keyed as {@code entityType:entityId}, so limits on writes
+ * addressed by review ID count against the entity rather than the review. A review never
+ * moves to another entity, so keys are cached; unknown reviews resolve to null.
+ */
+@Component("reviewEntityKeys")
+@ConditionalOnProperty(name = "review.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ReviewEntityKeys {
+
+    private final ReviewRepository reviewRepository;
+    private final LegacyIdLocator shardLocator;
+    private final Cache<Long, String> keys;
+
+    public ReviewEntityKeys(ReviewRepository reviewRepository, LegacyIdLocator shardLocator, RateLimitProperties properties) {
+        this.reviewRepository = reviewRepository;
+        this.shardLocator = shardLocator;
+        this.keys = Caffeine.newBuilder()
+            .maximumSize(properties.getMaxBuckets())
+            .build();
+    }
+
+    public String of(Long reviewId) {
+        if (reviewId == null) {
+            return null;
+        }
+        return keys.get(reviewId, id -> ShardContext.call(shardLocator.shardForId("reviews", id),
+            () -> reviewRepository.findEntityKey(id).orElse(null)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.reviewservice.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket kept as the single instant at which it will be full again, so taking a
+ * token is one compare-and-set with no lock and no refill bookkeeping. Tokens come back
+ * one every {@code period / capacity}.
+ */
+final class TokenBucket {
+
+    private final long tokenNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, long periodNanos, long now) {
+        this.tokenNanos = Math.max(1, periodNanos / capacity);
+        this.capacityNanos = tokenNanos * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token at {@code now} (from {@link System#nanoTime()}). Returns 0 when one was
+     * available, otherwise the nanoseconds until one will be.
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long full = fullAt.get();
+            long next = Math.max(full, now) + tokenNanos;
+            long wait = next - now - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gives back a token taken by {@link #tryAcquire} for a request that was then turned away.
+     */
+    void refund() {
+        fullAt.addAndGet(-tokenNanos);
+    }
+}
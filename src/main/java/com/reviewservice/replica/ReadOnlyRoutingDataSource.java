@@ -0,0 +1,24 @@
+package com.reviewservice.replica;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Defers taking a connection until the first statement. Transaction managers open the
+ * connection before marking the transaction read-only, so without this every transaction
+ * would be routed as read-write.
+ */
+public class ReadOnlyRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    public ReadOnlyRoutingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
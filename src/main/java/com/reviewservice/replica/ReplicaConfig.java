@@ -0,0 +1,62 @@
+package com.reviewservice.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * With {@code review.replicas.enabled} and no sharding, {@code spring.datasource} becomes
+ * the primary of a {@link ReplicaSet} over {@code review.replicas.nodes}. Sharded setups
+ * list replicas per shard instead; see {@code ShardingConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaConfig {
+
+    @Bean
+    @ConditionalOnExpression("${review.replicas.enabled:false} and !${review.sharding.enabled:false}")
+    public ReadOnlyRoutingDataSource dataSource(
+        DataSourceProperties dataSourceProperties,
+        ReplicaProperties replicaProperties,
+        ReplicaMonitor replicaMonitor
+    ) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName("review-primary");
+        return new ReadOnlyRoutingDataSource(replicaMonitor.register(
+            new ReplicaSet("primary", primary, replicas(replicaProperties.getNodes(), "review"))));
+    }
+
+    public static List<DataSource> replicas(List<ReplicaProperties.Node> nodes, String poolPrefix) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (ReplicaProperties.Node node : nodes) {
+            replicas.add(pool(node.getUrl(), node.getUsername(), node.getPassword(), node.getDriverClassName(),
+                poolPrefix + "-replica-" + replicas.size()));
+        }
+        return replicas;
+    }
+
+    public static HikariDataSource pool(String url, String username, String password, String driverClassName,
+                                        String poolName) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        if (driverClassName != null) {
+            dataSource.setDriverClassName(driverClassName);
+        }
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,65 @@
+package com.reviewservice.replica;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread's reads as needing the primary, e.g. for a client that has just
+ * written and must see its own change before the replicas replay it.
+ */
+public final class ReplicaContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReplicaContext() {
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    /**
+     * Carries the caller's need for the primary over to a task run on another thread.
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        if (!isPrimaryRequired()) {
+            return task;
+        }
+        return () -> {
+            boolean previous = isPrimaryRequired();
+            requirePrimary();
+            try {
+                return task.get();
+            } finally {
+                if (!previous) {
+                    clear();
+                }
+            }
+        };
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        if (!isPrimaryRequired()) {
+            return task;
+        }
+        return () -> {
+            boolean previous = isPrimaryRequired();
+            requirePrimary();
+            try {
+                return task.call();
+            } finally {
+                if (!previous) {
+                    clear();
+                }
+            }
+        };
+    }
+}
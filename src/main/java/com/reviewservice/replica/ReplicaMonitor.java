@@ -0,0 +1,53 @@
+package com.reviewservice.replica;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health checks every registered replica set on a fixed delay, starting immediately.
+ */
+@Component
+@Slf4j
+public class ReplicaMonitor {
+
+    private final ReplicaProperties properties;
+    private final List<ReplicaSet> replicaSets = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("replica-health-"));
+
+    public ReplicaMonitor(ReplicaProperties properties) {
+        this.properties = properties;
+        if (properties.isEnabled()) {
+            long interval = properties.getHealthCheckInterval().toMillis();
+            scheduler.scheduleWithFixedDelay(this::checkAll, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public ReplicaSet register(ReplicaSet replicaSet) {
+        replicaSets.add(replicaSet);
+        return replicaSet;
+    }
+
+    void checkAll() {
+        for (ReplicaSet replicaSet : replicaSets) {
+            try {
+                replicaSet.checkHealth(properties.getMaxLag(), properties.getMaxLagBytes().toBytes());
+            } catch (RuntimeException e) {
+                log.warn("Health check of replica set {} failed", replicaSet.getName(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
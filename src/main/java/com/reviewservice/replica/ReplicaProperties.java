@@ -0,0 +1,38 @@
+package com.reviewservice.replica;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "review.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled;
+
+    // Replicas of spring.datasource; with sharding each shard lists its own
+    private List<Node> nodes = new ArrayList<>();
+
+    // Replicas further behind than this stop receiving reads until they catch up
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // Replicas with no more WAL than this left to replay count as current, whatever their replay age
+    private DataSize maxLagBytes = DataSize.ofMegabytes(1);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(2);
+
+    // How long a client that wrote keeps reading from the primary
+    private Duration stickyWindow = Duration.ofSeconds(10);
+
+    @Data
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -0,0 +1,192 @@
+package com.reviewservice.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A primary and its read replicas. Read-only transactions go to a healthy replica, round
+ * robin; everything else, and reads while no replica is healthy, go to the primary.
+ * Replicas start out unhealthy and receive reads only once a health check has measured
+ * their lag below the limit.
+ */
+@Slf4j
+public class ReplicaSet extends AbstractDataSource implements AutoCloseable {
+
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    // Bytes of WAL the replica has yet to replay, and how old its last replayed commit is
+    private static final String POSTGRES_REPLICA_LAG =
+        "SELECT pg_is_in_recovery(), pg_wal_lsn_diff(CAST(? AS pg_lsn), pg_last_wal_replay_lsn()), " +
+        "EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000";
+
+    private final String name;
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaSet(String name, DataSource primary, List<DataSource> replicas) {
+        this.name = name;
+        this.primary = primary;
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica(name + "-replica-" + i, replicas.get(i)));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    DataSource target() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicaContext.isPrimaryRequired()) {
+            return primary;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.dataSource;
+            }
+        }
+        return primary;
+    }
+
+    /**
+     * Measures every replica's lag and takes those behind by more than maxLag, or not
+     * answering, out of rotation. A replica with at most maxLagBytes of WAL left to replay
+     * counts as current.
+     */
+    public void checkHealth(Duration maxLag, long maxLagBytes) {
+        String primaryLsn = primaryWalPosition();
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try {
+                long lagMillis = measureLag(replica.dataSource, primaryLsn, maxLagBytes);
+                replica.lagMillis = lagMillis;
+                replica.healthy = lagMillis <= maxLag.toMillis();
+                if (!replica.healthy && wasHealthy) {
+                    log.warn("Replica {} is {}ms behind; sending its reads to the primary", replica.name, lagMillis);
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.healthy = false;
+                if (wasHealthy) {
+                    log.warn("Replica {} failed its health check; sending its reads to the primary", replica.name, e);
+                }
+            }
+            if (replica.healthy && !wasHealthy) {
+                log.info("Replica {} is healthy, {}ms behind", replica.name, replica.lagMillis);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    int healthyReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    // Null when the primary is not Postgres or cannot be reached
+    private String primaryWalPosition() {
+        try (Connection connection = primary.getConnection()) {
+            if (!isPostgres(connection)) {
+                return null;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+                try (ResultSet rs = statement.executeQuery("SELECT CAST(pg_current_wal_lsn() AS text)")) {
+                    return rs.next() ? rs.getString(1) : null;
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Could not read the WAL position of primary {}", name, e);
+            return null;
+        }
+    }
+
+    private long measureLag(DataSource replica, String primaryLsn, long maxLagBytes) throws SQLException {
+        try (Connection connection = replica.getConnection()) {
+            if (!isPostgres(connection)) {
+                if (!connection.isValid(CHECK_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Connection is not valid");
+                }
+                return 0;
+            }
+            if (primaryLsn == null) {
+                throw new SQLException("Primary WAL position unknown");
+            }
+            try (PreparedStatement statement = connection.prepareStatement(POSTGRES_REPLICA_LAG)) {
+                statement.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+                statement.setString(1, primaryLsn);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    if (!rs.getBoolean(1)) {
+                        throw new SQLException("Not in recovery; this is not a replica");
+                    }
+                    // An idle primary still writes small records (checkpoints, snapshots) that leave a
+                    // replica briefly behind while its last replayed commit is old, so the replay age
+                    // only measures lag once more than maxLagBytes of WAL are outstanding
+                    double bytesBehind = rs.getDouble(2);
+                    if (rs.wasNull()) {
+                        throw new SQLException("Replay position unknown");
+                    }
+                    if (bytesBehind <= maxLagBytes) {
+                        return 0;
+                    }
+                    double replayAgeMillis = rs.getDouble(3);
+                    if (rs.wasNull()) {
+                        throw new SQLException("Nothing replayed yet");
+                    }
+                    return (long) replayAgeMillis;
+                }
+            }
+        }
+    }
+
+    private boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy;
+        volatile long lagMillis;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
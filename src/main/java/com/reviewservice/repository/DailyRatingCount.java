@@ -0,0 +1,12 @@
+package com.reviewservice.repository;
+
+import java.time.LocalDate;
+
+public interface DailyRatingCount {
+
+    LocalDate getDay();
+
+    Integer getRating();
+
+    Long getReviews();
+}
@@ -0,0 +1,57 @@
+package com.reviewservice.repository;
+
+import com.reviewservice.entity.EntityVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface EntityVersionRepository extends JpaRepository<EntityVersion, Long> {
+
+    Optional<EntityVersion> findByEntityTypeAndEntityId(String entityType, String entityId);
+
+    List<EntityVersion> findByEntityTypeAndEntityIdIn(String entityType, Collection<String> entityIds);
+
+    // Versions bumped since a point in time, oldest first; pages by the last row's (updatedAt, id)
+    @Query("SELECT v FROM EntityVersion v " +
+           "WHERE v.updatedAt > :updatedAt OR (v.updatedAt = :updatedAt AND v.id > :id) " +
+           "ORDER BY v.updatedAt, v.id")
+    List<EntityVersion> findChangedAfter(
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("id") long id,
+        Pageable pageable
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM EntityVersion v WHERE v.entityType = :entityType AND v.entityId = :entityId")
+    Optional<EntityVersion> findForUpdate(
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId
+    );
+
+    // Postgres only: creates the row or bumps it in one statement, so first writers of an entity cannot collide
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO entity_versions (entity_type, entity_id, version, updated_at) " +
+                   "VALUES (:entityType, :entityId, 1, :updatedAt) " +
+                   "ON CONFLICT (entity_type, entity_id) DO UPDATE SET " +
+                   "version = entity_versions.version + 1, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    void upsertIncrement(
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+}
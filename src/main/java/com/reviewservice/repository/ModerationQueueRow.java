@@ -0,0 +1,30 @@
+package com.reviewservice.repository;
+
+import com.reviewservice.entity.ModerationStatus;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * The review columns a moderator needs to decide on a review, built directly by the query.
+ */
+@Value
+public class ModerationQueueRow {
+
+    public static final String SELECT = "SELECT new com.reviewservice.repository.ModerationQueueRow(" +
+        "r.id, r.entityType, r.entityId, r.userId, r.rating, r.title, r.comment, r.moderationStatus, " +
+        "r.moderatorId, r.moderationNote, r.moderatedAt, r.createdAt) FROM Review r ";
+
+    Long id;
+    String entityType;
+    String entityId;
+    String userId;
+    Integer rating;
+    String title;
+    String comment;
+    ModerationStatus moderationStatus;
+    String moderatorId;
+    String moderationNote;
+    LocalDateTime moderatedAt;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.reviewservice.repository;
+
+import com.reviewservice.entity.OutboxRelayLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OutboxRelayLeaseRepository extends JpaRepository<OutboxRelayLease, Integer> {
+
+    // Renews the lease for its owner, or takes it over once it has expired
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxRelayLease l SET l.owner = :owner, l.expiresAt = :expiresAt " +
+           "WHERE l.id = :id AND (l.owner = :owner OR l.expiresAt < :now)")
+    int claim(
+        @Param("id") Integer id,
+        @Param("owner") String owner,
+        @Param("now") LocalDateTime now,
+        @Param("expiresAt") LocalDateTime expiresAt
+    );
+}
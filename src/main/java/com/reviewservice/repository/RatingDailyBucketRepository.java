@@ -0,0 +1,73 @@
+package com.reviewservice.repository;
+
+import com.reviewservice.entity.RatingDailyBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Transactional(readOnly = true)
+public interface RatingDailyBucketRepository extends JpaRepository<RatingDailyBucket, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RatingDailyBucket b WHERE b.entityType = :entityType " +
+           "AND b.entityId = :entityId AND b.bucketDate = :bucketDate")
+    Optional<RatingDailyBucket> findForUpdate(
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId,
+        @Param("bucketDate") LocalDate bucketDate
+    );
+
+    // Postgres only: creates the bucket or adds to it in one statement, so first writers of a day cannot collide
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO rating_daily_buckets (entity_type, entity_id, bucket_date, review_count, rating_sum, " +
+                   "five_star_count, four_star_count, three_star_count, two_star_count, one_star_count) " +
+                   "VALUES (:#{#delta.entityType}, :#{#delta.entityId}, :#{#delta.bucketDate}, :#{#delta.reviewCount}, " +
+                   ":#{#delta.ratingSum}, :#{#delta.fiveStarCount}, :#{#delta.fourStarCount}, " +
+                   ":#{#delta.threeStarCount}, :#{#delta.twoStarCount}, :#{#delta.oneStarCount}) " +
+                   "ON CONFLICT (entity_type, entity_id, bucket_date) DO UPDATE SET " +
+                   "review_count = rating_daily_buckets.review_count + EXCLUDED.review_count, " +
+                   "rating_sum = rating_daily_buckets.rating_sum + EXCLUDED.rating_sum, " +
+                   "five_star_count = rating_daily_buckets.five_star_count + EXCLUDED.five_star_count, " +
+                   "four_star_count = rating_daily_buckets.four_star_count + EXCLUDED.four_star_count, " +
+                   "three_star_count = rating_daily_buckets.three_star_count + EXCLUDED.three_star_count, " +
+                   "two_star_count = rating_daily_buckets.two_star_count + EXCLUDED.two_star_count, " +
+                   "one_star_count = rating_daily_buckets.one_star_count + EXCLUDED.one_star_count",
+           nativeQuery = true)
+    void upsertAdd(@Param("delta") RatingDailyBucket delta);
+
+    List<RatingDailyBucket> findByEntityTypeAndEntityIdAndBucketDateBetweenOrderByBucketDateAsc(
+        String entityType,
+        String entityId,
+        LocalDate from,
+        LocalDate to
+    );
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RatingDailyBucket b WHERE b.entityType = :entityType AND b.entityId = :entityId")
+    int deleteByEntity(@Param("entityType") String entityType, @Param("entityId") String entityId);
+
+    @Query("SELECT COALESCE(SUM(b.reviewCount), 0) AS reviewCount, COALESCE(SUM(b.ratingSum), 0) AS ratingSum, " +
+           "COALESCE(SUM(b.fiveStarCount), 0) AS fiveStarCount, COALESCE(SUM(b.fourStarCount), 0) AS fourStarCount, " +
+           "COALESCE(SUM(b.threeStarCount), 0) AS threeStarCount, COALESCE(SUM(b.twoStarCount), 0) AS twoStarCount, " +
+           "COALESCE(SUM(b.oneStarCount), 0) AS oneStarCount " +
+           "FROM RatingDailyBucket b WHERE b.entityType = :entityType AND b.entityId = :entityId " +
+           "AND b.bucketDate BETWEEN :from AND :to")
+    RatingWindowTotals sumWindow(
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+}
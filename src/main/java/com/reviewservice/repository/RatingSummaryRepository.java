@@ -1,13 +1,61 @@
 package com.reviewservice.repository;
 
 import com.reviewservice.entity.RatingSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface RatingSummaryRepository extends JpaRepository<RatingSummary, Long> {
 
     Optional<RatingSummary> findByEntityTypeAndEntityId(String entityType, String entityId);
+
+    List<RatingSummary> findByEntityTypeAndEntityIdIn(String entityType, Collection<String> entityIds);
+
+    @Query("SELECT s.id FROM RatingSummary s WHERE s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Computed from the row's current counts, so it never writes back counts read earlier
+    @Modifying
+    @Transactional
+    @Query("UPDATE RatingSummary s SET s.bayesianScore = CASE WHEN :priorWeight + s.totalReviews = 0 THEN 0.0 " +
+           "ELSE (:priorWeight * :priorMean + 5 * s.fiveStarCount + 4 * s.fourStarCount + 3 * s.threeStarCount " +
+           "+ 2 * s.twoStarCount + s.oneStarCount) / (:priorWeight + s.totalReviews) END " +
+           "WHERE s.id IN :ids")
+    int rescore(
+        @Param("ids") Collection<Long> ids,
+        @Param("priorMean") double priorMean,
+        @Param("priorWeight") double priorWeight
+    );
+
+    @Query("SELECT s FROM RatingSummary s WHERE s.entityType = :entityType " +
+           "AND s.totalReviews >= :minReviews " +
+           "ORDER BY s.bayesianScore DESC, s.id DESC")
+    List<RatingSummary> findLeaderboard(
+        @Param("entityType") String entityType,
+        @Param("minReviews") Integer minReviews,
+        Pageable pageable
+    );
+
+    // Keyset continuation: rows strictly after (score, id) in leaderboard order
+    @Query("SELECT s FROM RatingSummary s WHERE s.entityType = :entityType " +
+           "AND s.totalReviews >= :minReviews " +
+           "AND (s.bayesianScore < :score OR (s.bayesianScore = :score AND s.id < :id)) " +
+           "ORDER BY s.bayesianScore DESC, s.id DESC")
+    List<RatingSummary> findLeaderboardAfter(
+        @Param("entityType") String entityType,
+        @Param("minReviews") Integer minReviews,
+        @Param("score") Double score,
+        @Param("id") Long id,
+        Pageable pageable
+    );
 }
@@ -0,0 +1,18 @@
+package com.reviewservice.repository;
+
+public interface RatingWindowTotals {
+
+    Long getReviewCount();
+
+    Long getRatingSum();
+
+    Long getFiveStarCount();
+
+    Long getFourStarCount();
+
+    Long getThreeStarCount();
+
+    Long getTwoStarCount();
+
+    Long getOneStarCount();
+}
@@ -0,0 +1,15 @@
+package com.reviewservice.repository;
+
+import lombok.Value;
+
+/**
+ * Who reviewed which entity, for warming the duplicate review filter.
+ */
+@Value
+public class ReviewAuthorRow {
+
+    Long id;
+    String entityType;
+    String entityId;
+    String userId;
+}
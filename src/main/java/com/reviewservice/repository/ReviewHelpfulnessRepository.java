@@ -2,16 +2,31 @@ package com.reviewservice.repository;
 
 import com.reviewservice.entity.ReviewHelpfulness;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface ReviewHelpfulnessRepository extends JpaRepository<ReviewHelpfulness, Long> {
 
     Optional<ReviewHelpfulness> findByReviewIdAndUserId(Long reviewId, String userId);
 
     boolean existsByReviewIdAndUserId(Long reviewId, String userId);
 
+    // Served by the (reviewId, userId, reviewCreatedAt) unique index
+    @Query("SELECT new com.reviewservice.repository.ViewerVoteRow(h.reviewId, h.helpful) " +
+           "FROM ReviewHelpfulness h WHERE h.reviewId IN :reviewIds AND h.userId = :userId")
+    List<ViewerVoteRow> findViewerVotes(
+        @Param("reviewIds") Collection<Long> reviewIds,
+        @Param("userId") String userId
+    );
+
+    @Transactional
     void deleteByReviewIdAndUserId(Long reviewId, String userId);
 }
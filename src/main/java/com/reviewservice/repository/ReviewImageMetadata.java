@@ -0,0 +1,18 @@
+package com.reviewservice.repository;
+
+import java.time.LocalDateTime;
+
+public interface ReviewImageMetadata {
+
+    Long getId();
+
+    Long getReviewId();
+
+    String getFileName();
+
+    String getContentType();
+
+    Long getFileSize();
+
+    LocalDateTime getUploadedAt();
+}
@@ -2,14 +2,29 @@ package com.reviewservice.repository;
 
 import com.reviewservice.entity.ReviewImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long> {
 
     List<ReviewImage> findByReviewId(Long reviewId);
 
+    @Query("SELECT i.id AS id, i.reviewId AS reviewId, i.fileName AS fileName, " +
+           "i.contentType AS contentType, i.fileSize AS fileSize, i.uploadedAt AS uploadedAt " +
+           "FROM ReviewImage i WHERE i.reviewId IN :reviewIds ORDER BY i.id")
+    List<ReviewImageMetadata> findMetadataByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+
+    @Query("SELECT i.reviewId FROM ReviewImage i WHERE i.id = :imageId")
+    Optional<Long> findReviewIdById(@Param("imageId") Long imageId);
+
+    @Transactional
     void deleteByReviewId(Long reviewId);
 }
@@ -0,0 +1,41 @@
+package com.reviewservice.repository;
+
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * The review columns a listing shows, built directly by the query. Unlike a loaded
+ * {@code Review} it is never managed, so a page costs no snapshots or dirty checks.
+ */
+@Value
+public class ReviewListRow {
+
+    public static final String SELECT = "SELECT new com.reviewservice.repository.ReviewListRow(" +
+        "r.id, r.entityType, r.entityId, r.userId, r.rating, r.title, r.comment, r.verified, " +
+        "r.helpfulCount, r.unhelpfulCount, r.responseCount, r.status, r.createdAt, r.updatedAt) FROM Review r ";
+
+    Long id;
+    String entityType;
+    String entityId;
+    String userId;
+    Integer rating;
+    String title;
+    String comment;
+    Boolean verified;
+    Integer helpfulCount;
+    Integer unhelpfulCount;
+    Integer responseCount;
+    ReviewStatus status;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+
+    public static ReviewListRow of(Review review) {
+        return new ReviewListRow(review.getId(), review.getEntityType(), review.getEntityId(), review.getUserId(),
+            review.getRating(), review.getTitle(), review.getComment(), review.getVerified(),
+            review.getHelpfulCount(), review.getUnhelpfulCount(), review.getResponseCount(), review.getStatus(),
+            review.getCreatedAt(), review.getUpdatedAt());
+    }
+}
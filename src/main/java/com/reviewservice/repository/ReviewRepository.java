@@ -1,58 +1,223 @@
 package com.reviewservice.repository;
 
+import com.reviewservice.entity.ModerationStatus;
 import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
+@Transactional(readOnly = true)
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    Page<Review> findByEntityTypeAndEntityIdAndStatus(
+    @Query(value = ReviewListRow.SELECT +
+           "WHERE r.entityType = :entityType AND r.entityId = :entityId AND r.status = :status",
+           countQuery = "SELECT COUNT(r) FROM Review r " +
+           "WHERE r.entityType = :entityType AND r.entityId = :entityId AND r.status = :status")
+    Page<ReviewListRow> findRowsByEntity(
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId,
+        @Param("status") ReviewStatus status,
+        Pageable pageable
+    );
+
+    // Keyset chunks for streaming every review of an entity: no count, and no rows repeated
+    // or skipped when others are added or deleted in between
+    @Query(ReviewListRow.SELECT + "WHERE r.entityType = :entityType AND r.entityId = :entityId " +
+           "AND r.status = :status AND r.id > :afterId ORDER BY r.id")
+    List<ReviewListRow> findRowsByEntityAfter(
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId,
+        @Param("status") ReviewStatus status,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    @Query(value = ReviewListRow.SELECT + "WHERE r.userId = :userId AND r.status = :status",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.userId = :userId AND r.status = :status")
+    Page<ReviewListRow> findRowsByUser(
+        @Param("userId") String userId,
+        @Param("status") ReviewStatus status,
+        Pageable pageable
+    );
+
+    @Query(ReviewListRow.SELECT + "WHERE r.id IN :ids AND r.entityType = :entityType " +
+           "AND r.entityId = :entityId AND r.status = :status")
+    List<ReviewListRow> findRowsByIds(
+        @Param("ids") Collection<Long> ids,
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId,
+        @Param("status") ReviewStatus status
+    );
+
+    Optional<Review> findByIdAndStatus(Long id, ReviewStatus status);
+
+    Optional<Review> findByIdAndStatusAndCreatedAtBetween(
+        Long id,
+        ReviewStatus status,
+        LocalDateTime from,
+        LocalDateTime to
+    );
+
+    // Scans for indexing only read the reviews, so they skip the persistence context snapshots
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Review> findByIdGreaterThanAndStatusOrderByIdAsc(Long id, ReviewStatus status, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Review> findByEntityTypeAndEntityIdAndStatusAndIdGreaterThanOrderByIdAsc(
         String entityType,
         String entityId,
-        String status,
+        ReviewStatus status,
+        Long id,
         Pageable pageable
     );
 
-    Page<Review> findByUserIdAndStatus(String userId, String status, Pageable pageable);
+    // Reviews of any status, so deletions are seen too
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Review> findByEntityTypeAndEntityIdAndUpdatedAtGreaterThanEqual(
+        String entityType,
+        String entityId,
+        LocalDateTime updatedAt
+    );
+
+    // Entities with reviews of any status, so entities whose reviews were all deleted are revisited too
+    @Query("SELECT DISTINCT r.entityType AS entityType, r.entityId AS entityId FROM Review r " +
+           "WHERE r.entityType > :entityType OR (r.entityType = :entityType AND r.entityId > :entityId) " +
+           "ORDER BY r.entityType, r.entityId")
+    List<ReviewedEntityRow> findEntitiesAfter(
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId,
+        Pageable pageable
+    );
 
-    Optional<Review> findByIdAndStatus(Long id, String status);
+    @Query("SELECT cast(r.createdAt AS LocalDate) AS day, r.rating AS rating, COUNT(r) AS reviews FROM Review r " +
+           "WHERE r.entityType = :entityType AND r.entityId = :entityId AND r.status = :status " +
+           "GROUP BY cast(r.createdAt AS LocalDate), r.rating")
+    List<DailyRatingCount> countDailyRatings(
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId,
+        @Param("status") ReviewStatus status
+    );
 
     boolean existsByEntityTypeAndEntityIdAndUserId(String entityType, String entityId, String userId);
 
-    @Query("SELECT r FROM Review r WHERE r.entityType = :entityType " +
+    // "entityType:entityId" of the review, as rate limits key entities
+    @Query("SELECT CONCAT(r.entityType, ':', r.entityId) FROM Review r WHERE r.id = :id")
+    Optional<String> findEntityKey(@Param("id") Long id);
+
+    @Query("SELECT new com.reviewservice.repository.ReviewAuthorRow(r.id, r.entityType, r.entityId, r.userId) " +
+           "FROM Review r WHERE r.id > :afterId ORDER BY r.id")
+    List<ReviewAuthorRow> findAuthorsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(value = ReviewListRow.SELECT + "WHERE r.entityType = :entityType " +
+           "AND r.entityId = :entityId AND r.status = :status " +
+           "AND (:minRating IS NULL OR r.rating >= :minRating) " +
+           "AND (:maxRating IS NULL OR r.rating <= :maxRating)",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.entityType = :entityType " +
            "AND r.entityId = :entityId AND r.status = :status " +
            "AND (:minRating IS NULL OR r.rating >= :minRating) " +
            "AND (:maxRating IS NULL OR r.rating <= :maxRating)")
-    Page<Review> findByEntityAndRatingRange(
+    Page<ReviewListRow> findRowsByEntityAndRatingRange(
         @Param("entityType") String entityType,
         @Param("entityId") String entityId,
-        @Param("status") String status,
+        @Param("status") ReviewStatus status,
         @Param("minRating") Integer minRating,
         @Param("maxRating") Integer maxRating,
         Pageable pageable
     );
 
-    @Query("SELECT r FROM Review r WHERE r.entityType = :entityType " +
-           "AND r.entityId = :entityId AND r.status = :status " +
-           "AND r.verified = true")
-    Page<Review> findVerifiedReviews(
+    @Query(value = ReviewListRow.SELECT + "WHERE r.entityType = :entityType " +
+           "AND r.entityId = :entityId AND r.status = :status AND r.verified = true",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.entityType = :entityType " +
+           "AND r.entityId = :entityId AND r.status = :status AND r.verified = true")
+    Page<ReviewListRow> findVerifiedRows(
+        @Param("entityType") String entityType,
+        @Param("entityId") String entityId,
+        @Param("status") ReviewStatus status,
+        Pageable pageable
+    );
+
+    @Query(ReviewListRow.SELECT + "WHERE r.entityType = :entityType AND r.entityId = :entityId " +
+           "AND r.status = :status AND r.helpfulCount > :helpfulCount")
+    List<ReviewListRow> findRowsByEntityAndHelpfulCountGreaterThan(
         @Param("entityType") String entityType,
         @Param("entityId") String entityId,
-        @Param("status") String status,
+        @Param("status") ReviewStatus status,
+        @Param("helpfulCount") Integer helpfulCount,
         Pageable pageable
     );
 
     List<Review> findByEntityTypeAndEntityIdAndStatusOrderByCreatedAtDesc(
         String entityType,
         String entityId,
-        String status
+        ReviewStatus status
+    );
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Review r SET r.responseCount = r.responseCount + 1 WHERE r.id = :id")
+    int incrementResponseCount(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Review r SET r.moderationStatus = :pending, r.moderatedAt = :moderatedAt, " +
+           "r.moderatorId = :moderatorId, r.moderationNote = :note " +
+           "WHERE r.id IN :ids AND r.status = :active AND r.moderationStatus IS NULL")
+    int flagForModeration(
+        @Param("ids") Collection<Long> ids,
+        @Param("moderatorId") String moderatorId,
+        @Param("note") String note,
+        @Param("moderatedAt") LocalDateTime moderatedAt,
+        @Param("pending") ModerationStatus pending,
+        @Param("active") ReviewStatus active
+    );
+
+    @Query(ModerationQueueRow.SELECT + "WHERE r.moderationStatus = :moderationStatus AND r.id > :afterId " +
+           "ORDER BY r.id")
+    List<ModerationQueueRow> findModerationQueue(
+        @Param("moderationStatus") ModerationStatus moderationStatus,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    // Also stamps updatedAt, which compaction's retention is measured from
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Review r SET r.moderationStatus = :decision, r.status = :status, " +
+           "r.moderatedAt = :moderatedAt, r.moderatorId = :moderatorId, " +
+           "r.moderationNote = COALESCE(:note, r.moderationNote), r.updatedAt = :moderatedAt " +
+           "WHERE r.id IN :ids AND r.status = :active AND r.moderationStatus IN :from")
+    int applyModerationDecision(
+        @Param("ids") Collection<Long> ids,
+        @Param("from") Collection<ModerationStatus> from,
+        @Param("decision") ModerationStatus decision,
+        @Param("status") ReviewStatus status,
+        @Param("moderatorId") String moderatorId,
+        @Param("note") String note,
+        @Param("moderatedAt") LocalDateTime moderatedAt,
+        @Param("active") ReviewStatus active
+    );
+
+    @Query(ReviewListRow.SELECT + "WHERE r.id IN :ids AND r.moderationStatus = :decision " +
+           "AND r.moderatorId = :moderatorId AND r.moderatedAt = :moderatedAt")
+    List<ReviewListRow> findRowsByModerationDecision(
+        @Param("ids") Collection<Long> ids,
+        @Param("decision") ModerationStatus decision,
+        @Param("moderatorId") String moderatorId,
+        @Param("moderatedAt") LocalDateTime moderatedAt
     );
 }
@@ -2,14 +2,26 @@ package com.reviewservice.repository;
 
 import com.reviewservice.entity.ReviewResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
+@Transactional(readOnly = true)
 public interface ReviewResponseRepository extends JpaRepository<ReviewResponse, Long> {
 
     List<ReviewResponse> findByReviewIdOrderByCreatedAtDesc(Long reviewId);
 
     List<ReviewResponse> findByResponderIdOrderByCreatedAtDesc(String responderId);
+
+    @Query(value = "SELECT id, review_id, responder_id, responder_type, response, created_at, updated_at FROM (" +
+                   "SELECT rr.*, ROW_NUMBER() OVER (PARTITION BY rr.review_id " +
+                   "ORDER BY rr.created_at DESC, rr.id DESC) AS position " +
+                   "FROM review_responses rr WHERE rr.review_id IN (:reviewIds)) ranked WHERE position = 1",
+           nativeQuery = true)
+    List<ReviewResponse> findLatestByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -0,0 +1,8 @@
+package com.reviewservice.repository;
+
+public interface ReviewedEntityRow {
+
+    String getEntityType();
+
+    String getEntityId();
+}
@@ -0,0 +1,10 @@
+package com.reviewservice.repository;
+
+import lombok.Value;
+
+@Value
+public class ViewerVoteRow {
+
+    Long reviewId;
+    Boolean helpful;
+}
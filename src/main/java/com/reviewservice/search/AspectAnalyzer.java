@@ -0,0 +1,78 @@
+package com.reviewservice.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns a comment into aspect terms: lowercased, stopwords and review filler removed, Porter
+ * stemmed. Each stem keeps the surface word it came from so chips read "battery", not "batteri".
+ */
+public class AspectAnalyzer {
+
+    private static final int MIN_TERM_LENGTH = 3;
+
+    // Words that appear in most reviews and never make a useful chip
+    private static final List<String> REVIEW_FILLER = List.of(
+        "about", "after", "again", "all", "also", "am", "any", "because", "been", "before", "best",
+        "better", "bit", "bought", "can", "could", "did", "does", "doesn't", "don't", "even", "ever",
+        "excellent", "get", "got", "great", "good", "had", "has", "have", "her", "him", "his", "how",
+        "i", "i'm", "i've", "it's", "just", "like", "love", "lot", "me", "more", "most", "much", "my",
+        "nice", "one", "only", "our", "overall", "product", "really", "recommend", "she", "should",
+        "so", "some", "still", "than", "thing", "too", "use", "used", "very", "was", "we", "well",
+        "were", "what", "when", "which", "who", "would", "you", "your"
+    );
+
+    private final Analyzer analyzer;
+
+    public AspectAnalyzer() {
+        CharArraySet stopwords = new CharArraySet(EnglishAnalyzer.ENGLISH_STOP_WORDS_SET, true);
+        stopwords.addAll(REVIEW_FILLER);
+        this.analyzer = new EnglishAnalyzer(stopwords);
+    }
+
+    /**
+     * Distinct stems in the text, each mapped to the shortest surface word seen for it.
+     */
+    public Map<String, String> terms(String text) {
+        Map<String, String> terms = new LinkedHashMap<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        try (TokenStream stream = analyzer.tokenStream("comment", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            OffsetAttribute offset = stream.addAttribute(OffsetAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                String stem = term.toString();
+                if (stem.length() < MIN_TERM_LENGTH || !Character.isLetter(stem.charAt(0))) {
+                    continue;
+                }
+                String surface = text.substring(offset.startOffset(), offset.endOffset()).toLowerCase(Locale.ROOT);
+                terms.merge(stem, surface, (a, b) -> b.length() < a.length() ? b : a);
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to analyze review text", e);
+        }
+        return terms;
+    }
+
+    /**
+     * The stem a user-supplied aspect maps to, or null when it is a stopword.
+     */
+    public String stem(String aspect) {
+        return terms(aspect).keySet().stream().findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.reviewservice.search;
+
+import com.reviewservice.dto.AspectCountDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Postings of one entity's reviews: stem to the ids of reviews mentioning it, plus the
+ * forward map needed to retract a review's old terms when it is edited or deleted.
+ * Updates are idempotent, so replaying an event the initial load already saw is harmless.
+ */
+class EntityAspectIndex {
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Set<String>> reviewTerms = new HashMap<>();
+
+    synchronized void put(Long reviewId, Map<String, String> terms) {
+        remove(reviewId);
+        for (Map.Entry<String, String> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), stem -> new Postings(term.getValue()))
+                .add(reviewId, term.getValue());
+        }
+        if (!terms.isEmpty()) {
+            reviewTerms.put(reviewId, terms.keySet());
+        }
+    }
+
+    synchronized void remove(Long reviewId) {
+        Set<String> previous = reviewTerms.remove(reviewId);
+        if (previous == null) {
+            return;
+        }
+        for (String stem : previous) {
+            Postings list = postings.get(stem);
+            if (list != null && list.remove(reviewId)) {
+                postings.remove(stem);
+            }
+        }
+    }
+
+    synchronized List<AspectCountDto> top(int limit, int minCount) {
+        Comparator<Map.Entry<String, Postings>> byCount = Comparator
+            .comparingInt((Map.Entry<String, Postings> e) -> e.getValue().reviewIds.size())
+            .thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+
+        // Bounded min-heap: O(terms * log k) instead of sorting the whole vocabulary
+        PriorityQueue<Map.Entry<String, Postings>> heap = new PriorityQueue<>(limit + 1, byCount);
+        for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+            if (entry.getValue().reviewIds.size() < minCount) {
+                continue;
+            }
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<AspectCountDto> top = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            Map.Entry<String, Postings> entry = heap.poll();
+            top.add(AspectCountDto.builder()
+                .aspect(entry.getValue().label)
+                .count(entry.getValue().reviewIds.size())
+                .build());
+        }
+        Collections.reverse(top);
+        return top;
+    }
+
+    /**
+     * Newest-first slice of the reviews mentioning the stem, plus the total count.
+     */
+    synchronized Page<Long> reviewIds(String stem, Pageable pageable) {
+        Postings list = postings.get(stem);
+        if (list == null) {
+            return Page.empty(pageable);
+        }
+        List<Long> ids = list.reviewIds.descendingSet().stream()
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .toList();
+        return new PageImpl<>(ids, pageable, list.reviewIds.size());
+    }
+
+    synchronized int reviewCount() {
+        return reviewTerms.size();
+    }
+
+    private static class Postings {
+
+        private final NavigableSet<Long> reviewIds = new TreeSet<>();
+        private String label;
+
+        Postings(String label) {
+            this.label = label;
+        }
+
+        void add(Long reviewId, String surface) {
+            reviewIds.add(reviewId);
+            if (surface.length() < label.length()) {
+                label = surface;
+            }
+        }
+
+        boolean remove(Long reviewId) {
+            reviewIds.remove(reviewId);
+            return reviewIds.isEmpty();
+        }
+    }
+}
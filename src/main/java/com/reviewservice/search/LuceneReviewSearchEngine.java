@@ -0,0 +1,340 @@
+package com.reviewservice.search;
+
+import com.reviewservice.dto.ReviewSearchResultDto;
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.exception.InvalidRequestException;
+import com.reviewservice.repository.EntityVersionRepository;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded Lucene alternative to the Postgres search engine. The index lives in memory, or
+ * under {@code review.search.lucene.path} when set, and is rebuilt from the database on
+ * startup when empty. Writes are applied after their transaction commits and become
+ * searchable at the next near-real-time refresh, every {@code refresh-interval}. Writes
+ * made through other instances are read from the database every {@code catch-up-interval}.
+ * An index on disk is committed every {@code commit-interval} and on shutdown, with the
+ * point the catch-up had reached, so a restart catches up from there; a crash loses the
+ * changes since the last commit until the directory is deleted and the index rebuilt.
+ */
+@Component
+@ConditionalOnProperty(name = "review.search.engine", havingValue = "lucene")
+@Slf4j
+public class LuceneReviewSearchEngine implements ReviewSearchEngine {
+
+    static final String ID = "id";
+    static final String ENTITY_TYPE = "entityType";
+    static final String ENTITY_ID = "entityId";
+    static final String USER_ID = "userId";
+    static final String RATING = "rating";
+    static final String VERIFIED = "verified";
+    static final String TITLE = "title";
+    static final String COMMENT = "comment";
+    static final String CREATED_AT = "createdAt";
+
+    // Commit data: how far the catch-up had read when the index was committed
+    private static final String CAUGHT_UP_TO = "caughtUpTo";
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    // Deepest match a page may reach; Lucene collects every match up to it for each search
+    static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final ReviewRepository reviewRepository;
+    private final ShardRouter shardRouter;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final Directory directory;
+    private final boolean durable;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ReviewChangeTail changeTail;
+
+    public LuceneReviewSearchEngine(
+        ReviewRepository reviewRepository,
+        EntityVersionRepository entityVersionRepository,
+        ShardRouter shardRouter,
+        @Value("${review.search.lucene.path:}") String indexPath,
+        @Value("${review.search.catch-up-lag:1m}") Duration catchUpLag
+    ) throws IOException {
+        this.reviewRepository = reviewRepository;
+        this.shardRouter = shardRouter;
+        this.durable = !indexPath.isBlank();
+        this.directory = durable ? FSDirectory.open(Path.of(indexPath)) : new ByteBuffersDirectory();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.changeTail = new ReviewChangeTail(
+            entityVersionRepository, reviewRepository, shardRouter, catchUpLag, caughtUpTo());
+    }
+
+    // From the last commit of an index on disk; an index built now starts from the database as it is
+    private LocalDateTime caughtUpTo() {
+        Map<String, String> commitData = new HashMap<>();
+        Iterable<Map.Entry<String, String>> liveCommitData = writer.getLiveCommitData();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        }
+        String caughtUpTo = commitData.get(CAUGHT_UP_TO);
+        return caughtUpTo != null ? LocalDateTime.parse(caughtUpTo) : LocalDateTime.now();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() throws IOException {
+        if (writer.getDocStats().numDocs > 0) {
+            return;
+        }
+
+        log.info("Building review search index");
+        AtomicLong indexed = new AtomicLong();
+        shardRouter.forEachShard(shard -> indexed.addAndGet(indexShard()));
+
+        writer.commit();
+        searcherManager.maybeRefresh();
+        log.info("Review search index built with {} reviews", indexed.get());
+    }
+
+    private long indexShard() {
+        long indexed = 0;
+        Long afterId = 0L;
+        List<Review> batch;
+        do {
+            batch = reviewRepository.findByIdGreaterThanAndStatusOrderByIdAsc(
+                afterId, ReviewStatus.ACTIVE, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Review review : batch) {
+                try {
+                    writer.updateDocument(new Term(ID, review.getId().toString()), toDocument(
+                        ReviewChangedEvent.created(review)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to index review ID: " + review.getId(), e);
+                }
+                afterId = review.getId();
+            }
+            indexed += batch.size();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        return indexed;
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        try {
+            Term id = new Term(ID, event.getReviewId().toString());
+            if (event.getType() == ReviewChangedEvent.Type.DELETED) {
+                writer.deleteDocuments(id);
+            } else {
+                writer.updateDocument(id, toDocument(event));
+            }
+        } catch (IOException e) {
+            log.error("Failed to index review ID: {}", event.getReviewId(), e);
+        }
+    }
+
+    /**
+     * Applies reviews written through other instances since the last catch-up. Reviews
+     * written through this one are read again as well; indexing them twice changes nothing.
+     */
+    @Scheduled(fixedDelayString = "${review.search.lucene.catch-up-interval:PT5S}")
+    public void catchUp() {
+        try {
+            changeTail.poll((entityType, entityId) -> true, review -> onReviewChanged(
+                review.getStatus() == ReviewStatus.ACTIVE
+                    ? ReviewChangedEvent.updated(review, null)
+                    : ReviewChangedEvent.deleted(review)));
+        } catch (RuntimeException e) {
+            log.error("Failed to catch up the review search index", e);
+        }
+    }
+
+    // Reopens searchers from the writer's buffer, without a commit
+    @Scheduled(fixedDelayString = "${review.search.lucene.refresh-interval:PT1S}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.error("Failed to refresh the review search index", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${review.search.lucene.commit-interval:PT30S}")
+    public void commit() {
+        if (!durable || !writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.setLiveCommitData(caughtUpToCommitData());
+            writer.commit();
+        } catch (IOException e) {
+            log.error("Failed to commit the review search index", e);
+        }
+    }
+
+    @Override
+    public Page<ReviewSearchResultDto> search(ReviewSearchQuery query, Pageable pageable) {
+        log.info("Searching reviews for: {}", query.getText());
+
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_RESULT_WINDOW) {
+            throw new InvalidRequestException("Search pages reach at most the first " + MAX_RESULT_WINDOW + " matches");
+        }
+
+        Query luceneQuery = toLuceneQuery(query);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int offset = (int) pageable.getOffset();
+                TopDocs topDocs = searcher.search(luceneQuery, offset + pageable.getPageSize());
+                ScoreDoc[] pageDocs = Arrays.copyOfRange(
+                    topDocs.scoreDocs, Math.min(offset, topDocs.scoreDocs.length), topDocs.scoreDocs.length);
+
+                List<ReviewSearchResultDto> results = new ArrayList<>(pageDocs.length);
+                if (pageDocs.length > 0) {
+                    TopDocs page = new TopDocs(topDocs.totalHits, pageDocs);
+                    UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                        .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", " ... ", false))
+                        .build();
+                    String[] titles = highlighter.highlight(TITLE, luceneQuery, page, 1);
+                    String[] comments = highlighter.highlight(COMMENT, luceneQuery, page, 2);
+
+                    StoredFields storedFields = searcher.storedFields();
+                    for (int i = 0; i < pageDocs.length; i++) {
+                        Document doc = storedFields.document(pageDocs[i].doc);
+                        results.add(toResult(doc, pageDocs[i].score, titles[i], comments[i]));
+                    }
+                }
+
+                return new PageImpl<>(results, pageable, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Review search failed", e);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        searcherManager.close();
+        // Closing commits
+        writer.setLiveCommitData(caughtUpToCommitData());
+        writer.close();
+        directory.close();
+    }
+
+    private Iterable<Map.Entry<String, String>> caughtUpToCommitData() {
+        return Map.of(CAUGHT_UP_TO, changeTail.polledTo().toString()).entrySet();
+    }
+
+    private Query toLuceneQuery(ReviewSearchQuery query) {
+        // The simple syntax never throws on user input and supports "quoted phrases", + | and -
+        Query text = new SimpleQueryParser(analyzer, Map.of(TITLE, 2f, COMMENT, 1f)).parse(query.getText());
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(text, BooleanClause.Occur.MUST);
+        if (query.getEntityType() != null) {
+            builder.add(new TermQuery(new Term(ENTITY_TYPE, query.getEntityType())), BooleanClause.Occur.FILTER);
+        }
+        if (query.getEntityId() != null) {
+            builder.add(new TermQuery(new Term(ENTITY_ID, query.getEntityId())), BooleanClause.Occur.FILTER);
+        }
+        if (query.getMinRating() != null || query.getMaxRating() != null) {
+            builder.add(IntPoint.newRangeQuery(RATING,
+                query.getMinRating() != null ? query.getMinRating() : Integer.MIN_VALUE,
+                query.getMaxRating() != null ? query.getMaxRating() : Integer.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+        if (Boolean.TRUE.equals(query.getVerifiedOnly())) {
+            builder.add(new TermQuery(new Term(VERIFIED, "true")), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private Document toDocument(ReviewChangedEvent review) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, review.getReviewId().toString(), Field.Store.YES));
+        doc.add(new StringField(ENTITY_TYPE, review.getEntityType(), Field.Store.YES));
+        doc.add(new StringField(ENTITY_ID, review.getEntityId(), Field.Store.YES));
+        doc.add(new StoredField(USER_ID, review.getUserId()));
+        doc.add(new IntPoint(RATING, review.getRating()));
+        doc.add(new StoredField(RATING, review.getRating()));
+        doc.add(new StringField(VERIFIED, String.valueOf(Boolean.TRUE.equals(review.getVerified())), Field.Store.YES));
+        doc.add(new TextField(TITLE, review.getTitle() != null ? review.getTitle() : "", Field.Store.YES));
+        doc.add(new TextField(COMMENT, review.getComment() != null ? review.getComment() : "", Field.Store.YES));
+        if (review.getCreatedAt() != null) {
+            doc.add(new StoredField(CREATED_AT,
+                review.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        }
+        return doc;
+    }
+
+    private ReviewSearchResultDto toResult(Document doc, float score, String titleHighlight, String commentHighlight) {
+        String title = doc.get(TITLE);
+        String comment = doc.get(COMMENT);
+        return ReviewSearchResultDto.builder()
+            .id(Long.valueOf(doc.get(ID)))
+            .entityType(doc.get(ENTITY_TYPE))
+            .entityId(doc.get(ENTITY_ID))
+            .userId(doc.get(USER_ID))
+            .rating(doc.getField(RATING).numericValue().intValue())
+            .title(title.isEmpty() ? null : title)
+            .comment(comment.isEmpty() ? null : comment)
+            .verified(Boolean.valueOf(doc.get(VERIFIED)))
+            .createdAt(doc.getField(CREATED_AT) != null
+                ? LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(doc.getField(CREATED_AT).numericValue().longValue()), ZoneId.systemDefault())
+                : null)
+            .score((double) score)
+            .titleHighlight(titleHighlight)
+            .commentHighlight(commentHighlight)
+            .build();
+    }
+}
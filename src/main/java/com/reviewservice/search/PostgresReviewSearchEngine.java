@@ -0,0 +1,130 @@
+package com.reviewservice.search;
+
+import com.reviewservice.dto.ReviewSearchResultDto;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Component
+@ConditionalOnProperty(name = "review.search.engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresReviewSearchEngine implements ReviewSearchEngine {
+
+    private static final String QUERY =
+        "WITH q AS (SELECT websearch_to_tsquery('english', :text) AS query) ";
+
+    private static final String MATCHES =
+        "FROM reviews r, q WHERE r.search_vector @@ q.query AND r.status = :active " +
+        "AND (CAST(:entityType AS text) IS NULL " +
+        "OR r.entity_type = (SELECT t.id FROM entity_types t WHERE t.name = :entityType)) " +
+        "AND (CAST(:entityId AS text) IS NULL OR r.entity_id = :entityId) " +
+        "AND (CAST(:minRating AS integer) IS NULL OR r.rating >= :minRating) " +
+        "AND (CAST(:maxRating AS integer) IS NULL OR r.rating <= :maxRating) " +
+        "AND (CAST(:verifiedOnly AS boolean) IS NOT TRUE OR r.verified = true) ";
+
+    // Headlines are the expensive part, so they are computed for the page rows only
+    private static final String SEARCH = QUERY +
+        ", hits AS (SELECT r.id, ts_rank_cd(r.search_vector, q.query) AS score " + MATCHES +
+        "ORDER BY score DESC, r.id DESC LIMIT :limit OFFSET :offset) " +
+        "SELECT r.id, t.name AS entity_type, r.entity_id, r.user_id, r.rating, r.title, r.comment, " +
+        "r.verified, r.created_at, hits.score, " +
+        "ts_headline('english', coalesce(r.title, ''), q.query, " +
+        "'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') AS title_highlight, " +
+        "ts_headline('english', coalesce(r.comment, ''), q.query, " +
+        "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, FragmentDelimiter=\" ... \"') AS comment_highlight " +
+        "FROM hits JOIN reviews r ON r.id = hits.id JOIN entity_types t ON t.id = r.entity_type CROSS JOIN q " +
+        "ORDER BY hits.score DESC, r.id DESC";
+
+    // Counting every match of a common word is unbounded, so the total is capped
+    private static final String COUNT = QUERY +
+        "SELECT count(*) FROM (SELECT 1 " + MATCHES + "LIMIT :maxHits) capped";
+
+    private static final RowMapper<ReviewSearchResultDto> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return ReviewSearchResultDto.builder()
+            .id(rs.getLong("id"))
+            .entityType(rs.getString("entity_type"))
+            .entityId(rs.getString("entity_id"))
+            .userId(rs.getString("user_id"))
+            .rating(rs.getInt("rating"))
+            .title(rs.getString("title"))
+            .comment(rs.getString("comment"))
+            .verified(rs.getBoolean("verified"))
+            .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+            .score(rs.getDouble("score"))
+            .titleHighlight(rs.getString("title_highlight"))
+            .commentHighlight(rs.getString("comment_highlight"))
+            .build();
+    };
+
+    private static final Comparator<ReviewSearchResultDto> RANK_ORDER = Comparator
+        .comparing(ReviewSearchResultDto::getScore, Comparator.reverseOrder())
+        .thenComparing(ReviewSearchResultDto::getId, Comparator.reverseOrder());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    @Value("${review.search.max-hits:1000}")
+    private int maxHits;
+
+    @Override
+    public Page<ReviewSearchResultDto> search(ReviewSearchQuery query, Pageable pageable) {
+        log.info("Searching reviews for: {}", query.getText());
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("text", query.getText(), Types.VARCHAR)
+            .addValue("active", ReviewStatus.ACTIVE.getCode())
+            .addValue("entityType", query.getEntityType(), Types.VARCHAR)
+            .addValue("entityId", query.getEntityId(), Types.VARCHAR)
+            .addValue("minRating", query.getMinRating(), Types.INTEGER)
+            .addValue("maxRating", query.getMaxRating(), Types.INTEGER)
+            .addValue("verifiedOnly", query.getVerifiedOnly(), Types.BOOLEAN)
+            .addValue("maxHits", maxHits);
+
+        if (!shardRouter.isSharded()) {
+            params.addValue("limit", pageable.getPageSize()).addValue("offset", pageable.getOffset());
+            List<ReviewSearchResultDto> hits = jdbcTemplate.query(SEARCH, params, ROW_MAPPER);
+            Long total = jdbcTemplate.queryForObject(COUNT, params, Long.class);
+            return new PageImpl<>(hits, pageable, total != null ? total : hits.size());
+        }
+
+        // Each shard ranks its own matches up to the end of the page; scores are comparable
+        // across shards, so the merged order is the single-database order. A search within
+        // one entity only needs that entity's shard.
+        List<Integer> shards = query.getEntityType() != null && query.getEntityId() != null
+            ? List.of(shardRouter.shardFor(query.getEntityType(), query.getEntityId()))
+            : IntStream.range(0, shardRouter.getShardCount()).boxed().collect(Collectors.toList());
+        params.addValue("limit", pageable.getOffset() + pageable.getPageSize()).addValue("offset", 0);
+        List<List<ReviewSearchResultDto>> shardHits = shardRouter.onShards(shards, shard ->
+            jdbcTemplate.query(SEARCH, params, ROW_MAPPER));
+        long total = shardRouter.onShards(shards, shard -> jdbcTemplate.queryForObject(COUNT, params, Long.class)).stream()
+            .mapToLong(count -> count != null ? count : 0L)
+            .sum();
+
+        List<ReviewSearchResultDto> hits = shardHits.stream()
+            .flatMap(List::stream)
+            .sorted(RANK_ORDER)
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .collect(Collectors.toList());
+        return new PageImpl<>(hits, pageable, total);
+    }
+}
@@ -0,0 +1,130 @@
+package com.reviewservice.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewservice.dto.AspectCountDto;
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.repository.EntityVersionRepository;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardRouter;
+import com.reviewservice.sharding.ShardedBy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * In-memory aspect index per entity. An entity's postings are built from its comments the
+ * first time they are asked for and then kept current from committed review changes, so
+ * aspect counts and aspect filters never scan the reviews table. Changes made through other
+ * instances are read for the entities held every {@code catch-up-interval}. Least recently
+ * used entities are dropped past {@code review.aspects.max-entities} and rebuilt on demand.
+ */
+@Component
+@Slf4j
+public class ReviewAspectIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1_000;
+
+    private final ReviewRepository reviewRepository;
+    private final AspectAnalyzer analyzer = new AspectAnalyzer();
+    private final Cache<String, EntityAspectIndex> entities;
+    private final ReviewChangeTail changeTail;
+
+    public ReviewAspectIndex(
+        ReviewRepository reviewRepository,
+        EntityVersionRepository entityVersionRepository,
+        ShardRouter shardRouter,
+        @Value("${review.aspects.max-entities:10000}") long maxEntities,
+        @Value("${review.search.catch-up-lag:1m}") Duration catchUpLag
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.entities = Caffeine.newBuilder()
+            .maximumSize(maxEntities)
+            .build();
+        // Entities load fresh on first use, so only changes from here on are needed
+        this.changeTail = new ReviewChangeTail(
+            entityVersionRepository, reviewRepository, shardRouter, catchUpLag, LocalDateTime.now());
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    public List<AspectCountDto> getTopAspects(String entityType, String entityId, int limit, int minCount) {
+        return index(entityType, entityId).top(limit, minCount);
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    public Page<Long> getReviewIds(String entityType, String entityId, String aspect, Pageable pageable) {
+        String stem = analyzer.stem(aspect);
+        if (stem == null) {
+            return Page.empty(pageable);
+        }
+        return index(entityType, entityId).reviewIds(stem, pageable);
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        // Entities nobody has asked for yet are left alone; they load fresh on first use.
+        // A load in progress for the same entity is waited for, so the change lands on top of it.
+        entities.asMap().computeIfPresent(key(event.getEntityType(), event.getEntityId()), (key, index) -> {
+            if (event.getType() == ReviewChangedEvent.Type.DELETED) {
+                index.remove(event.getReviewId());
+            } else {
+                index.put(event.getReviewId(), analyzer.terms(event.getComment()));
+            }
+            return index;
+        });
+    }
+
+    /**
+     * Applies review changes made through other instances to the entities held. Changes
+     * made through this one are read again as well and change nothing.
+     */
+    @Scheduled(fixedDelayString = "${review.aspects.catch-up-interval:PT5S}")
+    public void catchUp() {
+        try {
+            changeTail.poll(
+                (entityType, entityId) -> entities.getIfPresent(key(entityType, entityId)) != null,
+                review -> onReviewChanged(review.getStatus() == ReviewStatus.ACTIVE
+                    ? ReviewChangedEvent.updated(review, null)
+                    : ReviewChangedEvent.deleted(review)));
+        } catch (RuntimeException e) {
+            log.error("Failed to catch up the aspect index", e);
+        }
+    }
+
+    private EntityAspectIndex index(String entityType, String entityId) {
+        return entities.get(key(entityType, entityId), key -> load(entityType, entityId));
+    }
+
+    private EntityAspectIndex load(String entityType, String entityId) {
+        EntityAspectIndex index = new EntityAspectIndex();
+        Long afterId = 0L;
+        List<Review> batch;
+        do {
+            batch = reviewRepository.findByEntityTypeAndEntityIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                entityType, entityId, ReviewStatus.ACTIVE, afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (Review review : batch) {
+                index.put(review.getId(), analyzer.terms(review.getComment()));
+                afterId = review.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        log.info("Built aspect index for entity: {} with ID: {} from {} reviews",
+            entityType, entityId, index.reviewCount());
+        return index;
+    }
+
+    private static String key(String entityType, String entityId) {
+        return entityType + ":" + entityId;
+    }
+}
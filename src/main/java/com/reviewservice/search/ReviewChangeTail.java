@@ -0,0 +1,94 @@
+package com.reviewservice.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewservice.entity.EntityVersion;
+import com.reviewservice.entity.Review;
+import com.reviewservice.repository.EntityVersionRepository;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardRouter;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+/**
+ * Finds reviews written through any instance, for in-memory indexes that otherwise only
+ * see this instance's events. Each poll reads the entity versions bumped since the
+ * previous one on every shard, and for each entity whose version moved, its reviews
+ * updated since then, whatever their status. Polls reach {@code lag} further back, for
+ * transactions that committed after a poll had passed their timestamps and for clocks
+ * that differ between instances; changes found twice are applied twice, which is harmless.
+ */
+class ReviewChangeTail {
+
+    // Keeps each entity version query short
+    private static final int VERSION_BATCH_SIZE = 1_000;
+
+    private final EntityVersionRepository entityVersionRepository;
+    private final ReviewRepository reviewRepository;
+    private final ShardRouter shardRouter;
+    private final Duration lag;
+    // Versions already applied, so entities seen again within the lag are not read twice
+    private final Cache<String, Long> appliedVersions;
+    private volatile LocalDateTime polledTo;
+
+    ReviewChangeTail(
+        EntityVersionRepository entityVersionRepository,
+        ReviewRepository reviewRepository,
+        ShardRouter shardRouter,
+        Duration lag,
+        LocalDateTime from
+    ) {
+        this.entityVersionRepository = entityVersionRepository;
+        this.reviewRepository = reviewRepository;
+        this.shardRouter = shardRouter;
+        this.lag = lag;
+        this.polledTo = from;
+        this.appliedVersions = Caffeine.newBuilder()
+            .expireAfterWrite(lag.multipliedBy(2))
+            .build();
+    }
+
+    /**
+     * Passes every review changed since the last poll to {@code apply}, for the entities
+     * {@code wanted} accepts.
+     */
+    synchronized void poll(BiPredicate<String, String> wanted, Consumer<Review> apply) {
+        // Taken first, so writes made while this poll runs are read by the next one
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = polledTo.minus(lag);
+        shardRouter.forEachShard(shard -> pollShard(since, wanted, apply));
+        polledTo = now;
+    }
+
+    // Point up to which changes have been applied, less the lag
+    LocalDateTime polledTo() {
+        return polledTo;
+    }
+
+    private void pollShard(LocalDateTime since, BiPredicate<String, String> wanted, Consumer<Review> apply) {
+        LocalDateTime afterUpdatedAt = since;
+        long afterId = 0;
+        List<EntityVersion> batch;
+        do {
+            batch = entityVersionRepository.findChangedAfter(afterUpdatedAt, afterId,
+                PageRequest.of(0, VERSION_BATCH_SIZE));
+            for (EntityVersion version : batch) {
+                String key = version.getEntityType() + ":" + version.getEntityId();
+                if (!version.getVersion().equals(appliedVersions.getIfPresent(key))
+                    && wanted.test(version.getEntityType(), version.getEntityId())) {
+                    reviewRepository.findByEntityTypeAndEntityIdAndUpdatedAtGreaterThanEqual(
+                            version.getEntityType(), version.getEntityId(), since.minus(lag))
+                        .forEach(apply);
+                    appliedVersions.put(key, version.getVersion());
+                }
+                afterUpdatedAt = version.getUpdatedAt();
+                afterId = version.getId();
+            }
+        } while (batch.size() == VERSION_BATCH_SIZE);
+    }
+}
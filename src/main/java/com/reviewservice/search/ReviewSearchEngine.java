@@ -0,0 +1,14 @@
+package com.reviewservice.search;
+
+import com.reviewservice.dto.ReviewSearchResultDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Keyword search over review titles and comments. The engine is chosen with
+ * {@code review.search.engine}: {@code postgres} (default) or {@code lucene}.
+ */
+public interface ReviewSearchEngine {
+
+    Page<ReviewSearchResultDto> search(ReviewSearchQuery query, Pageable pageable);
+}
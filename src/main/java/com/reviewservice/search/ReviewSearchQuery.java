@@ -0,0 +1,16 @@
+package com.reviewservice.search;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ReviewSearchQuery {
+
+    String text;
+    String entityType;
+    String entityId;
+    Integer minRating;
+    Integer maxRating;
+    Boolean verifiedOnly;
+}
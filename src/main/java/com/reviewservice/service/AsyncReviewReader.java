@@ -0,0 +1,295 @@
+package com.reviewservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.exception.RateLimitExceededException;
+import com.reviewservice.replica.ReplicaContext;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs reads on a pool sized to the database rather than on request threads. Requests wait
+ * for their turn as a queued task, holding no thread, and are answered asynchronously; the
+ * listing is streamed as NDJSON in chunks, each fetched by its own task and written with
+ * non-blocking servlet output, so a slow client holds no thread at all, only the one chunk
+ * waiting for it. When {@code queue-capacity} reads are already waiting, new ones are
+ * turned away.
+ */
+@Service
+@Slf4j
+public class AsyncReviewReader {
+
+    private final ReviewService reviewService;
+    private final RatingSummaryService ratingSummaryService;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    private final long streamTimeoutMillis;
+
+    public AsyncReviewReader(
+        ReviewService reviewService,
+        RatingSummaryService ratingSummaryService,
+        ObjectMapper objectMapper,
+        @Value("${review.async-read.threads:16}") int threads,
+        @Value("${review.async-read.queue-capacity:10000}") int queueCapacity,
+        @Value("${review.async-read.chunk-size:200}") int chunkSize,
+        @Value("${review.async-read.stream-timeout:60s}") Duration streamTimeout
+    ) {
+        this.reviewService = reviewService;
+        this.ratingSummaryService = ratingSummaryService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.streamTimeoutMillis = streamTimeout.toMillis();
+        this.executor = new ThreadPoolExecutor(
+            threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("review-read-"));
+    }
+
+    public CompletableFuture<ReviewResponseDto> getReviewById(Long reviewId) {
+        return submit(() -> reviewService.getReviewById(reviewId));
+    }
+
+    public CompletableFuture<RatingSummaryDto> getRatingSummary(String entityType, String entityId) {
+        return submit(() -> ratingSummaryService.getRatingSummary(entityType, entityId));
+    }
+
+    /**
+     * Streams up to {@code limit} of the entity's reviews to the response, one JSON object
+     * per line, in asynchronous mode. Chunks are offset pages, so reviews written while the
+     * stream runs can shift one into the next: a review may then be sent twice or not at all.
+     */
+    public void streamReviewsByEntity(
+        String entityType,
+        String entityId,
+        Integer minRating,
+        Integer maxRating,
+        Boolean verifiedOnly,
+        Sort sort,
+        int limit,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        IntFunction<Page<ReviewResponseDto>> fetch = page -> reviewService.getReviewsByEntity(
+            entityType, entityId, minRating, maxRating, verifiedOnly, PageRequest.of(page, chunkSize, sort));
+        ReviewStream stream = new ReviewStream(fetch, limit);
+        // Before going async, so a full queue is still answered with 429
+        stream.fetch(0);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        AsyncContext async = request.startAsync();
+        async.setTimeout(streamTimeoutMillis);
+        stream.start(async, response);
+    }
+
+    /**
+     * One NDJSON stream. The next chunk is fetched only once the previous one has been
+     * handed to the container, and written only while the output reports it is ready, so
+     * nothing ever blocks on the client. The container calls {@link #onWritePossible} when
+     * a client that was not ready can take more.
+     */
+    private class ReviewStream implements WriteListener, AsyncListener {
+
+        private final IntFunction<Page<ReviewResponseDto>> fetch;
+        private final int limit;
+        // The request's need for the primary, carried over to every chunk's read
+        private final boolean primaryRequired = ReplicaContext.isPrimaryRequired();
+        private AsyncContext async;
+        private HttpServletResponse response;
+        private ServletOutputStream out;
+        private byte[] pending;
+        private int nextPage;
+        private boolean fetching;
+        private boolean last;
+        private boolean writable;
+        private boolean done;
+
+        ReviewStream(IntFunction<Page<ReviewResponseDto>> fetch, int limit) {
+            this.fetch = fetch;
+            this.limit = limit;
+        }
+
+        synchronized void start(AsyncContext async, HttpServletResponse response) throws IOException {
+            this.async = async;
+            this.response = response;
+            if (done) {
+                // The first chunk failed before there was a context to complete
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                async.complete();
+                return;
+            }
+            async.addListener(this);
+            this.out = response.getOutputStream();
+            out.setWriteListener(this);
+        }
+
+        synchronized void fetch(int page) {
+            fetching = true;
+            submit(() -> read(page)).whenComplete((reviews, e) -> {
+                if (e != null) {
+                    fail(e);
+                } else {
+                    // Serialized on the read thread
+                    received(lines(reviews, page, limit), !hasMore(reviews, page, limit), page + 1);
+                }
+            });
+        }
+
+        private Page<ReviewResponseDto> read(int page) {
+            if (!primaryRequired) {
+                return fetch.apply(page);
+            }
+            ReplicaContext.requirePrimary();
+            try {
+                return fetch.apply(page);
+            } finally {
+                ReplicaContext.clear();
+            }
+        }
+
+        private synchronized void received(byte[] lines, boolean last, int nextPage) {
+            this.pending = lines.length > 0 ? lines : null;
+            this.last = last;
+            this.nextPage = nextPage;
+            this.fetching = false;
+            flush();
+        }
+
+        @Override
+        public synchronized void onWritePossible() {
+            writable = true;
+            flush();
+        }
+
+        // Writes only after isReady() said so; when it says no, the container calls back
+        private void flush() {
+            if (done || out == null) {
+                return;
+            }
+            try {
+                while (writable) {
+                    if (fetching) {
+                        return;
+                    }
+                    if (!out.isReady()) {
+                        writable = false;
+                        return;
+                    }
+                    if (pending != null) {
+                        out.write(pending);
+                        pending = null;
+                    } else if (last) {
+                        done = true;
+                        async.complete();
+                        return;
+                    } else {
+                        fetch(nextPage);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private synchronized void fail(Throwable e) {
+            if (done) {
+                return;
+            }
+            done = true;
+            log.debug("Review stream ended early: {}", e.toString());
+            if (async == null) {
+                return;
+            }
+            if (!response.isCommitted()) {
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+            async.complete();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            fail(new IllegalStateException("Review stream timed out"));
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            fail(event.getThrowable());
+        }
+
+        @Override
+        public synchronized void onComplete(AsyncEvent event) {
+            done = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+
+    // Chunks have the full size so page boundaries stay put; the last one is cut to the limit
+    private byte[] lines(Page<ReviewResponseDto> reviews, int page, int limit) {
+        StringBuilder lines = new StringBuilder();
+        reviews.getContent().stream()
+            .limit(Math.max(0, limit - (long) page * chunkSize))
+            .forEach(review -> lines.append(toJson(review)).append('\n'));
+        return lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private boolean hasMore(Page<ReviewResponseDto> reviews, int page, int limit) {
+        return reviews.hasNext() && (long) (page + 1) * chunkSize < limit;
+    }
+
+    private String toJson(ReviewResponseDto review) {
+        try {
+            return objectMapper.writeValueAsString(review);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize review " + review.getId(), e);
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> read) {
+        try {
+            return CompletableFuture.supplyAsync(ReplicaContext.wrap(read), executor);
+        } catch (RejectedExecutionException e) {
+            throw new RateLimitExceededException("Too many reads in progress", 1);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,126 @@
+package com.reviewservice.service;
+
+import com.reviewservice.entity.Review;
+import com.reviewservice.repository.ReviewAuthorRow;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers which users have reviewed which entities, so most new reviews can skip the
+ * existence query: a miss is certain, a hit may be a false positive and is confirmed
+ * against the database. Reviews written by other instances are not seen here; the unique
+ * constraint on reviews catches those. The filter is only used when every shard has that
+ * constraint (a partitioned table cannot), and until it is warmed every check is a hit.
+ */
+@Component
+@Slf4j
+public class DuplicateReviewFilter {
+
+    private static final int WARM_BATCH_SIZE = 5_000;
+
+    private static final Set<String> AUTHOR_COLUMNS = Set.of("entity_type", "entity_id", "user_id");
+
+    private final ReviewRepository reviewRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final boolean enabled;
+    private final ScalableBloomFilter filter;
+    private volatile boolean warm;
+
+    public DuplicateReviewFilter(
+        ReviewRepository reviewRepository,
+        JdbcTemplate jdbcTemplate,
+        ShardRouter shardRouter,
+        @Value("${review.duplicate-filter.enabled:true}") boolean enabled,
+        @Value("${review.duplicate-filter.expected-reviews:1000000}") long expectedReviews,
+        @Value("${review.duplicate-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.enabled = enabled;
+        this.filter = new ScalableBloomFilter(expectedReviews, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        if (!enabled) {
+            return;
+        }
+        AtomicBoolean constrained = new AtomicBoolean(true);
+        shardRouter.forEachShard(shard -> constrained.compareAndSet(true, hasAuthorConstraint()));
+        if (!constrained.get()) {
+            log.warn("reviews lacks the {} unique constraint; every new review is checked against the database",
+                Review.UNIQUE_AUTHOR);
+            return;
+        }
+
+        log.info("Warming duplicate review filter");
+        AtomicLong loaded = new AtomicLong();
+        shardRouter.forEachShard(shard -> {
+            Long afterId = 0L;
+            List<ReviewAuthorRow> batch;
+            do {
+                batch = reviewRepository.findAuthorsAfter(afterId, PageRequest.of(0, WARM_BATCH_SIZE));
+                for (ReviewAuthorRow row : batch) {
+                    filter.put(key(row.getEntityType(), row.getEntityId(), row.getUserId()));
+                    afterId = row.getId();
+                }
+                loaded.addAndGet(batch.size());
+            } while (batch.size() == WARM_BATCH_SIZE);
+        });
+        warm = true;
+        log.info("Duplicate review filter warmed with {} reviews in {} KiB", loaded.get(), filter.bitCount() / 8192);
+    }
+
+    // Any unique index on exactly the author columns, whatever the database named it
+    private boolean hasAuthorConstraint() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? "REVIEWS" : "reviews";
+            Map<String, Set<String>> columnsByIndex = new HashMap<>();
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                while (indexes.next()) {
+                    String column = indexes.getString("COLUMN_NAME");
+                    if (indexes.getString("INDEX_NAME") != null && column != null) {
+                        columnsByIndex.computeIfAbsent(indexes.getString("INDEX_NAME"), name -> new HashSet<>())
+                            .add(column.toLowerCase());
+                    }
+                }
+            }
+            return columnsByIndex.containsValue(AUTHOR_COLUMNS);
+        }));
+    }
+
+    public boolean mightHaveReviewed(String entityType, String entityId, String userId) {
+        return !warm || filter.mightContain(key(entityType, entityId, userId));
+    }
+
+    public void recordReview(String entityType, String entityId, String userId) {
+        if (enabled) {
+            filter.put(key(entityType, entityId, userId));
+        }
+    }
+
+    private static String key(String entityType, String entityId, String userId) {
+        return entityType + '\0' + entityId + '\0' + userId;
+    }
+}
@@ -0,0 +1,163 @@
+package com.reviewservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewservice.sharding.ShardContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Interns entity type names into {@code entity_types}. The table is tiny, so each shard's
+ * is kept in memory whole and read again on a miss, on the caller's connection. Names not
+ * found are remembered for {@code unknown-ttl}, so repeated queries for a type that does
+ * not exist cost nothing. A new name gets the next free id on first write; only that
+ * insert takes a connection of its own, committing at once so it is visible to other
+ * instances before the review that introduced it, and survives that review's rollback.
+ */
+@Component
+@Slf4j
+public class EntityTypeRegistry {
+
+    /**
+     * Id used for names that are only queried, never written; it matches no rows.
+     */
+    public static final short UNKNOWN = -1;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final DataSource dataSource;
+    // Joins the caller's transaction when there is one
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Integer, Map<String, Short>> idsByShard = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<Short, String>> namesByShard = new ConcurrentHashMap<>();
+    // Keyed by shard and name
+    private final Cache<String, Boolean> unknownNames;
+
+    public EntityTypeRegistry(
+        DataSource dataSource,
+        @Value("${review.entity-types.unknown-ttl:10s}") Duration unknownTtl
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.unknownNames = Caffeine.newBuilder()
+            .expireAfterWrite(unknownTtl)
+            .maximumSize(10_000)
+            .build();
+    }
+
+    public short idOf(String name) {
+        int shard = currentShard();
+        Short id = ids(shard).get(name);
+        if (id != null) {
+            return id;
+        }
+
+        // Read-only work only ever looks a name up; creating it there would let any query
+        // string grow the table
+        boolean create = !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        String unknownKey = shard + ":" + name;
+        if (!create && unknownNames.getIfPresent(unknownKey) != null) {
+            return UNKNOWN;
+        }
+
+        reload(shard);
+        id = ids(shard).get(name);
+        if (id != null) {
+            return id;
+        }
+        if (!create) {
+            unknownNames.put(unknownKey, Boolean.TRUE);
+            return UNKNOWN;
+        }
+
+        id = withOwnConnection(jdbc -> findOrCreate(jdbc, name));
+        remember(shard, id, name);
+        unknownNames.invalidate(unknownKey);
+        return id;
+    }
+
+    public String nameOf(short id) {
+        int shard = currentShard();
+        String name = names(shard).get(id);
+        if (name != null) {
+            return name;
+        }
+
+        reload(shard);
+        name = names(shard).get(id);
+        if (name == null) {
+            throw new IllegalStateException("Unknown entity type id " + id + " on shard " + shard);
+        }
+        return name;
+    }
+
+    private void reload(int shard) {
+        jdbcTemplate.query("SELECT id, name FROM entity_types",
+            rs -> remember(shard, rs.getShort("id"), rs.getString("name")));
+    }
+
+    private Short findOrCreate(JdbcTemplate jdbc, String name) {
+        for (int attempt = 1; ; attempt++) {
+            Short id = find(jdbc, name);
+            if (id != null) {
+                return id;
+            }
+            try {
+                jdbc.update("INSERT INTO entity_types (id, name) " +
+                    "SELECT COALESCE(MAX(id), 0) + 1, ? FROM entity_types", name);
+                log.info("Registered entity type: {}", name);
+            } catch (DataIntegrityViolationException e) {
+                // Another instance took the id or registered the same name; look again
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Short find(JdbcTemplate jdbc, String name) {
+        List<Short> ids = jdbc.queryForList("SELECT id FROM entity_types WHERE name = ?", Short.class, name);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    // A connection of its own, outside any transaction the caller is in
+    private <T> T withOwnConnection(Function<JdbcTemplate, T> work) {
+        try (Connection connection = dataSource.getConnection()) {
+            return work.apply(new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to register entity type", e);
+        }
+    }
+
+    private void remember(int shard, short id, String name) {
+        ids(shard).put(name, id);
+        names(shard).put(id, name);
+    }
+
+    private Map<String, Short> ids(int shard) {
+        return idsByShard.computeIfAbsent(shard, s -> new ConcurrentHashMap<>());
+    }
+
+    private Map<Short, String> names(int shard) {
+        return namesByShard.computeIfAbsent(shard, s -> new ConcurrentHashMap<>());
+    }
+
+    private int currentShard() {
+        Integer shard = ShardContext.current();
+        return shard != null ? shard : 0;
+    }
+}
@@ -0,0 +1,104 @@
+package com.reviewservice.service;
+
+import com.reviewservice.config.DatabaseProduct;
+import com.reviewservice.dto.EntityVersionDto;
+import com.reviewservice.entity.EntityVersion;
+import com.reviewservice.repository.EntityVersionRepository;
+import com.reviewservice.sharding.ShardRouter;
+import com.reviewservice.sharding.ShardedBy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EntityVersionService {
+
+    private final EntityVersionRepository entityVersionRepository;
+    private final ShardRouter shardRouter;
+    private final DatabaseProduct databaseProduct;
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional
+    public void bumpVersion(String entityType, String entityId) {
+        // The row lock orders concurrent writers of the same entity until commit; the upsert
+        // takes it even for an entity's first write, where there is no row to lock yet
+        if (databaseProduct.isPostgres()) {
+            entityVersionRepository.upsertIncrement(entityType, entityId, LocalDateTime.now());
+            log.debug("Bumped version for entity: {} with ID: {}", entityType, entityId);
+            return;
+        }
+
+        // Elsewhere concurrent first writers can both insert; the other databases only run tests
+        EntityVersion version = entityVersionRepository.findForUpdate(entityType, entityId)
+            .orElseGet(() -> EntityVersion.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .build());
+
+        version.setVersion(version.getVersion() + 1);
+        version.setUpdatedAt(LocalDateTime.now());
+        entityVersionRepository.save(version);
+
+        log.debug("Bumped version for entity: {} with ID: {}", entityType, entityId);
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional(readOnly = true)
+    public Optional<EntityVersion> findVersion(String entityType, String entityId) {
+        return entityVersionRepository.findByEntityTypeAndEntityId(entityType, entityId);
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional(readOnly = true)
+    public EntityVersionDto getVersion(String entityType, String entityId) {
+        return findVersion(entityType, entityId)
+            .map(this::mapToDto)
+            .orElseGet(() -> unversioned(entityType, entityId));
+    }
+
+    public List<EntityVersionDto> getVersions(String entityType, List<String> entityIds) {
+        // One query per shard holding any of the entities
+        Map<Integer, List<String>> idsByShard = entityIds.stream()
+            .distinct()
+            .collect(Collectors.groupingBy(entityId -> shardRouter.shardFor(entityType, entityId)));
+        Map<String, EntityVersion> versions = shardRouter.onShards(idsByShard.keySet(), shard ->
+                entityVersionRepository.findByEntityTypeAndEntityIdIn(entityType, idsByShard.get(shard))).stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toMap(EntityVersion::getEntityId, Function.identity()));
+
+        return entityIds.stream()
+            .distinct()
+            .map(entityId -> versions.containsKey(entityId)
+                ? mapToDto(versions.get(entityId))
+                : unversioned(entityType, entityId))
+            .collect(Collectors.toList());
+    }
+
+    // Entities that were never written report version 0
+    private EntityVersionDto unversioned(String entityType, String entityId) {
+        return EntityVersionDto.builder()
+            .entityType(entityType)
+            .entityId(entityId)
+            .version(0L)
+            .build();
+    }
+
+    private EntityVersionDto mapToDto(EntityVersion version) {
+        return EntityVersionDto.builder()
+            .entityType(version.getEntityType())
+            .entityId(version.getEntityId())
+            .version(version.getVersion())
+            .updatedAt(version.getUpdatedAt())
+            .build();
+    }
+}
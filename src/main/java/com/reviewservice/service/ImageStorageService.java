@@ -1,8 +1,11 @@
 package com.reviewservice.service;
 
+import com.reviewservice.dto.ImageMetadataDto;
 import com.reviewservice.entity.ReviewImage;
 import com.reviewservice.exception.ResourceNotFoundException;
 import com.reviewservice.repository.ReviewImageRepository;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardedBy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FilenameUtils;
@@ -12,7 +15,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +26,8 @@ import java.util.List;
 public class ImageStorageService {
 
     private final ReviewImageRepository imageRepository;
+    private final ReviewRepository reviewRepository;
+    private final EntityVersionService entityVersionService;
 
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024;
     private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
@@ -29,6 +37,7 @@ public class ImageStorageService {
         "jpg", "jpeg", "png", "gif", "webp"
     );
 
+    @ShardedBy(id = "#reviewId")
     @Transactional
     public Long storeImage(Long reviewId, MultipartFile file) throws IOException {
         log.info("Storing image for review ID: {}", reviewId);
@@ -49,6 +58,7 @@ public class ImageStorageService {
         return savedImage.getId();
     }
 
+    @ShardedBy(id = "#reviewId")
     @Transactional
     public List<Long> storeImages(Long reviewId, List<MultipartFile> files) throws IOException {
         log.info("Storing {} images for review ID: {}", files.size(), reviewId);
@@ -68,23 +78,51 @@ public class ImageStorageService {
             .toList();
     }
 
+    @ShardedBy(id = "#imageId", table = "review_images")
     @Transactional(readOnly = true)
     public ReviewImage getImage(Long imageId) {
         return imageRepository.findById(imageId)
             .orElseThrow(() -> new ResourceNotFoundException("Image not found"));
     }
 
+    @ShardedBy(id = "#reviewId")
     @Transactional(readOnly = true)
     public List<ReviewImage> getImagesByReviewId(Long reviewId) {
         return imageRepository.findByReviewId(reviewId);
     }
 
+    @Transactional(readOnly = true)
+    public Map<Long, List<ImageMetadataDto>> getImageMetadataByReviewIds(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return imageRepository.findMetadataByReviewIdIn(reviewIds).stream()
+            .collect(Collectors.groupingBy(
+                img -> img.getReviewId(),
+                Collectors.mapping(img -> ImageMetadataDto.builder()
+                    .id(img.getId())
+                    .fileName(img.getFileName())
+                    .contentType(img.getContentType())
+                    .fileSize(img.getFileSize())
+                    .uploadedAt(img.getUploadedAt())
+                    .build(), Collectors.toList())
+            ));
+    }
+
+    @ShardedBy(id = "#imageId", table = "review_images")
     @Transactional
     public void deleteImage(Long imageId) {
         log.info("Deleting image ID: {}", imageId);
+
+        imageRepository.findReviewIdById(imageId)
+            .flatMap(reviewRepository::findById)
+            .ifPresent(review -> entityVersionService.bumpVersion(review.getEntityType(), review.getEntityId()));
+
         imageRepository.deleteById(imageId);
     }
 
+    @ShardedBy(id = "#reviewId")
     @Transactional
     public void deleteImagesByReviewId(Long reviewId) {
         log.info("Deleting all images for review ID: {}", reviewId);
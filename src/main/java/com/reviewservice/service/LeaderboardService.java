@@ -0,0 +1,220 @@
+package com.reviewservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reviewservice.dto.LeaderboardEntryDto;
+import com.reviewservice.dto.LeaderboardPageDto;
+import com.reviewservice.entity.RatingSummary;
+import com.reviewservice.event.RatingSummaryChangedEvent;
+import com.reviewservice.exception.InvalidRequestException;
+import com.reviewservice.repository.RatingSummaryRepository;
+import com.reviewservice.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Top-rated entities per entity type, ranked by the stored Bayesian score. The first page
+ * at the default review threshold comes from an in-memory top-N per type, for up to
+ * {@code max-types} entity types. It follows this instance's committed summary changes and
+ * is rebuilt from the database every {@code refresh-interval}, which brings in changes made
+ * through other instances. Other thresholds and later pages are keyset queries on the
+ * (entityType, bayesianScore, id) index. Sharded deployments run them on every shard and
+ * merge; summary IDs are unique across shards, so the cursor stays valid.
+ */
+@Service
+@Slf4j
+public class LeaderboardService {
+
+    private static final int RESCORE_BATCH_SIZE = 1_000;
+
+    // Same order as the leaderboard queries
+    private static final Comparator<RatingSummary> LEADERBOARD_ORDER = Comparator
+        .comparing(RatingSummary::getBayesianScore, Comparator.reverseOrder())
+        .thenComparing(RatingSummary::getId, Comparator.reverseOrder());
+
+    private final RatingSummaryRepository ratingSummaryRepository;
+    private final RatingSummaryService ratingSummaryService;
+    private final ShardRouter shardRouter;
+    private final int topSize;
+    private final int defaultMinReviews;
+    // Entity types come from requests, so the lists are bounded and dropped least recently used
+    private final Cache<String, TopRatedEntities> topByType;
+    private final ExecutorService rescorer = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("leaderboard-rescore-"));
+    private final AtomicBoolean rescoring = new AtomicBoolean();
+
+    public LeaderboardService(
+        RatingSummaryRepository ratingSummaryRepository,
+        RatingSummaryService ratingSummaryService,
+        ShardRouter shardRouter,
+        @Value("${review.leaderboard.top-size:100}") int topSize,
+        @Value("${review.leaderboard.min-reviews:10}") int defaultMinReviews,
+        @Value("${review.leaderboard.max-types:100}") long maxTypes
+    ) {
+        this.ratingSummaryRepository = ratingSummaryRepository;
+        this.ratingSummaryService = ratingSummaryService;
+        this.shardRouter = shardRouter;
+        this.topSize = topSize;
+        this.defaultMinReviews = defaultMinReviews;
+        this.topByType = Caffeine.newBuilder()
+            .maximumSize(maxTypes)
+            .build();
+    }
+
+    public LeaderboardPageDto getLeaderboard(String entityType, Integer minReviews, int limit, String cursor) {
+        log.info("Fetching leaderboard for entity type: {}", entityType);
+        int threshold = minReviews != null ? minReviews : defaultMinReviews;
+
+        // One entry past the limit tells whether there is a next page
+        List<TopRatedEntities.Entry> entries;
+        if (cursor == null && threshold == defaultMinReviews && limit < topSize) {
+            entries = topByType
+                .get(entityType, type -> new TopRatedEntities(topSize))
+                .first(limit + 1, () -> loadTop(entityType));
+        } else if (cursor == null) {
+            entries = toEntries(fromAllShards(limit + 1, shard -> ratingSummaryRepository.findLeaderboard(
+                entityType, threshold, PageRequest.of(0, limit + 1))));
+        } else {
+            TopRatedEntities.Entry after = decodeCursor(cursor);
+            entries = toEntries(fromAllShards(limit + 1, shard -> ratingSummaryRepository.findLeaderboardAfter(
+                entityType, threshold, after.getBayesianScore(), after.getSummaryId(), PageRequest.of(0, limit + 1))));
+        }
+
+        boolean hasMore = entries.size() > limit;
+        List<TopRatedEntities.Entry> page = hasMore ? entries.subList(0, limit) : entries;
+
+        return LeaderboardPageDto.builder()
+            .entries(page.stream().map(this::mapToDto).collect(Collectors.toList()))
+            .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1)) : null)
+            .build();
+    }
+
+    @TransactionalEventListener
+    public void onRatingSummaryChanged(RatingSummaryChangedEvent event) {
+        TopRatedEntities top = topByType.getIfPresent(event.getEntityType());
+        if (top != null) {
+            top.update(new TopRatedEntities.Entry(
+                event.getSummaryId(),
+                event.getEntityType(),
+                event.getEntityId(),
+                event.getAverageRating(),
+                event.getTotalReviews(),
+                event.getBayesianScore()
+            ), event.getTotalReviews() >= defaultMinReviews);
+        }
+    }
+
+    /**
+     * Rebuilds the in-memory lists from the database, so each instance serves the same
+     * ranking whichever instance the summaries were written through.
+     */
+    @Scheduled(fixedDelayString = "${review.leaderboard.refresh-interval:PT1M}")
+    public void refreshTopLists() {
+        topByType.asMap().forEach((entityType, top) -> top.replace(loadTop(entityType)));
+    }
+
+    /**
+     * Starts a rescore in the background; false when one is already running.
+     */
+    public boolean startRescore() {
+        if (!rescoring.compareAndSet(false, true)) {
+            return false;
+        }
+        rescorer.submit(() -> {
+            try {
+                rescoreAll();
+            } catch (RuntimeException e) {
+                log.error("Leaderboard rescore failed", e);
+            } finally {
+                rescoring.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Recomputes every stored score, e.g. after the prior changes, and drops the in-memory lists.
+     */
+    public int rescoreAll() {
+        AtomicInteger batches = new AtomicInteger();
+        shardRouter.forEachShard(shard -> {
+            Long afterId = 0L;
+            while ((afterId = ratingSummaryService.rescoreBatch(afterId, RESCORE_BATCH_SIZE)) != null) {
+                batches.incrementAndGet();
+            }
+        });
+        topByType.invalidateAll();
+        log.info("Rescored rating summaries in {} batches", batches.get());
+        return batches.get();
+    }
+
+    private List<TopRatedEntities.Entry> loadTop(String entityType) {
+        return toEntries(fromAllShards(topSize, shard -> ratingSummaryRepository.findLeaderboard(
+            entityType, defaultMinReviews, PageRequest.of(0, topSize))));
+    }
+
+    private List<RatingSummary> fromAllShards(int limit, IntFunction<List<RatingSummary>> query) {
+        List<List<RatingSummary>> shards = shardRouter.onAllShards(query);
+        if (shards.size() == 1) {
+            return shards.get(0);
+        }
+        return shards.stream()
+            .flatMap(List::stream)
+            .sorted(LEADERBOARD_ORDER)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private List<TopRatedEntities.Entry> toEntries(List<RatingSummary> summaries) {
+        return summaries.stream()
+            .map(summary -> new TopRatedEntities.Entry(
+                summary.getId(),
+                summary.getEntityType(),
+                summary.getEntityId(),
+                summary.getAverageRating(),
+                summary.getTotalReviews(),
+                summary.getBayesianScore()))
+            .collect(Collectors.toList());
+    }
+
+    private String encodeCursor(TopRatedEntities.Entry last) {
+        String position = last.getBayesianScore() + ":" + last.getSummaryId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private TopRatedEntities.Entry decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            return new TopRatedEntities.Entry(
+                Long.valueOf(position[1]), null, null, null, null, Double.valueOf(position[0]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Invalid leaderboard cursor");
+        }
+    }
+
+    private LeaderboardEntryDto mapToDto(TopRatedEntities.Entry entry) {
+        return LeaderboardEntryDto.builder()
+            .entityType(entry.getEntityType())
+            .entityId(entry.getEntityId())
+            .averageRating(entry.getAverageRating())
+            .totalReviews(entry.getTotalReviews())
+            .bayesianScore(entry.getBayesianScore())
+            .build();
+    }
+}
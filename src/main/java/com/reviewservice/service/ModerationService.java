@@ -0,0 +1,166 @@
+package com.reviewservice.service;
+
+import com.reviewservice.dto.ModerationDecisionRequest;
+import com.reviewservice.dto.ModerationQueueItemDto;
+import com.reviewservice.dto.ModerationQueuePageDto;
+import com.reviewservice.dto.ModerationResultDto;
+import com.reviewservice.entity.ModerationStatus;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.repository.ModerationQueueRow;
+import com.reviewservice.repository.ReviewListRow;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardContext;
+import com.reviewservice.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * The moderation queue. Reviews enter it as {@code PENDING} and are approved or rejected
+ * in batches; a rejected review is soft-deleted. Each batch is one set-based update per
+ * shard, and the rating summary of every entity that lost reviews is recomputed once.
+ */
+@Service
+@Slf4j
+public class ModerationService {
+
+    private static final Set<ModerationStatus> APPROVABLE = EnumSet.of(ModerationStatus.PENDING);
+    private static final Set<ModerationStatus> REJECTABLE = EnumSet.of(ModerationStatus.PENDING, ModerationStatus.APPROVED);
+
+    private final ReviewRepository reviewRepository;
+    private final RatingSummaryService ratingSummaryService;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ModerationService(
+        ReviewRepository reviewRepository,
+        RatingSummaryService ratingSummaryService,
+        ShardRouter shardRouter,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.ratingSummaryService = ratingSummaryService;
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ModerationQueuePageDto getQueue(ModerationStatus status, Long afterId, int limit) {
+        log.info("Fetching {} moderation queue after review ID: {}", status, afterId);
+        long after = afterId != null ? afterId : 0L;
+
+        // One row past the limit tells whether there is a next page
+        List<ModerationQueueRow> rows = shardRouter.onAllShards(shard ->
+                reviewRepository.findModerationQueue(status, after, PageRequest.of(0, limit + 1)))
+            .stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(ModerationQueueRow::getId))
+            .limit(limit + 1)
+            .collect(Collectors.toList());
+
+        boolean hasMore = rows.size() > limit;
+        List<ModerationQueueRow> page = hasMore ? rows.subList(0, limit) : rows;
+
+        return ModerationQueuePageDto.builder()
+            .items(page.stream().map(this::mapToDto).collect(Collectors.toList()))
+            .nextAfterId(hasMore ? page.get(page.size() - 1).getId() : null)
+            .build();
+    }
+
+    public ModerationResultDto flag(ModerationDecisionRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        AtomicInteger updated = new AtomicInteger();
+        byShard(request.getReviewIds()).forEach((shard, ids) -> ShardContext.run(shard, () ->
+            updated.addAndGet(reviewRepository.flagForModeration(ids, request.getModeratorId(),
+                request.getNote(), now, ModerationStatus.PENDING, ReviewStatus.ACTIVE))));
+
+        log.info("Moderator {} flagged {} of {} reviews", request.getModeratorId(), updated.get(),
+            request.getReviewIds().size());
+        return ModerationResultDto.builder()
+            .requested(request.getReviewIds().size())
+            .updated(updated.get())
+            .build();
+    }
+
+    public ModerationResultDto approve(ModerationDecisionRequest request) {
+        return decide(request, ModerationStatus.APPROVED, ReviewStatus.ACTIVE, APPROVABLE);
+    }
+
+    public ModerationResultDto reject(ModerationDecisionRequest request) {
+        return decide(request, ModerationStatus.REJECTED, ReviewStatus.DELETED, REJECTABLE);
+    }
+
+    private ModerationResultDto decide(ModerationDecisionRequest request, ModerationStatus decision,
+                                       ReviewStatus status, Set<ModerationStatus> from) {
+        // Stored timestamps keep microseconds; the read-back below compares against this value
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        AtomicInteger updated = new AtomicInteger();
+        AtomicInteger summaries = new AtomicInteger();
+
+        byShard(request.getReviewIds()).forEach((shard, ids) -> ShardContext.run(shard, () ->
+            transactionTemplate.executeWithoutResult(tx -> {
+                int count = reviewRepository.applyModerationDecision(
+                    ids, from, decision, status, request.getModeratorId(), request.getNote(), now, ReviewStatus.ACTIVE);
+                updated.addAndGet(count);
+                if (count == 0 || status == ReviewStatus.ACTIVE) {
+                    return;
+                }
+
+                // The rows this update changed: they carry its timestamp and stay locked until commit
+                List<ReviewListRow> removed = reviewRepository.findRowsByModerationDecision(
+                    ids, decision, request.getModeratorId(), now);
+                Set<List<String>> entities = removed.stream()
+                    .map(row -> List.of(row.getEntityType(), row.getEntityId()))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+                entities.forEach(entity -> ratingSummaryService.refreshRatingSummary(entity.get(0), entity.get(1)));
+                summaries.addAndGet(entities.size());
+                removed.forEach(row -> eventPublisher.publishEvent(ReviewChangedEvent.deleted(row)));
+            })));
+
+        log.info("Moderator {} set {} of {} reviews to {}", request.getModeratorId(), updated.get(),
+            request.getReviewIds().size(), decision);
+        return ModerationResultDto.builder()
+            .requested(request.getReviewIds().size())
+            .updated(updated.get())
+            .summariesRecomputed(summaries.get())
+            .build();
+    }
+
+    private Map<Integer, List<Long>> byShard(List<Long> reviewIds) {
+        return shardRouter.groupByShard(reviewIds.stream().distinct().collect(Collectors.toList()));
+    }
+
+    private ModerationQueueItemDto mapToDto(ModerationQueueRow row) {
+        return ModerationQueueItemDto.builder()
+            .reviewId(row.getId())
+            .entityType(row.getEntityType())
+            .entityId(row.getEntityId())
+            .userId(row.getUserId())
+            .rating(row.getRating())
+            .title(row.getTitle())
+            .comment(row.getComment())
+            .moderationStatus(row.getModerationStatus().name())
+            .moderatorId(row.getModeratorId())
+            .moderationNote(row.getModerationNote())
+            .moderatedAt(row.getModeratedAt())
+            .createdAt(row.getCreatedAt())
+            .build();
+    }
+}
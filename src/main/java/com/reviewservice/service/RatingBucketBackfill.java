@@ -0,0 +1,134 @@
+package com.reviewservice.service;
+
+import com.reviewservice.entity.RatingDailyBucket;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.repository.DailyRatingCount;
+import com.reviewservice.repository.RatingDailyBucketRepository;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.repository.ReviewedEntityRow;
+import com.reviewservice.sharding.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rebuilds the daily rating buckets from existing reviews, one entity per transaction. Each
+ * entity's buckets are replaced while its version row is locked, the same lock live writes
+ * take before adjusting a bucket, so a rebuild and a concurrent write never miss or double
+ * count each other. Other entities keep serving their buckets throughout.
+ */
+@Component
+@Slf4j
+public class RatingBucketBackfill {
+
+    private static final int ENTITY_BATCH_SIZE = 500;
+
+    private final ReviewRepository reviewRepository;
+    private final RatingDailyBucketRepository bucketRepository;
+    private final EntityVersionService entityVersionService;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+        new CustomizableThreadFactory("rating-backfill-"));
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RatingBucketBackfill(
+        ReviewRepository reviewRepository,
+        RatingDailyBucketRepository bucketRepository,
+        EntityVersionService entityVersionService,
+        ShardRouter shardRouter,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.bucketRepository = bucketRepository;
+        this.entityVersionService = entityVersionService;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Starts a backfill in the background; false when one is already running.
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.submit(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.error("Rating bucket backfill failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public long backfill() {
+        AtomicLong rebuilt = new AtomicLong();
+        shardRouter.forEachShard(shard -> rebuilt.addAndGet(backfillShard()));
+        log.info("Rating bucket backfill finished, {} entities rebuilt", rebuilt.get());
+        return rebuilt.get();
+    }
+
+    // An entity's reviews and buckets share a shard, so each shard is rebuilt on its own
+    private long backfillShard() {
+        long rebuilt = 0;
+        String afterType = "";
+        String afterId = "";
+        while (true) {
+            List<ReviewedEntityRow> entities = reviewRepository.findEntitiesAfter(
+                afterType, afterId, PageRequest.of(0, ENTITY_BATCH_SIZE));
+            for (ReviewedEntityRow entity : entities) {
+                transactionTemplate.executeWithoutResult(status ->
+                    rebuildEntity(entity.getEntityType(), entity.getEntityId()));
+            }
+            rebuilt += entities.size();
+            if (entities.size() < ENTITY_BATCH_SIZE) {
+                return rebuilt;
+            }
+            ReviewedEntityRow last = entities.get(entities.size() - 1);
+            afterType = last.getEntityType();
+            afterId = last.getEntityId();
+            log.debug("Rebuilt rating buckets through entity: {} with ID: {}", afterType, afterId);
+        }
+    }
+
+    private void rebuildEntity(String entityType, String entityId) {
+        // Waits for writes in flight on the entity; the new version also invalidates cached trends
+        entityVersionService.bumpVersion(entityType, entityId);
+
+        Map<LocalDate, RatingDailyBucket> buckets = new TreeMap<>();
+        for (DailyRatingCount count : reviewRepository.countDailyRatings(entityType, entityId, ReviewStatus.ACTIVE)) {
+            LocalDate day = count.getDay() != null ? count.getDay() : RatingTrendService.bucketDate(null);
+            buckets.computeIfAbsent(day, d -> RatingDailyBucket.builder()
+                    .entityType(entityType)
+                    .entityId(entityId)
+                    .bucketDate(d)
+                    .build())
+                .add(count.getRating(), count.getReviews().intValue());
+        }
+
+        bucketRepository.deleteByEntity(entityType, entityId);
+        bucketRepository.saveAll(buckets.values());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -3,17 +3,27 @@ package com.reviewservice.service;
 import com.reviewservice.dto.RatingSummaryDto;
 import com.reviewservice.entity.RatingSummary;
 import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.RatingSummaryChangedEvent;
 import com.reviewservice.exception.ResourceNotFoundException;
 import com.reviewservice.repository.RatingSummaryRepository;
 import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardRouter;
+import com.reviewservice.sharding.ShardedBy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,14 +32,24 @@ public class RatingSummaryService {
 
     private final RatingSummaryRepository ratingSummaryRepository;
     private final ReviewRepository reviewRepository;
+    private final EntityVersionService entityVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
 
+    @Value("${review.leaderboard.prior-mean:3.5}")
+    private double priorMean;
+
+    @Value("${review.leaderboard.prior-weight:10}")
+    private double priorWeight;
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
     @Transactional
     public void updateRatingSummary(String entityType, String entityId) {
         log.info("Updating rating summary for entity: {} with ID: {}", entityType, entityId);
 
         List<Review> reviews = reviewRepository
             .findByEntityTypeAndEntityIdAndStatusOrderByCreatedAtDesc(
-                entityType, entityId, "ACTIVE"
+                entityType, entityId, ReviewStatus.ACTIVE
             );
 
         RatingSummary summary = ratingSummaryRepository
@@ -67,10 +87,37 @@ public class RatingSummaryService {
             summary.setOneStarCount(ratingCounts.getOrDefault(1, 0L).intValue());
         }
 
-        ratingSummaryRepository.save(summary);
+        summary.setBayesianScore(bayesianScore(summary));
+
+        RatingSummary savedSummary = ratingSummaryRepository.save(summary);
+        eventPublisher.publishEvent(RatingSummaryChangedEvent.of(savedSummary));
         log.info("Rating summary updated successfully");
     }
 
+    /**
+     * Recomputes the stored score of a batch of summaries, e.g. after the prior changes.
+     * Only the score is written, from the counts current at update time, so concurrent
+     * summary updates are never overwritten. Returns the last summary ID of the batch, or
+     * null when there are none left.
+     */
+    @Transactional
+    public Long rescoreBatch(Long afterId, int batchSize) {
+        List<Long> ids = ratingSummaryRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return null;
+        }
+        ratingSummaryRepository.rescore(ids, priorMean, priorWeight);
+        return ids.get(ids.size() - 1);
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional
+    public void refreshRatingSummary(String entityType, String entityId) {
+        updateRatingSummary(entityType, entityId);
+        entityVersionService.bumpVersion(entityType, entityId);
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
     @Transactional(readOnly = true)
     public RatingSummaryDto getRatingSummary(String entityType, String entityId) {
         log.info("Fetching rating summary for entity: {} with ID: {}", entityType, entityId);
@@ -82,6 +129,45 @@ public class RatingSummaryService {
         return mapToDto(summary);
     }
 
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional(readOnly = true)
+    public Optional<RatingSummaryDto> findRatingSummary(String entityType, String entityId) {
+        return ratingSummaryRepository
+            .findByEntityTypeAndEntityId(entityType, entityId)
+            .map(this::mapToDto);
+    }
+
+    /**
+     * Summaries of the given entities, in request order; entities without one are left out.
+     */
+    public List<RatingSummaryDto> getRatingSummaries(String entityType, List<String> entityIds) {
+        // One query per shard holding any of the entities
+        Map<Integer, List<String>> idsByShard = entityIds.stream()
+            .distinct()
+            .collect(Collectors.groupingBy(entityId -> shardRouter.shardFor(entityType, entityId)));
+
+        Map<String, RatingSummary> summaries = shardRouter.onShards(idsByShard.keySet(), shard ->
+                ratingSummaryRepository.findByEntityTypeAndEntityIdIn(entityType, idsByShard.get(shard))).stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toMap(RatingSummary::getEntityId, Function.identity()));
+
+        return entityIds.stream()
+            .distinct()
+            .filter(summaries::containsKey)
+            .map(entityId -> mapToDto(summaries.get(entityId)))
+            .collect(Collectors.toList());
+    }
+
+    // (C * m + sum) / (C + n): few reviews stay near the prior mean m, many converge to the real average.
+    // RatingSummaryRepository.rescore computes the same in SQL
+    private double bayesianScore(RatingSummary summary) {
+        double weight = priorWeight + summary.getTotalReviews();
+        if (weight == 0) {
+            return 0.0;
+        }
+        return (priorWeight * priorMean + summary.ratingSum()) / weight;
+    }
+
     private RatingSummaryDto mapToDto(RatingSummary summary) {
         Map<Integer, Integer> distribution = new HashMap<>();
         distribution.put(5, summary.getFiveStarCount());
@@ -95,6 +181,7 @@ public class RatingSummaryService {
             .entityId(summary.getEntityId())
             .averageRating(summary.getAverageRating())
             .totalReviews(summary.getTotalReviews())
+            .bayesianScore(summary.getBayesianScore())
             .ratingDistribution(distribution)
             .updatedAt(summary.getUpdatedAt())
             .build();
@@ -0,0 +1,160 @@
+package com.reviewservice.service;
+
+import com.reviewservice.config.DatabaseProduct;
+import com.reviewservice.dto.RatingTrendPointDto;
+import com.reviewservice.dto.RatingWindowDto;
+import com.reviewservice.entity.RatingDailyBucket;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.exception.InvalidRequestException;
+import com.reviewservice.repository.RatingDailyBucketRepository;
+import com.reviewservice.repository.RatingWindowTotals;
+import com.reviewservice.sharding.ShardedBy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Daily per-entity rating buckets, keyed by the day a review was created. Review writes
+ * adjust their bucket in the same transaction, so any window is answered by summing at
+ * most one row per day instead of scanning reviews.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RatingTrendService {
+
+    static final int MAX_TREND_DAYS = 731;
+
+    private final RatingDailyBucketRepository bucketRepository;
+    private final DatabaseProduct databaseProduct;
+
+    // Runs synchronously inside the publishing review transaction
+    @EventListener
+    @Transactional
+    public void onReviewChanged(ReviewChangedEvent event) {
+        LocalDate day = bucketDate(event.getCreatedAt());
+        switch (event.getType()) {
+            case CREATED -> addToBucket(event.getEntityType(), event.getEntityId(), day, Map.of(event.getRating(), 1));
+            case DELETED -> addToBucket(event.getEntityType(), event.getEntityId(), day, Map.of(event.getRating(), -1));
+            case UPDATED -> {
+                if (!event.getRating().equals(event.getPreviousRating())) {
+                    addToBucket(event.getEntityType(), event.getEntityId(), day, Map.of(
+                        event.getPreviousRating(), -1,
+                        event.getRating(), 1));
+                }
+            }
+        }
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional
+    public void addToBucket(String entityType, String entityId, LocalDate day, Map<Integer, Integer> deltas) {
+        if (databaseProduct.isPostgres()) {
+            RatingDailyBucket delta = newBucket(entityType, entityId, day);
+            deltas.forEach(delta::add);
+            bucketRepository.upsertAdd(delta);
+            return;
+        }
+
+        // Elsewhere the row lock only orders writers of an existing bucket; the other databases only run tests
+        RatingDailyBucket bucket = bucketRepository.findForUpdate(entityType, entityId, day)
+            .orElseGet(() -> newBucket(entityType, entityId, day));
+
+        deltas.forEach(bucket::add);
+        bucketRepository.save(bucket);
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional(readOnly = true)
+    public RatingWindowDto getWindow(String entityType, String entityId, LocalDate from, LocalDate to) {
+        log.info("Fetching rating window {} to {} for entity: {} with ID: {}", from, to, entityType, entityId);
+        validateRange(from, to);
+
+        RatingWindowTotals totals = bucketRepository.sumWindow(entityType, entityId, from, to);
+
+        Map<Integer, Integer> distribution = new HashMap<>();
+        distribution.put(5, totals.getFiveStarCount().intValue());
+        distribution.put(4, totals.getFourStarCount().intValue());
+        distribution.put(3, totals.getThreeStarCount().intValue());
+        distribution.put(2, totals.getTwoStarCount().intValue());
+        distribution.put(1, totals.getOneStarCount().intValue());
+
+        return RatingWindowDto.builder()
+            .entityType(entityType)
+            .entityId(entityId)
+            .from(from)
+            .to(to)
+            .averageRating(average(totals.getRatingSum(), totals.getReviewCount()))
+            .totalReviews(totals.getReviewCount().intValue())
+            .ratingDistribution(distribution)
+            .build();
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional(readOnly = true)
+    public List<RatingTrendPointDto> getTrend(
+        String entityType,
+        String entityId,
+        LocalDate from,
+        LocalDate to,
+        TrendInterval interval
+    ) {
+        log.info("Fetching {} rating trend {} to {} for entity: {} with ID: {}",
+            interval, from, to, entityType, entityId);
+        validateRange(from, to);
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_TREND_DAYS) {
+            throw new InvalidRequestException("Trend range cannot exceed " + MAX_TREND_DAYS + " days");
+        }
+
+        // Days without reviews have no bucket, so periods without reviews are simply absent
+        Map<LocalDate, long[]> periods = new TreeMap<>();
+        for (RatingDailyBucket bucket : bucketRepository
+                .findByEntityTypeAndEntityIdAndBucketDateBetweenOrderByBucketDateAsc(entityType, entityId, from, to)) {
+            long[] totals = periods.computeIfAbsent(interval.periodStart(bucket.getBucketDate()), start -> new long[2]);
+            totals[0] += bucket.getReviewCount();
+            totals[1] += bucket.getRatingSum();
+        }
+
+        return periods.entrySet().stream()
+            .filter(period -> period.getValue()[0] > 0)
+            .map(period -> RatingTrendPointDto.builder()
+                .periodStart(period.getKey())
+                .totalReviews((int) period.getValue()[0])
+                .averageRating(average(period.getValue()[1], period.getValue()[0]))
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private static RatingDailyBucket newBucket(String entityType, String entityId, LocalDate day) {
+        return RatingDailyBucket.builder()
+            .entityType(entityType)
+            .entityId(entityId)
+            .bucketDate(day)
+            .build();
+    }
+
+    static LocalDate bucketDate(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+    }
+
+    private Double average(long sum, long count) {
+        return count == 0 ? 0.0 : Math.round(sum * 10.0 / count) / 10.0;
+    }
+}
@@ -0,0 +1,199 @@
+package com.reviewservice.service;
+
+import com.reviewservice.dto.CompactionResultDto;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.sharding.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hard-deletes reviews that have been DELETED for longer than {@code review.compaction.retention}.
+ * Each batch is one short transaction that copies the reviews to {@code reviews_archive} and
+ * deletes them with their images, votes and responses. On PostgreSQL the batch skips rows
+ * locked by live requests and gives up on any other lock after {@code lock-timeout}, so a
+ * run never stalls writers for longer than that; skipped rows are picked up by the next run.
+ */
+@Component
+@Slf4j
+public class ReviewCompactionService {
+
+    private static final String SELECT_BATCH =
+        "SELECT id FROM reviews WHERE status = :deleted AND updated_at < :before AND id > :afterId " +
+        "ORDER BY id LIMIT :limit";
+
+    private static final String POSTGRES_BYTES =
+        "SELECT (SELECT COALESCE(SUM(pg_column_size(r.*)), 0) FROM reviews r WHERE r.id IN (:ids)) " +
+        "+ (SELECT COALESCE(SUM(pg_column_size(i.*)), 0) FROM review_images i WHERE i.review_id IN (:ids)) " +
+        "+ (SELECT COALESCE(SUM(pg_column_size(h.*)), 0) FROM review_helpfulness h WHERE h.review_id IN (:ids)) " +
+        "+ (SELECT COALESCE(SUM(pg_column_size(p.*)), 0) FROM review_responses p WHERE p.review_id IN (:ids))";
+
+    // Payload only: image bytes plus review text
+    private static final String PAYLOAD_BYTES =
+        "SELECT (SELECT COALESCE(SUM(file_size), 0) FROM review_images WHERE review_id IN (:ids)) " +
+        "+ (SELECT COALESCE(SUM(COALESCE(LENGTH(title), 0) + COALESCE(LENGTH(comment), 0)), 0) " +
+        "FROM reviews WHERE id IN (:ids))";
+
+    private static final String ARCHIVE =
+        "INSERT INTO reviews_archive (id, entity_type, entity_id, user_id, rating, title, comment, verified, " +
+        "helpful_count, unhelpful_count, created_at, deleted_at, archived_at) " +
+        "SELECT id, entity_type, entity_id, user_id, rating, title, comment, verified, " +
+        "helpful_count, unhelpful_count, created_at, updated_at, :now FROM reviews WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration lockTimeout;
+    private final Duration pause;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ReviewCompactionService(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        ShardRouter shardRouter,
+        PlatformTransactionManager transactionManager,
+        @Value("${review.compaction.enabled:false}") boolean enabled,
+        @Value("${review.compaction.retention:90d}") Duration retention,
+        @Value("${review.compaction.batch-size:200}") int batchSize,
+        @Value("${review.compaction.lock-timeout:2s}") Duration lockTimeout,
+        @Value("${review.compaction.pause:100ms}") Duration pause
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.lockTimeout = lockTimeout;
+        this.pause = pause;
+    }
+
+    @Scheduled(cron = "${review.compaction.cron:0 45 3 * * *}")
+    public void scheduledCompaction() {
+        if (enabled && compact().isEmpty()) {
+            log.info("Review compaction is already running; skipping");
+        }
+    }
+
+    /**
+     * Runs a compaction pass over every shard; empty when one is already running.
+     */
+    public Optional<CompactionResultDto> compact() {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(retention);
+            CompactionResultDto result = new CompactionResultDto();
+            shardRouter.forEachShard(shard -> compactShard(before, result));
+            log.info("Review compaction finished: {} reviews archived, {} images and {} votes deleted, {} bytes reclaimed",
+                result.getReviewsArchived(), result.getImagesDeleted(), result.getVotesDeleted(),
+                result.getBytesReclaimed());
+            return Optional.of(result);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void compactShard(LocalDateTime before, CompactionResultDto result) {
+        boolean postgres = Boolean.TRUE.equals(jdbcTemplate.getJdbcTemplate().execute(
+            (ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+
+        long afterId = 0;
+        while (true) {
+            long cursor = afterId;
+            Batch batch;
+            try {
+                batch = transactionTemplate.execute(status -> compactBatch(before, cursor, postgres));
+            } catch (PessimisticLockingFailureException e) {
+                log.warn("Review compaction batch after ID {} hit the lock timeout; leaving the rest for the next run",
+                    cursor);
+                return;
+            }
+            if (batch == null || batch.getIds().isEmpty()) {
+                return;
+            }
+            // Counted only once the batch has committed
+            add(result, batch.getCounts());
+            afterId = batch.getIds().get(batch.getIds().size() - 1);
+            log.debug("Compacted {} deleted reviews through ID: {}", batch.getIds().size(), afterId);
+            if (batch.getIds().size() < batchSize || !pause()) {
+                return;
+            }
+        }
+    }
+
+    private Batch compactBatch(LocalDateTime before, long afterId, boolean postgres) {
+        if (postgres) {
+            jdbcTemplate.getJdbcTemplate().execute("SET LOCAL lock_timeout = '" + lockTimeout.toMillis() + "ms'");
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("deleted", ReviewStatus.DELETED.getCode())
+            .addValue("before", before)
+            .addValue("afterId", afterId)
+            .addValue("limit", batchSize);
+        // Rows a live request holds are skipped instead of waited for
+        List<Long> ids = jdbcTemplate.queryForList(
+            postgres ? SELECT_BATCH + " FOR UPDATE SKIP LOCKED" : SELECT_BATCH, params, Long.class);
+        if (ids.isEmpty()) {
+            return new Batch(ids, null);
+        }
+
+        MapSqlParameterSource batch = new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("now", LocalDateTime.now());
+        Long bytes = jdbcTemplate.queryForObject(postgres ? POSTGRES_BYTES : PAYLOAD_BYTES, batch, Long.class);
+
+        int archived = jdbcTemplate.update(ARCHIVE, batch);
+        int images = jdbcTemplate.update("DELETE FROM review_images WHERE review_id IN (:ids)", batch);
+        int votes = jdbcTemplate.update("DELETE FROM review_helpfulness WHERE review_id IN (:ids)", batch);
+        int responses = jdbcTemplate.update("DELETE FROM review_responses WHERE review_id IN (:ids)", batch);
+        jdbcTemplate.update("DELETE FROM reviews WHERE id IN (:ids)", batch);
+
+        return new Batch(ids, new CompactionResultDto(
+            archived, images, votes, responses, bytes == null ? 0 : bytes, 1));
+    }
+
+    private static void add(CompactionResultDto total, CompactionResultDto batch) {
+        total.setReviewsArchived(total.getReviewsArchived() + batch.getReviewsArchived());
+        total.setImagesDeleted(total.getImagesDeleted() + batch.getImagesDeleted());
+        total.setVotesDeleted(total.getVotesDeleted() + batch.getVotesDeleted());
+        total.setResponsesDeleted(total.getResponsesDeleted() + batch.getResponsesDeleted());
+        total.setBytesReclaimed(total.getBytesReclaimed() + batch.getBytesReclaimed());
+        total.setBatches(total.getBatches() + batch.getBatches());
+    }
+
+    // Gives writers room between batches; false when interrupted
+    private boolean pause() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @lombok.Value
+    private static class Batch {
+        List<Long> ids;
+        CompactionResultDto counts;
+    }
+}
@@ -0,0 +1,27 @@
+package com.reviewservice.service;
+
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.entity.ReviewImage;
+import com.reviewservice.entity.ReviewResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Sub-resources of a single review fetched concurrently by {@link ReviewDetailFetcher}.
+ * A part that failed or missed the deadline is {@code null} and listed in {@code missingParts}.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewDetail {
+
+    private final List<ReviewImage> images;
+    private final List<ReviewResponse> responses;
+    private final RatingSummaryDto ratingSummary;
+    private final List<String> missingParts;
+
+    public boolean isDegraded() {
+        return !missingParts.isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.reviewservice.service;
+
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewImage;
+import com.reviewservice.entity.ReviewResponse;
+import com.reviewservice.replica.ReplicaContext;
+import com.reviewservice.repository.ReviewResponseRepository;
+import com.reviewservice.sharding.ShardContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fetches the independent sub-resources of a review (images, responses and the entity's
+ * rating summary) in parallel. All fetches share one deadline: whatever has not finished
+ * when it expires is cancelled and reported as missing instead of failing the request.
+ * Fetches the pool has no room for are reported as missing the same way.
+ */
+@Component
+@Slf4j
+public class ReviewDetailFetcher {
+
+    static final String IMAGES = "images";
+    static final String RESPONSES = "responses";
+    static final String RATING_SUMMARY = "ratingSummary";
+
+    private final ImageStorageService imageStorageService;
+    private final ReviewResponseRepository reviewResponseRepository;
+    private final RatingSummaryService ratingSummaryService;
+    private final ExecutorService executor;
+    private final long deadlineMillis;
+
+    public ReviewDetailFetcher(
+        ImageStorageService imageStorageService,
+        ReviewResponseRepository reviewResponseRepository,
+        RatingSummaryService ratingSummaryService,
+        @Value("${review.detail.pool-size:16}") int poolSize,
+        @Value("${review.detail.queue-capacity:512}") int queueCapacity,
+        @Value("${review.detail.deadline-ms:500}") long deadlineMillis
+    ) {
+        this.imageStorageService = imageStorageService;
+        this.reviewResponseRepository = reviewResponseRepository;
+        this.ratingSummaryService = ratingSummaryService;
+        this.deadlineMillis = deadlineMillis;
+        // A saturated pool rejects the fetch; running it on the request thread would ignore the deadline
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("review-detail-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public ReviewDetail fetch(Review review) {
+        Long reviewId = review.getId();
+        // The pool threads query the caller's shard, on the primary if the caller has to
+        List<Callable<Object>> tasks = List.of(
+            ReplicaContext.wrap(ShardContext.wrap(() -> imageStorageService.getImagesByReviewId(reviewId))),
+            ReplicaContext.wrap(ShardContext.wrap(() -> reviewResponseRepository.findByReviewIdOrderByCreatedAtDesc(reviewId))),
+            ReplicaContext.wrap(ShardContext.wrap(() -> ratingSummaryService
+                .findRatingSummary(review.getEntityType(), review.getEntityId())
+                .orElse(null)))
+        );
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        List<Future<Object>> futures = new ArrayList<>(tasks.size());
+        for (Callable<Object> task : tasks) {
+            try {
+                futures.add(executor.submit(task));
+            } catch (RejectedExecutionException e) {
+                // Null marks a fetch the pool had no room for
+                futures.add(null);
+            }
+        }
+
+        List<String> missingParts = new ArrayList<>();
+        List<ReviewImage> images = resultOf(futures.get(0), deadline, IMAGES, reviewId, missingParts);
+        List<ReviewResponse> responses = resultOf(futures.get(1), deadline, RESPONSES, reviewId, missingParts);
+        RatingSummaryDto ratingSummary = resultOf(futures.get(2), deadline, RATING_SUMMARY, reviewId, missingParts);
+
+        return new ReviewDetail(images, responses, ratingSummary, missingParts);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T resultOf(Future<Object> future, long deadline, String part, Long reviewId, List<String> missingParts) {
+        if (future == null) {
+            log.warn("Skipped fetching {} for review ID: {}, the detail pool is full", part, reviewId);
+            missingParts.add(part);
+            return null;
+        }
+        try {
+            return (T) future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Fetching {} for review ID: {} exceeded {}ms deadline", part, reviewId, deadlineMillis);
+        } catch (ExecutionException e) {
+            log.warn("Fetching {} for review ID: {} failed", part, reviewId, e.getCause());
+        } catch (InterruptedException e) {
+            // Keeps the flag, so the remaining parts give up at once as well
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            log.warn("Interrupted while fetching {} for review ID: {}", part, reviewId);
+        }
+        missingParts.add(part);
+        return null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
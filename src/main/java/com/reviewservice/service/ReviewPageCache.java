@@ -0,0 +1,74 @@
+package com.reviewservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Serialized JSON of the first listing pages per filter/sort combination. Keys embed the
+ * entity version, so a write makes old entries unreachable and they age out under the
+ * byte budget instead of being invalidated explicitly.
+ */
+@Component
+@Slf4j
+public class ReviewPageCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<ReviewPageKey, byte[]> pages;
+    private final int cachedPages;
+
+    public ReviewPageCache(
+        ObjectMapper objectMapper,
+        @Value("${review.page-cache.pages:3}") int cachedPages,
+        @Value("${review.page-cache.max-bytes:67108864}") long maxBytes
+    ) {
+        this.objectMapper = objectMapper;
+        this.cachedPages = cachedPages;
+        this.pages = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((ReviewPageKey key, byte[] json) -> json.length)
+            .build();
+    }
+
+    public boolean isCacheable(int page) {
+        return page < cachedPages;
+    }
+
+    public byte[] getOrRender(ReviewPageKey key, Supplier<?> loader) {
+        // Concurrent misses for the same key wait for a single render
+        return pages.get(key, k -> {
+            log.debug("Rendering review page for entity: {} with ID: {} at version {}",
+                k.getEntityType(), k.getEntityId(), k.getVersion());
+            return render(loader.get());
+        });
+    }
+
+    public byte[] render(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize review page", e);
+        }
+    }
+
+    // Rolled-back writes reuse entity versions, so a page cached since then would be stale
+    public void clear() {
+        pages.invalidateAll();
+    }
+
+    long weightedSize() {
+        return pages.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L);
+    }
+
+    void cleanUp() {
+        pages.cleanUp();
+    }
+}
@@ -0,0 +1,20 @@
+package com.reviewservice.service;
+
+import lombok.Value;
+import org.springframework.data.domain.Sort;
+
+@Value
+public class ReviewPageKey {
+
+    String entityType;
+    String entityId;
+    long version;
+    Integer minRating;
+    Integer maxRating;
+    Boolean verifiedOnly;
+    int page;
+    int size;
+    String sortBy;
+    Sort.Direction direction;
+    boolean includeResponses;
+}
@@ -5,24 +5,44 @@ import com.reviewservice.entity.Review;
 import com.reviewservice.entity.ReviewHelpfulness;
 import com.reviewservice.entity.ReviewImage;
 import com.reviewservice.entity.ReviewResponse;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.event.ReviewResponseAddedEvent;
+import com.reviewservice.event.ReviewVoteChangedEvent;
 import com.reviewservice.exception.DuplicateReviewException;
 import com.reviewservice.exception.ResourceNotFoundException;
 import com.reviewservice.exception.UnauthorizedException;
+import com.reviewservice.partition.ReviewPartitionMap;
 import com.reviewservice.repository.ReviewHelpfulnessRepository;
+import com.reviewservice.repository.ReviewListRow;
 import com.reviewservice.repository.ReviewRepository;
 import com.reviewservice.repository.ReviewResponseRepository;
+import com.reviewservice.sharding.ShardRouter;
+import com.reviewservice.sharding.ShardedBy;
+import com.reviewservice.sharding.ShardedPages;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,13 +54,21 @@ public class ReviewService {
     private final ReviewResponseRepository reviewResponseRepository;
     private final RatingSummaryService ratingSummaryService;
     private final ImageStorageService imageStorageService;
-
+    private final ReviewDetailFetcher reviewDetailFetcher;
+    private final EntityVersionService entityVersionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewPartitionMap reviewPartitionMap;
+    private final ShardRouter shardRouter;
+    private final DuplicateReviewFilter duplicateReviewFilter;
+
+    @ShardedBy(entityType = "#request.entityType", entityId = "#request.entityId")
     @Transactional
     public ReviewResponseDto createReview(ReviewRequest request, List<MultipartFile> images) throws IOException {
         log.info("Creating review for entity: {} with ID: {}", request.getEntityType(), request.getEntityId());
 
-        if (reviewRepository.existsByEntityTypeAndEntityIdAndUserId(
-            request.getEntityType(), request.getEntityId(), request.getUserId())) {
+        if (duplicateReviewFilter.mightHaveReviewed(request.getEntityType(), request.getEntityId(), request.getUserId())
+            && reviewRepository.existsByEntityTypeAndEntityIdAndUserId(
+                request.getEntityType(), request.getEntityId(), request.getUserId())) {
             throw new DuplicateReviewException(
                 "User has already reviewed this entity"
             );
@@ -54,10 +82,20 @@ public class ReviewService {
             .title(request.getTitle())
             .comment(request.getComment())
             .verified(false)
-            .status("ACTIVE")
+            .status(ReviewStatus.ACTIVE)
             .build();
 
-        Review savedReview = reviewRepository.save(review);
+        Review savedReview;
+        try {
+            savedReview = reviewRepository.save(review);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent submission, or one the filter has not seen, got there first
+            if (isDuplicateAuthor(e)) {
+                throw new DuplicateReviewException("User has already reviewed this entity");
+            }
+            throw e;
+        }
+        duplicateReviewFilter.recordReview(request.getEntityType(), request.getEntityId(), request.getUserId());
 
         if (images != null && !images.isEmpty()) {
             imageStorageService.storeImages(savedReview.getId(), images);
@@ -67,22 +105,26 @@ public class ReviewService {
             savedReview.getEntityType(),
             savedReview.getEntityId()
         );
+        entityVersionService.bumpVersion(savedReview.getEntityType(), savedReview.getEntityId());
+        eventPublisher.publishEvent(ReviewChangedEvent.created(savedReview));
 
         log.info("Review created successfully with ID: {}", savedReview.getId());
         return mapToDtoWithImages(savedReview);
     }
 
+    @ShardedBy(id = "#reviewId")
     @Transactional
     public ReviewResponseDto updateReview(Long reviewId, String userId, ReviewUpdateRequest request, List<MultipartFile> newImages) throws IOException {
         log.info("Updating review ID: {} by user: {}", reviewId, userId);
 
-        Review review = reviewRepository.findByIdAndStatus(reviewId, "ACTIVE")
+        Review review = findActiveReview(reviewId)
             .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
 
         if (!review.getUserId().equals(userId)) {
             throw new UnauthorizedException("User not authorized to update this review");
         }
 
+        Integer previousRating = review.getRating();
         review.setRating(request.getRating());
         review.setTitle(request.getTitle());
         review.setComment(request.getComment());
@@ -97,41 +139,63 @@ public class ReviewService {
             updatedReview.getEntityType(),
             updatedReview.getEntityId()
         );
+        entityVersionService.bumpVersion(updatedReview.getEntityType(), updatedReview.getEntityId());
+        eventPublisher.publishEvent(ReviewChangedEvent.updated(updatedReview, previousRating));
 
         log.info("Review updated successfully");
         return mapToDtoWithImages(updatedReview);
     }
 
+    @ShardedBy(id = "#reviewId")
     @Transactional
     public void deleteReview(Long reviewId, String userId) {
         log.info("Deleting review ID: {} by user: {}", reviewId, userId);
 
-        Review review = reviewRepository.findByIdAndStatus(reviewId, "ACTIVE")
+        Review review = findActiveReview(reviewId)
             .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
 
         if (!review.getUserId().equals(userId)) {
             throw new UnauthorizedException("User not authorized to delete this review");
         }
 
-        review.setStatus("DELETED");
+        review.setStatus(ReviewStatus.DELETED);
         reviewRepository.save(review);
 
         ratingSummaryService.updateRatingSummary(
             review.getEntityType(),
             review.getEntityId()
         );
+        entityVersionService.bumpVersion(review.getEntityType(), review.getEntityId());
+        eventPublisher.publishEvent(ReviewChangedEvent.deleted(review));
 
         log.info("Review deleted successfully");
     }
 
-    @Transactional(readOnly = true)
+    @ShardedBy(id = "#reviewId")
     public ReviewResponseDto getReviewById(Long reviewId) {
-        Review review = reviewRepository.findByIdAndStatus(reviewId, "ACTIVE")
+        Review review = findActiveReview(reviewId)
             .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
 
-        return mapToDtoWithResponsesAndImages(review);
+        ReviewDetail detail = reviewDetailFetcher.fetch(review);
+
+        ReviewResponseDto dto = mapToDto(review, detail.getImages() != null ? detail.getImages() : List.of());
+        if (detail.getResponses() != null) {
+            dto.setResponses(detail.getResponses().stream()
+                .map(this::mapResponseToDto)
+                .collect(Collectors.toList()));
+        }
+        dto.setRatingSummary(detail.getRatingSummary());
+
+        if (detail.isDegraded()) {
+            log.warn("Returning degraded review ID: {}, missing: {}", reviewId, detail.getMissingParts());
+            dto.setDegraded(true);
+            dto.setDegradedParts(detail.getMissingParts());
+        }
+
+        return dto;
     }
 
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
     @Transactional(readOnly = true)
     public Page<ReviewResponseDto> getReviewsByEntity(
         String entityType,
@@ -143,41 +207,175 @@ public class ReviewService {
     ) {
         log.info("Fetching reviews for entity: {} with ID: {}", entityType, entityId);
 
-        Page<Review> reviews;
+        Page<ReviewListRow> reviews;
 
         if (verifiedOnly != null && verifiedOnly) {
-            reviews = reviewRepository.findVerifiedReviews(entityType, entityId, "ACTIVE", pageable);
+            reviews = reviewRepository.findVerifiedRows(entityType, entityId, ReviewStatus.ACTIVE, pageable);
         } else if (minRating != null || maxRating != null) {
-            reviews = reviewRepository.findByEntityAndRatingRange(
-                entityType, entityId, "ACTIVE", minRating, maxRating, pageable
+            reviews = reviewRepository.findRowsByEntityAndRatingRange(
+                entityType, entityId, ReviewStatus.ACTIVE, minRating, maxRating, pageable
             );
         } else {
-            reviews = reviewRepository.findByEntityTypeAndEntityIdAndStatus(
-                entityType, entityId, "ACTIVE", pageable
+            reviews = reviewRepository.findRowsByEntity(
+                entityType, entityId, ReviewStatus.ACTIVE, pageable
             );
         }
 
-        return reviews.map(this::mapToDtoWithImages);
+        Map<Long, List<ImageMetadataDto>> images = imageStorageService.getImageMetadataByReviewIds(
+            reviews.map(ReviewListRow::getId).getContent());
+        return reviews.map(review -> mapToDtoWithMetadata(review, images));
     }
 
+    /**
+     * Up to {@code limit} of an entity's active reviews with IDs above {@code afterId}, in ID
+     * order. Streams every review by passing the last ID of each chunk as the next afterId.
+     */
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
     @Transactional(readOnly = true)
+    public List<ReviewResponseDto> getReviewsByEntityAfter(String entityType, String entityId, long afterId, int limit) {
+        List<ReviewListRow> reviews = reviewRepository.findRowsByEntityAfter(
+            entityType, entityId, ReviewStatus.ACTIVE, afterId, PageRequest.of(0, limit));
+        Map<Long, List<ImageMetadataDto>> images = imageStorageService.getImageMetadataByReviewIds(
+            reviews.stream().map(ReviewListRow::getId).collect(Collectors.toList()));
+        return reviews.stream()
+            .map(review -> mapToDtoWithMetadata(review, images))
+            .collect(Collectors.toList());
+    }
+
     public Page<ReviewResponseDto> getReviewsByUser(String userId, Pageable pageable) {
         log.info("Fetching reviews for user: {}", userId);
-        return reviewRepository.findByUserIdAndStatus(userId, "ACTIVE", pageable)
-            .map(this::mapToDtoWithImages);
+        if (!shardRouter.isSharded()) {
+            Page<ReviewListRow> page = reviewRepository.findRowsByUser(userId, ReviewStatus.ACTIVE, pageable);
+            Map<Long, List<ImageMetadataDto>> images = imageStorageService.getImageMetadataByReviewIds(
+                page.map(ReviewListRow::getId).getContent());
+            return page.map(review -> mapToDtoWithMetadata(review, images));
+        }
+
+        // A user's reviews are spread over every shard: each shard returns its first
+        // offset + size rows in the requested order and the merge keeps the page
+        Page<ReviewListRow> page = ShardedPages.merge(shardRouter.onAllShards(shard ->
+            reviewRepository.findRowsByUser(userId, ReviewStatus.ACTIVE, ShardedPages.perShard(pageable))), pageable);
+
+        Map<Integer, List<Long>> idsByShard = shardRouter.groupByShard(
+            page.map(ReviewListRow::getId).getContent());
+        Map<Long, List<ImageMetadataDto>> images = new HashMap<>();
+        shardRouter.onShards(idsByShard.keySet(), shard ->
+                imageStorageService.getImageMetadataByReviewIds(idsByShard.get(shard)))
+            .forEach(images::putAll);
+
+        return page.map(review -> mapToDtoWithMetadata(review, images));
+    }
+
+    /**
+     * Sets each review's viewerVote to the viewer's vote on it, read with one query per shard.
+     */
+    public void applyViewerVotes(List<ReviewResponseDto> reviews, String viewerId) {
+        if (reviews.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<Long>> idsByShard = shardRouter.groupByShard(reviews.stream()
+            .map(ReviewResponseDto::getId)
+            .collect(Collectors.toList()));
+        Map<Long, Boolean> votes = new HashMap<>();
+        shardRouter.onShards(idsByShard.keySet(), shard ->
+                helpfulnessRepository.findViewerVotes(idsByShard.get(shard), viewerId))
+            .forEach(rows -> rows.forEach(row -> votes.put(row.getReviewId(), row.getHelpful())));
+
+        reviews.forEach(review -> {
+            Boolean helpful = votes.get(review.getId());
+            review.setViewerVote(helpful == null ? "NONE" : helpful ? "HELPFUL" : "UNHELPFUL");
+        });
+    }
+
+    /**
+     * Sets each review's latestResponse, read with one windowed query per shard for the reviews
+     * whose responseCount says they have any.
+     */
+    public void applyLatestResponses(List<ReviewResponseDto> reviews) {
+        Map<Integer, List<Long>> idsByShard = shardRouter.groupByShard(reviews.stream()
+            .filter(review -> review.getResponseCount() != null && review.getResponseCount() > 0)
+            .map(ReviewResponseDto::getId)
+            .collect(Collectors.toList()));
+        if (idsByShard.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ReviewResponseDetailDto> latest = new HashMap<>();
+        shardRouter.onShards(idsByShard.keySet(), shard ->
+                reviewResponseRepository.findLatestByReviewIds(idsByShard.get(shard)))
+            .forEach(responses -> responses.forEach(response ->
+                latest.put(response.getReviewId(), mapResponseToDto(response))));
+
+        reviews.forEach(review -> review.setLatestResponse(latest.get(review.getId())));
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional(readOnly = true)
+    public Page<ReviewResponseDto> getReviewsByIds(String entityType, String entityId, Page<Long> reviewIds) {
+        Map<Long, ReviewListRow> reviews = reviewRepository.findRowsByIds(
+                reviewIds.getContent(), entityType, entityId, ReviewStatus.ACTIVE).stream()
+            .collect(Collectors.toMap(ReviewListRow::getId, review -> review));
+        Map<Long, List<ImageMetadataDto>> images = imageStorageService.getImageMetadataByReviewIds(reviews.keySet());
+
+        // Keep the order the ids were ranked in
+        List<ReviewResponseDto> content = reviewIds.getContent().stream()
+            .map(reviews::get)
+            .filter(review -> review != null)
+            .map(review -> mapToDtoWithMetadata(review, images))
+            .collect(Collectors.toList());
+
+        return new PageImpl<>(content, reviewIds.getPageable(), reviewIds.getTotalElements());
+    }
+
+    @ShardedBy(entityType = "#entityType", entityId = "#entityId")
+    @Transactional(readOnly = true)
+    public ProductPageDto getProductPage(String entityType, String entityId, int pageSize, int topHelpful) {
+        log.info("Fetching product page for entity: {} with ID: {}", entityType, entityId);
+
+        Page<ReviewListRow> firstPage = reviewRepository.findRowsByEntity(
+            entityType, entityId, ReviewStatus.ACTIVE,
+            PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"))
+        );
+
+        List<ReviewListRow> mostHelpful = topHelpful > 0
+            ? reviewRepository.findRowsByEntityAndHelpfulCountGreaterThan(
+                entityType, entityId, ReviewStatus.ACTIVE, 0,
+                PageRequest.of(0, topHelpful, Sort.by(Sort.Direction.DESC, "helpfulCount", "createdAt")))
+            : List.of();
+
+        // One metadata query covers both lists; image bytes are never loaded
+        Map<Long, List<ImageMetadataDto>> images = imageStorageService.getImageMetadataByReviewIds(
+            Stream.concat(firstPage.getContent().stream(), mostHelpful.stream())
+                .map(ReviewListRow::getId)
+                .collect(Collectors.toSet())
+        );
+
+        List<ReviewResponseDto> pageContent = firstPage.getContent().stream()
+            .map(review -> mapToDtoWithMetadata(review, images))
+            .collect(Collectors.toList());
+
+        return ProductPageDto.builder()
+            .summary(ratingSummaryService.findRatingSummary(entityType, entityId).orElse(null))
+            .reviews(new PageImpl<>(pageContent, firstPage.getPageable(), firstPage.getTotalElements()))
+            .mostHelpful(mostHelpful.stream()
+                .map(review -> mapToDtoWithMetadata(review, images))
+                .collect(Collectors.toList()))
+            .build();
     }
 
+    @ShardedBy(id = "#reviewId")
     @Transactional
     public void markReviewHelpfulness(Long reviewId, HelpfulnessRequest request) {
         log.info("Marking review {} as {} by user {}",
             reviewId, request.getHelpful() ? "helpful" : "unhelpful", request.getUserId());
 
-        Review review = reviewRepository.findByIdAndStatus(reviewId, "ACTIVE")
+        Review review = findActiveReview(reviewId)
             .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
 
         ReviewHelpfulness existing = helpfulnessRepository
             .findByReviewIdAndUserId(reviewId, request.getUserId())
             .orElse(null);
+        Boolean previousHelpful = existing == null ? null : existing.getHelpful();
 
         if (existing != null) {
             if (existing.getHelpful()) {
@@ -191,6 +389,7 @@ public class ReviewService {
         ReviewHelpfulness helpfulness = ReviewHelpfulness.builder()
             .reviewId(reviewId)
             .userId(request.getUserId())
+            .reviewCreatedAt(review.getCreatedAt())
             .helpful(request.getHelpful())
             .build();
 
@@ -203,14 +402,18 @@ public class ReviewService {
         }
 
         reviewRepository.save(review);
+        entityVersionService.bumpVersion(review.getEntityType(), review.getEntityId());
+        eventPublisher.publishEvent(ReviewVoteChangedEvent.of(
+            review, request.getUserId(), request.getHelpful(), previousHelpful));
         log.info("Helpfulness marked successfully");
     }
 
+    @ShardedBy(id = "#reviewId")
     @Transactional
     public ReviewResponseDetailDto addResponse(Long reviewId, ResponseRequest request) {
         log.info("Adding response to review ID: {}", reviewId);
 
-        Review review = reviewRepository.findByIdAndStatus(reviewId, "ACTIVE")
+        Review review = findActiveReview(reviewId)
             .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
 
         ReviewResponse response = ReviewResponse.builder()
@@ -221,25 +424,41 @@ public class ReviewService {
             .build();
 
         ReviewResponse savedResponse = reviewResponseRepository.save(response);
+        reviewRepository.incrementResponseCount(reviewId);
+        entityVersionService.bumpVersion(review.getEntityType(), review.getEntityId());
+        eventPublisher.publishEvent(ReviewResponseAddedEvent.of(review, savedResponse));
         log.info("Response added successfully");
 
         return mapResponseToDto(savedResponse);
     }
 
+    private Optional<Review> findActiveReview(Long reviewId) {
+        Optional<ReviewPartitionMap.CreatedAtRange> range = reviewPartitionMap.createdAtRange(reviewId);
+        if (range.isEmpty()) {
+            return reviewRepository.findByIdAndStatus(reviewId, ReviewStatus.ACTIVE);
+        }
+        // Bounding created_at lets Postgres prune to the partitions that can hold this ID
+        Optional<Review> review = reviewRepository.findByIdAndStatusAndCreatedAtBetween(
+            reviewId, ReviewStatus.ACTIVE, range.get().getFrom(), range.get().getTo());
+        if (review.isPresent()) {
+            return review;
+        }
+        // The range is a guess from ID order; a review created far out of order falls outside it
+        return reviewRepository.findByIdAndStatus(reviewId, ReviewStatus.ACTIVE);
+    }
+
+    private boolean isDuplicateAuthor(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+            && violation.getConstraintName() != null
+            && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Review.UNIQUE_AUTHOR);
+    }
+
     private ReviewResponseDto mapToDtoWithImages(Review review) {
-        List<ReviewImage> images = imageStorageService.getImagesByReviewId(review.getId());
+        return mapToDto(review, imageStorageService.getImagesByReviewId(review.getId()));
+    }
 
-        return ReviewResponseDto.builder()
-            .id(review.getId())
-            .entityType(review.getEntityType())
-            .entityId(review.getEntityId())
-            .userId(review.getUserId())
-            .rating(review.getRating())
-            .title(review.getTitle())
-            .comment(review.getComment())
-            .verified(review.getVerified())
-            .helpfulCount(review.getHelpfulCount())
-            .unhelpfulCount(review.getUnhelpfulCount())
+    private ReviewResponseDto mapToDto(Review review, List<ReviewImage> images) {
+        return mapToDtoBuilder(ReviewListRow.of(review))
             .images(images.stream()
                 .map(img -> ImageMetadataDto.builder()
                     .id(img.getId())
@@ -249,22 +468,31 @@ public class ReviewService {
                     .uploadedAt(img.getUploadedAt())
                     .build())
                 .collect(Collectors.toList()))
-            .status(review.getStatus())
-            .createdAt(review.getCreatedAt())
-            .updatedAt(review.getUpdatedAt())
             .build();
     }
 
-    private ReviewResponseDto mapToDtoWithResponsesAndImages(Review review) {
-        List<ReviewResponse> responses = reviewResponseRepository
-            .findByReviewIdOrderByCreatedAtDesc(review.getId());
-
-        ReviewResponseDto dto = mapToDtoWithImages(review);
-        dto.setResponses(responses.stream()
-            .map(this::mapResponseToDto)
-            .collect(Collectors.toList()));
+    private ReviewResponseDto mapToDtoWithMetadata(ReviewListRow review, Map<Long, List<ImageMetadataDto>> images) {
+        return mapToDtoBuilder(review)
+            .images(images.getOrDefault(review.getId(), List.of()))
+            .build();
+    }
 
-        return dto;
+    private ReviewResponseDto.ReviewResponseDtoBuilder mapToDtoBuilder(ReviewListRow review) {
+        return ReviewResponseDto.builder()
+            .id(review.getId())
+            .entityType(review.getEntityType())
+            .entityId(review.getEntityId())
+            .userId(review.getUserId())
+            .rating(review.getRating())
+            .title(review.getTitle())
+            .comment(review.getComment())
+            .verified(review.getVerified())
+            .helpfulCount(review.getHelpfulCount())
+            .unhelpfulCount(review.getUnhelpfulCount())
+            .responseCount(review.getResponseCount())
+            .status(review.getStatus().name())
+            .createdAt(review.getCreatedAt())
+            .updatedAt(review.getUpdatedAt());
     }
 
     private ReviewResponseDetailDto mapResponseToDto(ReviewResponse response) {
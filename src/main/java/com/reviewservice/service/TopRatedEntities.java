@@ -0,0 +1,95 @@
+package com.reviewservice.service;
+
+import lombok.Value;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * The best-ranked summaries of one entity type, always a correct prefix of the full
+ * ranking. Updates keep it correct without going to the database: an entry that drops
+ * below the last known one is evicted, since unseen entities may now outrank it, and the
+ * prefix is reloaded only when a read asks for more entries than it holds.
+ */
+class TopRatedEntities {
+
+    // Same order as the keyset queries: score, then summary ID, both descending
+    static final Comparator<Entry> RANKING = Comparator
+        .comparing(Entry::getBayesianScore, Comparator.reverseOrder())
+        .thenComparing(Entry::getSummaryId, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final TreeSet<Entry> ranked = new TreeSet<>(RANKING);
+    private final Map<Long, Entry> bySummaryId = new HashMap<>();
+    private boolean loaded;
+    // True when the prefix holds every qualifying entity of the type
+    private boolean exhausted;
+
+    TopRatedEntities(int capacity) {
+        this.capacity = capacity;
+    }
+
+    synchronized List<Entry> first(int limit, Supplier<List<Entry>> loader) {
+        if (!loaded || (ranked.size() < limit && !exhausted)) {
+            reload(loader.get());
+        }
+        return ranked.stream().limit(limit).toList();
+    }
+
+    synchronized void update(Entry entry, boolean qualifies) {
+        Entry previous = bySummaryId.remove(entry.getSummaryId());
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+        if (!loaded || !qualifies) {
+            return;
+        }
+
+        if (exhausted || (!ranked.isEmpty() && RANKING.compare(entry, ranked.last()) < 0)) {
+            add(entry);
+            if (ranked.size() > capacity) {
+                bySummaryId.remove(ranked.pollLast().getSummaryId());
+                exhausted = false;
+            }
+        }
+    }
+
+    synchronized int size() {
+        return ranked.size();
+    }
+
+    /**
+     * Replaces the prefix with one read from the database, which also holds changes made
+     * through other instances.
+     */
+    synchronized void replace(List<Entry> top) {
+        reload(top);
+    }
+
+    private void reload(List<Entry> top) {
+        ranked.clear();
+        bySummaryId.clear();
+        top.stream().limit(capacity).forEach(this::add);
+        exhausted = top.size() < capacity;
+        loaded = true;
+    }
+
+    private void add(Entry entry) {
+        ranked.add(entry);
+        bySummaryId.put(entry.getSummaryId(), entry);
+    }
+
+    @Value
+    static class Entry {
+        Long summaryId;
+        String entityType;
+        String entityId;
+        Double averageRating;
+        Integer totalReviews;
+        Double bayesianScore;
+    }
+}
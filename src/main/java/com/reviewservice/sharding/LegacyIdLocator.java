@@ -0,0 +1,57 @@
+package com.reviewservice.sharding;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Finds the shard of rows written before sharding, whose IDs do not name their shard, by
+ * asking every shard. No new row gets a legacy ID, so a row once found stays where it is
+ * and its shard is cached; rows not found are looked for again next time.
+ */
+@Component
+public class LegacyIdLocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final Cache<String, Integer> shards = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .build();
+
+    public LegacyIdLocator(JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * The shard holding the row of the given table: found by lookup for legacy IDs, named by
+     * the ID otherwise. A legacy row found on no shard is routed by its ID.
+     */
+    public int shardForId(String table, long id) {
+        if (!shardRouter.isLegacyId(id)) {
+            return shardRouter.shardForId(id);
+        }
+        Integer shard = locate(table, id);
+        return shard != null ? shard : shardRouter.shardForId(id);
+    }
+
+    private Integer locate(String table, long id) {
+        String key = table + ":" + id;
+        Integer cached = shards.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Boolean> found = shardRouter.onAllShards(shard ->
+            !jdbcTemplate.queryForList("SELECT 1 FROM " + table + " WHERE id = ?", Integer.class, id).isEmpty());
+        int shard = found.indexOf(Boolean.TRUE);
+        if (shard < 0) {
+            return null;
+        }
+        shards.put(key, shard);
+        return shard;
+    }
+}
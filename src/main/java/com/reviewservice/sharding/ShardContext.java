@@ -0,0 +1,67 @@
+package com.reviewservice.sharding;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * The shard the current thread's database work goes to. Set before a transaction starts:
+ * the routing data source picks the shard once, when the transaction takes its connection.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * The current shard, or null outside any routed call.
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(int shard, Supplier<T> work) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void run(int shard, Runnable work) {
+        call(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Carries the caller's shard over to a task run on another thread.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Integer shard = CURRENT.get();
+        if (shard == null) {
+            return task;
+        }
+        return () -> {
+            Integer previous = CURRENT.get();
+            CURRENT.set(shard);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
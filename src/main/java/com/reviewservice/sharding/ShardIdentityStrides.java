@@ -0,0 +1,86 @@
+package com.reviewservice.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Makes every identity column on shard k hand out k, k + N, k + 2N, ... for N shards, so
+ * IDs are unique across shards and {@link ShardRouter#shardForId} can route by ID alone.
+ * New IDs start above {@code legacy-max-id}. Applied once per table; a table that already
+ * has the stride is left alone.
+ */
+@Slf4j
+public class ShardIdentityStrides implements InitializingBean {
+
+    private static final String H2_INCREMENT =
+        "SELECT IDENTITY_INCREMENT FROM INFORMATION_SCHEMA.COLUMNS " +
+        "WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND LOWER(TABLE_NAME) = LOWER(?) AND LOWER(COLUMN_NAME) = LOWER(?)";
+
+    private static final String POSTGRES_INCREMENT =
+        "SELECT s.seqincrement FROM pg_sequence s WHERE s.seqrelid = pg_get_serial_sequence(?, ?)::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final ShardSchemaIntegrator schemaIntegrator;
+
+    // Injected so shard 0's tables exist as well
+    public ShardIdentityStrides(
+        JdbcTemplate jdbcTemplate,
+        ShardRouter shardRouter,
+        ShardSchemaIntegrator schemaIntegrator,
+        EntityManagerFactory entityManagerFactory
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.schemaIntegrator = schemaIntegrator;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long stride = shardRouter.getShardCount();
+        shardRouter.forEachShard(shard -> {
+            String incrementQuery = incrementQuery();
+            if (incrementQuery == null) {
+                log.warn("Cannot set ID strides on shard {}: unsupported database", shard);
+                return;
+            }
+            schemaIntegrator.getIdColumnByTable().forEach((table, column) -> {
+                List<Long> increment = jdbcTemplate.queryForList(incrementQuery, Long.class, table, column);
+                if (increment.isEmpty() || increment.get(0) == null || increment.get(0) == stride) {
+                    return;
+                }
+
+                long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + column + "), 0) FROM " + table, Long.class);
+                if (maxId > shardRouter.getLegacyMaxId()) {
+                    log.warn("Table {} on shard {} has IDs up to {} from before sharding; set "
+                        + "review.sharding.legacy-max-id to at least {} so they are found", table, shard, maxId, maxId);
+                }
+                // Smallest ID above the current and legacy ones that belongs to this shard, so
+                // no new row reuses an ID from before sharding held by another shard
+                long floor = Math.max(maxId, shardRouter.getLegacyMaxId());
+                long next = floor + 1 + Math.floorMod(shard - (floor + 1), stride);
+                jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column
+                    + " SET INCREMENT BY " + stride + " RESTART WITH " + next);
+                log.info("Set ID stride {} on {} of shard {}, next ID {}", stride, table, shard, next);
+            });
+        });
+    }
+
+    private String incrementQuery() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(product)) {
+            return POSTGRES_INCREMENT;
+        }
+        if ("H2".equals(product)) {
+            return H2_INCREMENT;
+        }
+        return null;
+    }
+}
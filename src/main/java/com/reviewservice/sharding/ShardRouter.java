@@ -0,0 +1,160 @@
+package com.reviewservice.sharding;
+
+import com.reviewservice.replica.ReplicaContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Places review data on shards. Everything belonging to an entity (its reviews, their images,
+ * responses and votes, its summary, version and rating buckets) lives on the shard its
+ * (entityType, entityId) hashes to. Row IDs are allocated with a stride of the shard count,
+ * so an ID alone names its shard, except for rows written before sharding: IDs up to
+ * {@code legacy-max-id} may be on any shard. With sharding disabled there is one shard and
+ * every call runs in place.
+ */
+@Component
+@Slf4j
+public class ShardRouter {
+
+    private final int shardCount;
+    private final long legacyMaxId;
+    private final ExecutorService executor;
+
+    public ShardRouter(ShardingProperties properties) {
+        this.shardCount = properties.isEnabled() ? properties.getShards().size() : 1;
+        this.legacyMaxId = properties.getLegacyMaxId();
+        this.executor = shardCount > 1
+            ? Executors.newFixedThreadPool(shardCount * 4, new CustomizableThreadFactory("shard-scatter-"))
+            : null;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    // CRC32 rather than String.hashCode: placement must never change between releases
+    public int shardFor(String entityType, String entityId) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(entityType.getBytes(StandardCharsets.UTF_8));
+        crc.update(0);
+        crc.update(entityId.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % shardCount);
+    }
+
+    public int shardForId(long id) {
+        return (int) Math.floorMod(id, (long) shardCount);
+    }
+
+    /**
+     * Whether the ID was allocated before sharding, so {@link #shardForId} may not name the
+     * shard its row is on. See {@link LegacyIdLocator}.
+     */
+    public boolean isLegacyId(long id) {
+        return shardCount > 1 && id <= legacyMaxId;
+    }
+
+    public long getLegacyMaxId() {
+        return legacyMaxId;
+    }
+
+    /**
+     * Groups row IDs by the shard they name. Legacy IDs are put in every shard's group, since
+     * a batch statement matches nothing on the shards that do not hold the row.
+     */
+    public Map<Integer, List<Long>> groupByShard(Collection<Long> ids) {
+        Map<Integer, List<Long>> idsByShard = new TreeMap<>();
+        for (Long id : ids) {
+            if (isLegacyId(id)) {
+                for (int shard = 0; shard < shardCount; shard++) {
+                    idsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(id);
+                }
+            } else {
+                idsByShard.computeIfAbsent(shardForId(id), key -> new ArrayList<>()).add(id);
+            }
+        }
+        return idsByShard;
+    }
+
+    /**
+     * Runs the work once per shard on the calling thread, one shard after the other.
+     */
+    public void forEachShard(IntConsumer work) {
+        for (int i = 0; i < shardCount; i++) {
+            int shard = i;
+            ShardContext.run(shard, () -> work.accept(shard));
+        }
+    }
+
+    public <T> List<T> onAllShards(IntFunction<T> query) {
+        return onShards(IntStream.range(0, shardCount).boxed().collect(Collectors.toList()), query);
+    }
+
+    /**
+     * Runs the query on each of the given shards in parallel and returns the results in
+     * shard order. Callers must not hold a transaction: each shard's work runs on its own.
+     */
+    public <T> List<T> onShards(Collection<Integer> shards, IntFunction<T> query) {
+        if (executor == null || shards.size() == 1) {
+            return shards.stream()
+                .map(shard -> ShardContext.call(shard, () -> query.apply(shard)))
+                .collect(Collectors.toList());
+        }
+
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (Integer shard : shards) {
+            Callable<T> task = () -> ShardContext.call(shard, () -> query.apply(shard));
+            futures.add(executor.submit(ReplicaContext.wrap(task)));
+        }
+
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        }
+        return results;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
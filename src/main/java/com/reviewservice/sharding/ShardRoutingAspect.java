@@ -0,0 +1,102 @@
+package com.reviewservice.sharding;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies {@link ShardedBy}. Ordered ahead of the transaction advice so the shard is chosen
+ * before the transaction takes its connection. Nested calls for the same shard run in the
+ * caller's transaction; a call for another shard inside a transaction is a bug and fails
+ * instead of silently reading the wrong shard.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ShardRoutingAspect {
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final ShardRouter shardRouter;
+    // Looked up on first use, so creating the aspect does not create the datasource
+    private final ObjectProvider<LegacyIdLocator> legacyIdLocator;
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(shardedBy)")
+    public Object route(ProceedingJoinPoint joinPoint, ShardedBy shardedBy) throws Throwable {
+        if (!shardRouter.isSharded()) {
+            return joinPoint.proceed();
+        }
+
+        Integer shard = resolve(joinPoint, shardedBy);
+        Integer current = ShardContext.current();
+        if (shard == null || shard.equals(current)) {
+            return joinPoint.proceed();
+        }
+        if (current != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Call for shard " + shard + " inside a transaction on shard " + current
+                + ": " + joinPoint.getSignature().toShortString());
+        }
+
+        try {
+            return ShardContext.call(shard, () -> {
+                try {
+                    return joinPoint.proceed();
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CheckedFailure(e);
+                }
+            });
+        } catch (CheckedFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    private Integer resolve(ProceedingJoinPoint joinPoint, ShardedBy shardedBy) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        EvaluationContext context = new MethodBasedEvaluationContext(
+            joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), PARAMETER_NAMES);
+
+        if (!shardedBy.id().isEmpty()) {
+            Number id = evaluate(shardedBy.id(), context, Number.class);
+            if (id == null) {
+                return null;
+            }
+            return shardRouter.isLegacyId(id.longValue())
+                ? legacyIdLocator.getObject().shardForId(shardedBy.table(), id.longValue())
+                : shardRouter.shardForId(id.longValue());
+        }
+        String entityType = evaluate(shardedBy.entityType(), context, String.class);
+        String entityId = evaluate(shardedBy.entityId(), context, String.class);
+        return entityType != null && entityId != null ? shardRouter.shardFor(entityType, entityId) : null;
+    }
+
+    private <T> T evaluate(String expression, EvaluationContext context, Class<T> type) {
+        return expressions.computeIfAbsent(expression, parser::parseExpression).getValue(context, type);
+    }
+
+    private static class CheckedFailure extends RuntimeException {
+        CheckedFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+}
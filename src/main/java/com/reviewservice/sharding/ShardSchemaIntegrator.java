@@ -0,0 +1,66 @@
+package com.reviewservice.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.schema.TargetType;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hibernate manages the schema of the connection it sees at startup, shard 0. This applies
+ * the same mapping to every other shard while the session factory is built, so all shards
+ * have their tables before anything else starts, and remembers each entity table's ID
+ * column for {@link ShardIdentityStrides}.
+ */
+@Slf4j
+public class ShardSchemaIntegrator implements Integrator {
+
+    private static final Set<String> SCHEMA_ACTIONS = Set.of("update", "create", "create-drop", "create-only");
+
+    private final ShardRouter shardRouter;
+    private final Map<String, String> idColumnByTable = new LinkedHashMap<>();
+
+    public ShardSchemaIntegrator(ShardRouter shardRouter) {
+        this.shardRouter = shardRouter;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        for (PersistentClass entity : metadata.getEntityBindings()) {
+            if (entity.getIdentifier().getColumns().size() == 1) {
+                idColumnByTable.put(entity.getTable().getName(), entity.getIdentifier().getColumns().get(0).getName());
+            }
+        }
+
+        Object action = sessionFactory.getProperties().get(AvailableSettings.HBM2DDL_AUTO);
+        if (action == null || !SCHEMA_ACTIONS.contains(action.toString())) {
+            return;
+        }
+        shardRouter.forEachShard(shard -> {
+            if (shard > 0) {
+                log.info("Updating schema of shard {}", shard);
+                new SchemaUpdate()
+                    .setHaltOnError(true)
+                    .execute(EnumSet.of(TargetType.DATABASE), metadata, sessionFactory.getServiceRegistry());
+            }
+        });
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    Map<String, String> getIdColumnByTable() {
+        return idColumnByTable;
+    }
+}
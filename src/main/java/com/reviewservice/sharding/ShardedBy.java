@@ -0,0 +1,28 @@
+package com.reviewservice.sharding;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Routes a method's database work to one shard, resolved from its arguments with SpEL:
+ * either the owning entity ({@link #entityType()} and {@link #entityId()}) or a row
+ * {@link #id()}, whose shard is encoded in its value. IDs from before sharding are looked up
+ * in {@link #table()} instead. Ignored when sharding is disabled.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ShardedBy {
+
+    String entityType() default "";
+
+    String entityId() default "";
+
+    String id() default "";
+
+    // Table whose rows the id names
+    String table() default "reviews";
+}
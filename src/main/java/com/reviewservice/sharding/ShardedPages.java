@@ -0,0 +1,57 @@
+package com.reviewservice.sharding;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Pages over rows spread across shards. Each shard is asked for everything up to the end of
+ * the requested page in the requested order; merging those and skipping the offset gives
+ * the same page a single database would. Deep pages cost offset + size rows per shard.
+ */
+public final class ShardedPages {
+
+    private ShardedPages() {
+    }
+
+    public static Pageable perShard(Pageable pageable) {
+        return PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize(), pageable.getSort());
+    }
+
+    public static <T> Page<T> merge(List<Page<T>> shardPages, Pageable pageable) {
+        long total = shardPages.stream().mapToLong(Page::getTotalElements).sum();
+        List<T> content = shardPages.stream()
+            .flatMap(page -> page.getContent().stream())
+            .sorted(comparator(pageable.getSort()))
+            .skip(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> Comparator<T> comparator(Sort sort) {
+        Comparator<T> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<Comparable> values = Comparator.nullsLast(Comparator.naturalOrder());
+            Comparator<T> byProperty = Comparator.comparing(
+                row -> (Comparable) property(row, order.getProperty()),
+                order.isAscending() ? values : values.reversed());
+            comparator = comparator.thenComparing(byProperty);
+        }
+        return comparator;
+    }
+
+    private static Object property(Object row, String name) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        return wrapper.getPropertyValue(name);
+    }
+}
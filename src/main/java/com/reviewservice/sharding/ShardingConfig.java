@@ -0,0 +1,86 @@
+package com.reviewservice.sharding;
+
+import com.reviewservice.replica.ReadOnlyRoutingDataSource;
+import com.reviewservice.replica.ReplicaConfig;
+import com.reviewservice.replica.ReplicaMonitor;
+import com.reviewservice.replica.ReplicaProperties;
+import com.reviewservice.replica.ReplicaSet;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * With {@code review.sharding.enabled} the single datasource is replaced by one pool per
+ * entry of {@code review.sharding.shards}, behind a {@link ShardRoutingDataSource}. Each
+ * shard can have its own read replicas.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "review.sharding.enabled", havingValue = "true")
+    public DataSource dataSource(
+        ShardingProperties properties,
+        ReplicaProperties replicaProperties,
+        ReplicaMonitor replicaMonitor,
+        @Value("${review.partitioning.enabled:false}") boolean partitioning
+    ) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("review.sharding.enabled requires at least one review.sharding.shards entry");
+        }
+        // Partition maintenance and the ID-to-partition map assume a single database
+        if (partitioning) {
+            throw new IllegalStateException("review.partitioning cannot be combined with review.sharding");
+        }
+
+        List<DataSource> shards = new ArrayList<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            String name = "review-shard-" + shards.size();
+            DataSource primary = ReplicaConfig.pool(
+                shard.getUrl(), shard.getUsername(), shard.getPassword(), shard.getDriverClassName(), name);
+            if (replicaProperties.isEnabled() && !shard.getReplicas().isEmpty()) {
+                primary = replicaMonitor.register(
+                    new ReplicaSet(name, primary, ReplicaConfig.replicas(shard.getReplicas(), name)));
+            }
+            shards.add(primary);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(shards);
+        return replicaProperties.isEnabled() ? new ReadOnlyRoutingDataSource(routing) : routing;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "review.sharding.enabled", havingValue = "true")
+    public ShardSchemaIntegrator shardSchemaIntegrator(ShardRouter shardRouter) {
+        return new ShardSchemaIntegrator(shardRouter);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "review.sharding.enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer shardSchemaCustomizer(ShardSchemaIntegrator shardSchemaIntegrator) {
+        return properties -> properties.put("hibernate.integrator_provider",
+            (IntegratorProvider) () -> List.of(shardSchemaIntegrator));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "review.sharding.enabled", havingValue = "true")
+    public ShardIdentityStrides shardIdentityStrides(
+        JdbcTemplate jdbcTemplate,
+        ShardRouter shardRouter,
+        ShardSchemaIntegrator shardSchemaIntegrator,
+        EntityManagerFactory entityManagerFactory
+    ) {
+        return new ShardIdentityStrides(jdbcTemplate, shardRouter, shardSchemaIntegrator, entityManagerFactory);
+    }
+}
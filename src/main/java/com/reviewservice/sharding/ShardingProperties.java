@@ -0,0 +1,33 @@
+package com.reviewservice.sharding;
+
+import com.reviewservice.replica.ReplicaProperties;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "review.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    // A shard's number is its position here. Rows are placed by hash modulo the count,
+    // so adding or reordering shards means moving data first
+    private List<Shard> shards = new ArrayList<>();
+
+    // Highest ID handed out before sharding. Rows up to it may sit on any shard, so they are
+    // looked up on all of them; 0 means the shards started empty
+    private long legacyMaxId;
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        // Used when review.replicas.enabled is set
+        private List<ReplicaProperties.Node> replicas = new ArrayList<>();
+    }
+}
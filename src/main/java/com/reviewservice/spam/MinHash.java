@@ -0,0 +1,96 @@
+package com.reviewservice.spam;
+
+import java.util.Arrays;
+
+/**
+ * MinHash signatures over word 3-gram shingles. Two texts agree in each signature slot
+ * with probability equal to the Jaccard similarity of their shingle sets. Works on the
+ * characters in place: no substrings or shingle sets are allocated.
+ */
+public final class MinHash {
+
+    public static final int SIZE = 64;
+
+    private static final int SHINGLE_WORDS = 3;
+    private static final long[] SEEDS = new long[SIZE];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIZE; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /**
+     * The signature of {@code text}, or null when it has fewer than {@code minShingles}
+     * shingles: short texts ("Great product!") are legitimately repeated everywhere.
+     */
+    public static int[] signature(String text, int minShingles) {
+        if (text == null) {
+            return null;
+        }
+
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        long first = 0;
+        long second = 0;
+        int words = 0;
+        int shingles = 0;
+
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            if (i == length) {
+                break;
+            }
+            long word = 0xCBF29CE484222325L;
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) {
+                word = (word ^ Character.toLowerCase(text.charAt(i))) * 0x100000001B3L;
+                i++;
+            }
+
+            words++;
+            if (words >= SHINGLE_WORDS) {
+                long shingle = mix(first * 31 + second) * 31 + word;
+                for (int slot = 0; slot < SIZE; slot++) {
+                    int hash = (int) (mix(shingle ^ SEEDS[slot]) >>> 33);
+                    if (hash < signature[slot]) {
+                        signature[slot] = hash;
+                    }
+                }
+                shingles++;
+            }
+            first = second;
+            second = word;
+        }
+
+        return shingles >= minShingles ? signature : null;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the texts behind two signatures.
+     */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / SIZE;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
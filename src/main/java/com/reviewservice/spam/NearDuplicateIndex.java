@@ -0,0 +1,179 @@
+package com.reviewservice.spam;
+
+import lombok.Value;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Locality-sensitive hashing over MinHash signatures. Each signature is cut into bands;
+ * two reviews become candidates when any band matches exactly, and candidates are kept
+ * when their estimated similarity reaches the threshold. With 16 bands of 4 slots, pairs
+ * at 0.8 similarity are found with over 99.9% probability; pairs at 0.3 meet about one
+ * time in eight and are then dropped by the threshold.
+ * Holds the most recent {@code capacity} reviews; older ones are evicted first.
+ */
+public class NearDuplicateIndex {
+
+    static final int BANDS = 16;
+    static final int ROWS = MinHash.SIZE / BANDS;
+
+    private static final int MAGIC = 0x52564E44;
+    private static final int VERSION = 1;
+
+    private final int capacity;
+    private final Map<Long, Entry> entries = new LinkedHashMap<>();
+    private final List<Map<Long, List<Long>>> buckets = new ArrayList<>(BANDS);
+
+    public NearDuplicateIndex(int capacity) {
+        this.capacity = capacity;
+        for (int band = 0; band < BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Finds up to {@code limit} indexed reviews at least {@code threshold} similar to the
+     * signature, then indexes it under {@code reviewId}, replacing any earlier signature
+     * for that review.
+     */
+    public synchronized List<Match> addAndMatch(long reviewId, int entityKey, int[] signature,
+                                                double threshold, int limit) {
+        remove(reviewId);
+
+        List<Match> matches = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int band = 0; band < BANDS && matches.size() < limit; band++) {
+            List<Long> ids = buckets.get(band).get(bandKey(signature, band));
+            if (ids == null) {
+                continue;
+            }
+            for (Long candidate : ids) {
+                if (matches.size() == limit) {
+                    break;
+                }
+                if (!seen.add(candidate)) {
+                    continue;
+                }
+                Entry entry = entries.get(candidate);
+                double similarity = MinHash.similarity(signature, entry.getSignature());
+                if (similarity >= threshold) {
+                    matches.add(new Match(candidate, entry.getEntityKey(), similarity));
+                }
+            }
+        }
+
+        put(reviewId, new Entry(entityKey, signature));
+        return matches;
+    }
+
+    public synchronized void remove(long reviewId) {
+        Entry entry = entries.remove(reviewId);
+        if (entry == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(entry.getSignature(), band);
+            List<Long> ids = buckets.get(band).get(key);
+            if (ids != null) {
+                ids.remove(Long.valueOf(reviewId));
+                if (ids.isEmpty()) {
+                    buckets.get(band).remove(key);
+                }
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes the index to {@code file} through a temporary file, so a crash mid-write
+     * leaves the previous snapshot intact.
+     */
+    public synchronized void save(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(MinHash.SIZE);
+            out.writeInt(entries.size());
+            for (Map.Entry<Long, Entry> entry : entries.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue().getEntityKey());
+                for (int value : entry.getValue().getSignature()) {
+                    out.writeInt(value);
+                }
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public synchronized void load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != MinHash.SIZE) {
+                throw new IOException("Not a near-duplicate index snapshot: " + file);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long reviewId = in.readLong();
+                int entityKey = in.readInt();
+                int[] signature = new int[MinHash.SIZE];
+                for (int slot = 0; slot < MinHash.SIZE; slot++) {
+                    signature[slot] = in.readInt();
+                }
+                remove(reviewId);
+                put(reviewId, new Entry(entityKey, signature));
+            }
+        }
+    }
+
+    private void put(long reviewId, Entry entry) {
+        entries.put(reviewId, entry);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(entry.getSignature(), band), key -> new ArrayList<>(1))
+                .add(reviewId);
+        }
+
+        if (entries.size() > capacity) {
+            Iterator<Long> oldest = entries.keySet().iterator();
+            remove(oldest.next());
+        }
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int slot = band * ROWS; slot < (band + 1) * ROWS; slot++) {
+            key = key * 0x100000001B3L + signature[slot];
+        }
+        return key;
+    }
+
+    @Value
+    private static class Entry {
+        int entityKey;
+        int[] signature;
+    }
+
+    @Value
+    public static class Match {
+        long reviewId;
+        int entityKey;
+        double similarity;
+    }
+}
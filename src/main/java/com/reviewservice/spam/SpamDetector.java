@@ -0,0 +1,165 @@
+package com.reviewservice.spam;
+
+import com.reviewservice.entity.ModerationStatus;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardContext;
+import com.reviewservice.sharding.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Flags near-duplicate reviews for moderation. After a review is created or edited, its
+ * comment is fingerprinted and matched against recent reviews on a single background
+ * thread; the review and the reviews it copies are then put in the moderation queue as
+ * {@code PENDING} by {@value #MODERATOR_ID}, with a note naming the match. Reviews already
+ * in the queue or decided on are left alone. The index is kept in memory and, when
+ * {@code review.spam.index-path} is set, saved there periodically and reloaded on startup.
+ */
+@Component
+@ConditionalOnProperty(name = "review.spam.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SpamDetector {
+
+    public static final String MODERATOR_ID = "spam-detector";
+
+    // Each review lists this many of its matches at most; enough to show a burst
+    private static final int MAX_MATCHES = 20;
+
+    private final ReviewRepository reviewRepository;
+    private final ShardRouter shardRouter;
+    private final NearDuplicateIndex index;
+    private final double similarity;
+    private final int minShingles;
+    private final Path indexPath;
+    private final ExecutorService executor;
+
+    public SpamDetector(
+        ReviewRepository reviewRepository,
+        ShardRouter shardRouter,
+        @Value("${review.spam.similarity:0.8}") double similarity,
+        @Value("${review.spam.min-shingles:8}") int minShingles,
+        @Value("${review.spam.capacity:100000}") int capacity,
+        @Value("${review.spam.queue-capacity:10000}") int queueCapacity,
+        @Value("${review.spam.index-path:}") String indexPath
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.shardRouter = shardRouter;
+        this.index = new NearDuplicateIndex(capacity);
+        this.similarity = similarity;
+        this.minShingles = minShingles;
+        this.indexPath = indexPath.isBlank() ? null : Path.of(indexPath);
+        // Detection is best effort: under a backlog new reviews are skipped, never the write path slowed
+        this.executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("spam-detector-"));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        if (indexPath == null || !Files.exists(indexPath)) {
+            return;
+        }
+        try {
+            index.load(indexPath);
+            log.info("Loaded near-duplicate index with {} reviews", index.size());
+        } catch (IOException e) {
+            log.warn("Could not load near-duplicate index from {}; starting empty", indexPath, e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        try {
+            executor.execute(() -> process(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("Spam detection queue full; skipping review ID: {}", event.getReviewId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${review.spam.save-interval:PT5M}")
+    public void saveIndex() {
+        if (indexPath == null) {
+            return;
+        }
+        try {
+            index.save(indexPath);
+        } catch (IOException e) {
+            log.error("Failed to save near-duplicate index to {}", indexPath, e);
+        }
+    }
+
+    void process(ReviewChangedEvent event) {
+        if (event.getType() == ReviewChangedEvent.Type.DELETED) {
+            index.remove(event.getReviewId());
+            return;
+        }
+
+        int[] signature = MinHash.signature(event.getComment(), minShingles);
+        if (signature == null) {
+            index.remove(event.getReviewId());
+            return;
+        }
+
+        int entityKey = (event.getEntityType() + '\0' + event.getEntityId()).hashCode();
+        List<NearDuplicateIndex.Match> matches =
+            index.addAndMatch(event.getReviewId(), entityKey, signature, similarity, MAX_MATCHES);
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        NearDuplicateIndex.Match closest = matches.stream()
+            .max((a, b) -> Double.compare(a.getSimilarity(), b.getSimilarity()))
+            .get();
+        long entities = matches.stream()
+            .mapToInt(NearDuplicateIndex.Match::getEntityKey)
+            .filter(key -> key != entityKey)
+            .distinct()
+            .count();
+        log.info("Review ID: {} is a near-duplicate of {} reviews", event.getReviewId(), matches.size());
+
+        flag(List.of(event.getReviewId()), String.format(Locale.ROOT,
+            "Near-duplicate of %d review(s) on %d other entities; closest is review %d (similarity %.2f)",
+            matches.size(), entities, closest.getReviewId(), closest.getSimilarity()));
+        flag(matches.stream().map(NearDuplicateIndex.Match::getReviewId).collect(Collectors.toList()),
+            "Near-duplicate of review " + event.getReviewId());
+    }
+
+    private void flag(List<Long> reviewIds, String note) {
+        LocalDateTime now = LocalDateTime.now();
+        shardRouter.groupByShard(reviewIds).forEach((shard, ids) -> ShardContext.run(shard, () ->
+            reviewRepository.flagForModeration(new ArrayList<>(ids), MODERATOR_ID, note, now,
+                ModerationStatus.PENDING, ReviewStatus.ACTIVE)));
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        saveIndex();
+    }
+}
@@ -0,0 +1,8 @@
+-- Full-text search vector over title (weight A) and comment (weight B), kept current by Postgres on every write
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(comment, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_reviews_search_vector ON reviews USING GIN (search_vector);
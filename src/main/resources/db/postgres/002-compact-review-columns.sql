@@ -0,0 +1,41 @@
+-- Moves reviews from text to small integer columns: status becomes the smallint code of
+-- ReviewStatus, and the entity_type of reviews, reviews_archive and rating_summaries becomes
+-- an id into entity_types. Each table is rewritten once, under an exclusive lock, with its
+-- indexes rebuilt; once converted, running this again does nothing.
+
+CREATE OR REPLACE FUNCTION pg_temp.entity_type_id(type_name text)
+RETURNS smallint LANGUAGE sql STABLE AS $fn$
+    SELECT id FROM entity_types WHERE name = type_name
+$fn$;
+
+CREATE OR REPLACE FUNCTION pg_temp.is_text(tbl text, col text)
+RETURNS boolean LANGUAGE sql STABLE AS $fn$
+    SELECT coalesce((SELECT data_type IN ('character varying', 'text') FROM information_schema.columns
+                     WHERE table_schema = current_schema() AND table_name = tbl AND column_name = col), false)
+$fn$;
+
+DO $$
+DECLARE
+    tbl text;
+BEGIN
+    IF pg_temp.is_text('reviews', 'status') THEN
+        -- status is the list key of every monthly partition, and a partition key cannot change type
+        IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('reviews')) THEN
+            RAISE EXCEPTION 'reviews is partitioned by a text status; convert it before upgrading (see README, Compact Columns)';
+        END IF;
+        ALTER TABLE reviews ALTER COLUMN status TYPE smallint
+            USING CASE status WHEN 'ACTIVE' THEN 0 WHEN 'DELETED' THEN 1 END;
+    END IF;
+
+    FOREACH tbl IN ARRAY ARRAY['reviews', 'reviews_archive', 'rating_summaries'] LOOP
+        IF pg_temp.is_text(tbl, 'entity_type') THEN
+            EXECUTE format('INSERT INTO entity_types (id, name) '
+                'SELECT coalesce((SELECT max(id) FROM entity_types), 0) + row_number() OVER (ORDER BY name), name '
+                'FROM (SELECT DISTINCT entity_type AS name FROM %I) names '
+                'WHERE NOT EXISTS (SELECT 1 FROM entity_types t WHERE t.name = names.name)', tbl);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN entity_type TYPE smallint '
+                'USING pg_temp.entity_type_id(entity_type)', tbl);
+        END IF;
+    END LOOP;
+END
+$$;
@@ -0,0 +1,14 @@
+-- Fills reviews.response_count for responses written before the column existed. Runs once:
+-- the column comment it leaves marks the backfill as done.
+
+DO $$
+BEGIN
+    IF col_description('reviews'::regclass,
+        (SELECT attnum FROM pg_attribute WHERE attrelid = 'reviews'::regclass AND attname = 'response_count')) IS NULL THEN
+        UPDATE reviews r SET response_count = counts.responses
+        FROM (SELECT review_id, count(*) AS responses FROM review_responses GROUP BY review_id) counts
+        WHERE r.id = counts.review_id;
+        COMMENT ON COLUMN reviews.response_count IS 'Responses to the review; maintained by addResponse';
+    END IF;
+END
+$$;
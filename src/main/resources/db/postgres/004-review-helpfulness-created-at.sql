@@ -0,0 +1,16 @@
+-- Makes review_helpfulness.review_created_at NOT NULL on tables created while it was nullable.
+-- Votes written before the column existed copy their review's creation time; votes whose
+-- review is gone can never be read and are dropped. Partitioned tables already have it.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_attribute
+               WHERE attrelid = 'review_helpfulness'::regclass AND attname = 'review_created_at' AND NOT attnotnull) THEN
+        UPDATE review_helpfulness h SET review_created_at = r.created_at
+        FROM reviews r
+        WHERE r.id = h.review_id AND h.review_created_at IS NULL;
+        DELETE FROM review_helpfulness WHERE review_created_at IS NULL;
+        ALTER TABLE review_helpfulness ALTER COLUMN review_created_at SET NOT NULL;
+    END IF;
+END
+$$;
@@ -0,0 +1,100 @@
+-- Converts reviews and review_helpfulness into tables range-partitioned by month without
+-- copying rows: each existing table is attached whole as a "_legacy" partition holding
+-- everything before next month. Monthly partitions from then on are created ahead of time
+-- by ReviewPartitionManager. Once converted, running this again only adds status to the
+-- primary key of reviews converted before it was part of it.
+--
+-- A primary key of a partitioned table must cover the partition key of every level below
+-- it. Month partitions of reviews are split again by status, so its key is
+-- (id, created_at, status); review_helpfulness's is (id, review_created_at).
+--
+-- The conversion holds an exclusive lock on each table while it validates the legacy range
+-- and builds the keys the partitioned primary keys need. On a large table, build those
+-- keys beforehand so the attach can reuse them:
+--   CREATE UNIQUE INDEX CONCURRENTLY reviews_id_created_at_status_key ON reviews (id, created_at, status);
+--   CREATE UNIQUE INDEX CONCURRENTLY review_helpfulness_id_created_at_key
+--       ON review_helpfulness (id, review_created_at);
+
+CREATE OR REPLACE FUNCTION pg_temp.partition_by_range(tbl text, key_columns text[], cutover timestamp)
+RETURNS void LANGUAGE plpgsql AS $fn$
+DECLARE
+    legacy text := tbl || '_legacy';
+    definitions text[];
+    definition text;
+    idx record;
+    next_id bigint;
+    -- The range is on the first key column; the others are sub-partition keys
+    key_column text := key_columns[1];
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(tbl)) THEN
+        RETURN;
+    END IF;
+
+    -- Saved while they still name the original table, so replaying them below creates the
+    -- same indexes on the partitioned parent; the attach then adopts the legacy copies
+    SELECT coalesce(array_agg(pg_get_indexdef(i.indexrelid)), '{}') INTO definitions
+    FROM pg_index i
+    WHERE i.indrelid = to_regclass(tbl) AND NOT i.indisunique;
+
+    EXECUTE format('ALTER TABLE %I RENAME TO %I', tbl, legacy);
+    FOR idx IN SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid
+               WHERE i.indrelid = to_regclass(legacy) LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', idx.relname, left(idx.relname, 52) || '_legacy');
+    END LOOP;
+
+    -- The parent cannot take over the identity column, so numbering continues from a plain sequence
+    EXECUTE format('SELECT coalesce(max(id), 0) + 1 FROM %I', legacy) INTO next_id;
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', legacy);
+    EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH %s', tbl || '_id_seq', next_id);
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS) '
+        'PARTITION BY RANGE (%I)', tbl, legacy, key_column);
+    EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', tbl, tbl || '_id_seq');
+    EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', tbl || '_id_seq', tbl);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (id, %s)', tbl, tbl || '_pkey',
+        (SELECT string_agg(quote_ident(c), ', ') FROM unnest(key_columns) AS c));
+    FOREACH definition IN ARRAY definitions LOOP
+        EXECUTE definition;
+    END LOOP;
+
+    -- A validated check constraint lets the attach skip its own scan of the legacy rows
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (%I < %L) NOT VALID',
+        legacy, legacy || '_range', key_column, cutover);
+    EXECUTE format('ALTER TABLE %I VALIDATE CONSTRAINT %I', legacy, legacy || '_range');
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (MINVALUE) TO (%L)',
+        tbl, legacy, cutover);
+END
+$fn$;
+
+DO $$
+DECLARE
+    cutover timestamp := date_trunc('month', localtimestamp) + interval '1 month';
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('review_helpfulness')) THEN
+        -- Votes are partitioned by their review creation time, so every vote of a review lives
+        -- in the same month as the review and (review, user) stays unique across partitions
+        ALTER TABLE review_helpfulness ADD COLUMN IF NOT EXISTS review_created_at timestamp(6);
+        UPDATE review_helpfulness h SET review_created_at = r.created_at
+        FROM reviews r
+        WHERE r.id = h.review_id AND h.review_created_at IS NULL;
+        DELETE FROM review_helpfulness WHERE review_created_at IS NULL;
+        ALTER TABLE review_helpfulness ALTER COLUMN review_created_at SET NOT NULL;
+
+        PERFORM pg_temp.partition_by_range('review_helpfulness', ARRAY['review_created_at'], cutover);
+        ALTER TABLE review_helpfulness
+            ADD CONSTRAINT uk_review_helpfulness_vote UNIQUE (review_id, user_id, review_created_at);
+    END IF;
+
+    PERFORM pg_temp.partition_by_range('reviews', ARRAY['created_at', 'status'], cutover);
+
+    -- Tables converted before status was part of the key could take no month partitions
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = to_regclass('reviews') AND c.contype = 'p' AND a.attname = 'status'
+    ) THEN
+        ALTER TABLE reviews DROP CONSTRAINT IF EXISTS reviews_pkey;
+        ALTER TABLE reviews ADD CONSTRAINT reviews_pkey PRIMARY KEY (id, created_at, status);
+    END IF;
+END
+$$;
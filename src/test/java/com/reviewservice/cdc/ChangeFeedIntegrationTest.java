@@ -0,0 +1,143 @@
+package com.reviewservice.cdc;
+
+import com.reviewservice.dto.ChangeEventDto;
+import com.reviewservice.dto.HelpfulnessRequest;
+import com.reviewservice.dto.ReviewRequest;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.entity.ChangeEventType;
+import com.reviewservice.entity.OutboxEvent;
+import com.reviewservice.repository.OutboxEventRepository;
+import com.reviewservice.repository.OutboxRelayLeaseRepository;
+import com.reviewservice.service.ReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ChangeFeedIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private InMemoryChangeLog changeLog;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private OutboxRelayLeaseRepository leaseRepository;
+
+    @Test
+    void writes_AreRecordedInOutboxWithTheirTransaction() throws Exception {
+        ReviewResponseDto review = reviewService.createReview(ReviewRequest.builder()
+            .entityType("PRODUCT")
+            .entityId("CDC-1")
+            .userId("USER-1")
+            .rating(4)
+            .title("Solid")
+            .comment("Does what it says")
+            .build(), null);
+        reviewService.markReviewHelpfulness(review.getId(), new HelpfulnessRequest("USER-2", true));
+
+        List<OutboxEvent> events = outboxEventRepository.findAll(Sort.by("id")).stream()
+            .filter(event -> event.getEntityId().equals("CDC-1"))
+            .collect(Collectors.toList());
+        assertEquals(
+            List.of(ChangeEventType.SUMMARY_CHANGED, ChangeEventType.REVIEW_CREATED, ChangeEventType.VOTE_CHANGED),
+            events.stream().map(OutboxEvent::getType).collect(Collectors.toList()));
+        assertEquals(review.getId(), events.get(1).getReviewId());
+        assertTrue(events.get(2).getPayload().contains("\"helpfulCount\":1"));
+    }
+
+    @Test
+    void relayLease_HeldByThisInstance_IsNotTakenByAnother() {
+        RelayLease other = new RelayLease(leaseRepository, "other", Duration.ofSeconds(10));
+
+        assertFalse(other.tryAcquire());
+        assertFalse(other.isHeld());
+    }
+
+    @Test
+    void poll_ReturnsRetainedChangesAndNextOffset() throws Exception {
+        long offset = changeLog.endOffset();
+        changeLog.publish(List.of(event("0-1"), event("0-2")));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/changes")
+                .param("offset", String.valueOf(offset))
+                .param("wait", "0"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.events[*].eventId", hasItem("0-2")))
+            .andExpect(jsonPath("$.events[0].type").exists())
+            .andExpect(jsonPath("$.nextOffset").value(changeLog.endOffset()));
+    }
+
+    @Test
+    void poll_WaitsForAppendedChanges() throws Exception {
+        long offset = changeLog.endOffset();
+
+        MvcResult result = mockMvc.perform(get("/api/v1/changes")
+                .param("offset", String.valueOf(offset))
+                .param("wait", "30"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        changeLog.publish(List.of(event("0-3")));
+        changeFeed.notifyAppended();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.events[*].eventId", hasItem("0-3")));
+    }
+
+    @Test
+    void poll_OffsetNotRetainedIsGone() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/changes")
+                .param("offset", String.valueOf(changeLog.endOffset() + 1000))
+                .param("wait", "0"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isGone());
+    }
+
+    private static ChangeEventDto event(String eventId) {
+        return ChangeEventDto.builder()
+            .eventId(eventId)
+            .type(ChangeEventType.REVIEW_UPDATED)
+            .entityType("PRODUCT")
+            .entityId("CDC-2")
+            .occurredAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.reviewservice.cdc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.reviewservice.dto.ChangeEventDto;
+import com.reviewservice.entity.ChangeEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileSegmentChangeLogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_ReturnsEventsFromAnyOffsetAcrossSegments() throws IOException {
+        try (FileSegmentChangeLog changeLog = new FileSegmentChangeLog(tempDir, 4096, 100, objectMapper)) {
+            changeLog.publish(events(0, 150));
+            changeLog.publish(events(150, 150));
+
+            assertTrue(segmentCount() > 1);
+            assertEquals(0, changeLog.startOffset());
+            assertEquals(300, changeLog.endOffset());
+
+            List<ChangeEventDto> read = changeLog.read(97, 120);
+            assertEquals(120, read.size());
+            for (int i = 0; i < read.size(); i++) {
+                assertEquals(97 + i, read.get(i).getOffset());
+                assertEquals("0-" + (97 + i), read.get(i).getEventId());
+            }
+            assertEquals(3, changeLog.read(297, 100).size());
+            assertTrue(changeLog.read(300, 100).isEmpty());
+        }
+    }
+
+    @Test
+    void open_ResumesOffsetsAndCutsTornLine() throws IOException {
+        try (FileSegmentChangeLog changeLog = new FileSegmentChangeLog(tempDir, 4096, 100, objectMapper)) {
+            changeLog.publish(events(0, 70));
+        }
+        Path last;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            last = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        Files.write(last, "{\"offset\":70,\"eventId\":\"0-".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (FileSegmentChangeLog changeLog = new FileSegmentChangeLog(tempDir, 4096, 100, objectMapper)) {
+            assertEquals(70, changeLog.endOffset());
+            changeLog.publish(events(70, 5));
+
+            List<ChangeEventDto> read = changeLog.read(65, 100);
+            assertEquals(10, read.size());
+            assertEquals("0-74", read.get(9).getEventId());
+            assertEquals(ChangeEventType.REVIEW_CREATED, read.get(9).getType());
+        }
+    }
+
+    @Test
+    void publish_DropsOldestSegmentsBeyondRetention() throws IOException {
+        try (FileSegmentChangeLog changeLog = new FileSegmentChangeLog(tempDir, 4096, 2, objectMapper)) {
+            changeLog.publish(events(0, 300));
+
+            assertEquals(2, segmentCount());
+            assertTrue(changeLog.startOffset() > 0);
+            assertThrows(IllegalArgumentException.class, () -> changeLog.read(0, 10));
+            assertEquals(changeLog.startOffset(), changeLog.read(changeLog.startOffset(), 1).get(0).getOffset());
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.count();
+        }
+    }
+
+    private static List<ChangeEventDto> events(int first, int count) {
+        return IntStream.range(first, first + count)
+            .mapToObj(i -> ChangeEventDto.builder()
+                .eventId("0-" + i)
+                .type(ChangeEventType.REVIEW_CREATED)
+                .entityType("PRODUCT")
+                .entityId("PROD-" + i)
+                .reviewId((long) i)
+                .occurredAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewHelpfulness;
+import com.reviewservice.entity.ReviewImage;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.repository.ReviewHelpfulnessRepository;
+import com.reviewservice.repository.ReviewImageRepository;
+import com.reviewservice.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CompactionControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewImageRepository reviewImageRepository;
+
+    @Autowired
+    private ReviewHelpfulnessRepository helpfulnessRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compact_ArchivesReviewsDeletedBeforeRetention() throws Exception {
+        Review expired = saveReview("USER-1", ReviewStatus.DELETED);
+        Review recent = saveReview("USER-2", ReviewStatus.DELETED);
+        Review active = saveReview("USER-3", ReviewStatus.ACTIVE);
+        jdbcTemplate.update("UPDATE reviews SET updated_at = ? WHERE id = ?",
+            LocalDateTime.now().minusDays(120), expired.getId());
+
+        reviewImageRepository.saveAndFlush(ReviewImage.builder()
+            .reviewId(expired.getId())
+            .fileName("old.jpg")
+            .contentType("image/jpeg")
+            .fileSize(1024L)
+            .imageData(new byte[1024])
+            .build());
+        helpfulnessRepository.saveAndFlush(ReviewHelpfulness.builder()
+            .reviewId(expired.getId())
+            .reviewCreatedAt(expired.getCreatedAt())
+            .userId("VOTER-1")
+            .helpful(true)
+            .build());
+
+        mockMvc.perform(post("/api/v1/compaction"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.reviewsArchived").value(1))
+            .andExpect(jsonPath("$.imagesDeleted").value(1))
+            .andExpect(jsonPath("$.votesDeleted").value(1))
+            .andExpect(jsonPath("$.responsesDeleted").value(0))
+            .andExpect(jsonPath("$.bytesReclaimed").value(1024 + "Old".length() + "Deleted long ago".length()));
+
+        assertEquals(0, count("SELECT COUNT(*) FROM reviews WHERE id = ?", expired.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM reviews_archive WHERE id = ?", expired.getId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM review_images WHERE review_id = ?", expired.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM reviews WHERE id = ?", recent.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM reviews WHERE id = ?", active.getId()));
+    }
+
+    private Review saveReview(String userId, ReviewStatus status) {
+        return reviewRepository.saveAndFlush(Review.builder()
+            .entityType("COMPACTION")
+            .entityId("PROD-1")
+            .userId(userId)
+            .rating(4)
+            .title("Old")
+            .comment("Deleted long ago")
+            .status(status)
+            .build());
+    }
+
+    private int count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, id);
+    }
+}
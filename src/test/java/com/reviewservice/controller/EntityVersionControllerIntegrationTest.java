@@ -0,0 +1,93 @@
+package com.reviewservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.dto.EntityVersionBatchRequest;
+import com.reviewservice.dto.HelpfulnessRequest;
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.service.EntityVersionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class EntityVersionControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Test
+    void getVersion_UnwrittenEntity_ReturnsZero() throws Exception {
+        mockMvc.perform(get("/api/v1/versions")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-NEW"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").value(0));
+    }
+
+    @Test
+    void getVersion_AfterHelpfulnessVote_Incremented() throws Exception {
+        Review review = reviewRepository.save(Review.builder()
+            .entityType("PRODUCT")
+            .entityId("PROD-123")
+            .userId("USER-1")
+            .rating(5)
+            .status(ReviewStatus.ACTIVE)
+            .build());
+        entityVersionService.bumpVersion("PRODUCT", "PROD-123");
+
+        mockMvc.perform(post("/api/v1/reviews/" + review.getId() + "/helpfulness")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new HelpfulnessRequest("USER-2", true))))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/versions")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").value(2))
+            .andExpect(jsonPath("$.updatedAt").exists());
+    }
+
+    @Test
+    void getVersions_Batch_ReturnsOnePerEntity() throws Exception {
+        entityVersionService.bumpVersion("PRODUCT", "PROD-1");
+        entityVersionService.bumpVersion("PRODUCT", "PROD-1");
+        entityVersionService.bumpVersion("PRODUCT", "PROD-2");
+
+        EntityVersionBatchRequest request = new EntityVersionBatchRequest(
+            "PRODUCT", List.of("PROD-1", "PROD-2", "PROD-3"));
+
+        mockMvc.perform(post("/api/v1/versions/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].version").value(2))
+            .andExpect(jsonPath("$[1].version").value(1))
+            .andExpect(jsonPath("$[2].version").value(0));
+    }
+}
@@ -0,0 +1,93 @@
+package com.reviewservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.entity.RatingSummary;
+import com.reviewservice.repository.RatingSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class LeaderboardControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Test
+    void getLeaderboard_RanksByScoreAndPagesWithCursor() throws Exception {
+        saveSummary("LEADERBOARD", "PROD-A", 4.7, 50, 4.6);
+        saveSummary("LEADERBOARD", "PROD-B", 5.0, 1, 4.9);
+        saveSummary("LEADERBOARD", "PROD-C", 4.3, 30, 4.2);
+        saveSummary("LEADERBOARD", "PROD-D", 4.1, 12, 3.9);
+
+        String body = mockMvc.perform(get("/api/v1/leaderboard")
+                .param("entityType", "LEADERBOARD")
+                .param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.entries.length()").value(2))
+            .andExpect(jsonPath("$.entries[0].entityId").value("PROD-A"))
+            .andExpect(jsonPath("$.entries[1].entityId").value("PROD-C"))
+            .andReturn().getResponse().getContentAsString();
+
+        JsonNode firstPage = objectMapper.readTree(body);
+        assertTrue(firstPage.hasNonNull("nextCursor"));
+
+        mockMvc.perform(get("/api/v1/leaderboard")
+                .param("entityType", "LEADERBOARD")
+                .param("limit", "2")
+                .param("cursor", firstPage.get("nextCursor").asText()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.entries.length()").value(1))
+            .andExpect(jsonPath("$.entries[0].entityId").value("PROD-D"))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getLeaderboard_LowerThreshold_IncludesFewReviewEntities() throws Exception {
+        saveSummary("LEADERBOARD-MIN", "PROD-A", 4.7, 50, 4.6);
+        saveSummary("LEADERBOARD-MIN", "PROD-B", 5.0, 1, 3.6);
+
+        mockMvc.perform(get("/api/v1/leaderboard")
+                .param("entityType", "LEADERBOARD-MIN")
+                .param("minReviews", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.entries.length()").value(2))
+            .andExpect(jsonPath("$.entries[1].entityId").value("PROD-B"));
+    }
+
+    @Test
+    void getLeaderboard_InvalidCursor_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/leaderboard")
+                .param("entityType", "LEADERBOARD")
+                .param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private void saveSummary(String entityType, String entityId, double average, int total, double score) {
+        ratingSummaryRepository.save(RatingSummary.builder()
+            .entityType(entityType)
+            .entityId(entityId)
+            .averageRating(average)
+            .totalReviews(total)
+            .bayesianScore(score)
+            .build());
+    }
+}
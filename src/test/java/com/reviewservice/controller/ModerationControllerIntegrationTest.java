@@ -0,0 +1,145 @@
+package com.reviewservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.dto.ModerationDecisionRequest;
+import com.reviewservice.entity.ModerationStatus;
+import com.reviewservice.entity.RatingSummary;
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.repository.RatingSummaryRepository;
+import com.reviewservice.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ModerationControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Test
+    void getQueue_PagesPendingReviewsByKeyset() throws Exception {
+        Review first = saveReview("USER-1", 5, ModerationStatus.PENDING);
+        Review second = saveReview("USER-2", 4, ModerationStatus.PENDING);
+        Review third = saveReview("USER-3", 3, ModerationStatus.PENDING);
+        saveReview("USER-4", 2, ModerationStatus.APPROVED);
+
+        mockMvc.perform(get("/api/v1/moderation/queue")
+                .param("afterId", String.valueOf(first.getId() - 1))
+                .param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].reviewId").value(first.getId()))
+            .andExpect(jsonPath("$.items[1].reviewId").value(second.getId()))
+            .andExpect(jsonPath("$.nextAfterId").value(second.getId()));
+
+        mockMvc.perform(get("/api/v1/moderation/queue")
+                .param("afterId", String.valueOf(second.getId()))
+                .param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(1))
+            .andExpect(jsonPath("$.items[0].reviewId").value(third.getId()))
+            .andExpect(jsonPath("$.items[0].moderationStatus").value("PENDING"))
+            .andExpect(jsonPath("$.nextAfterId").doesNotExist());
+    }
+
+    @Test
+    void reject_RemovesReviewsAndRecomputesSummaryOnce() throws Exception {
+        Review kept = saveReview("USER-1", 5, null);
+        Review spam = saveReview("USER-2", 1, ModerationStatus.PENDING);
+        Review moreSpam = saveReview("USER-3", 1, ModerationStatus.PENDING);
+        Review unflagged = saveReview("USER-4", 2, null);
+
+        mockMvc.perform(post("/api/v1/moderation/reject")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    decision(List.of(spam.getId(), moreSpam.getId(), unflagged.getId())))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.requested").value(3))
+            .andExpect(jsonPath("$.updated").value(2))
+            .andExpect(jsonPath("$.summariesRecomputed").value(1));
+
+        Review rejected = reviewRepository.findById(spam.getId()).orElseThrow();
+        assertEquals(ModerationStatus.REJECTED, rejected.getModerationStatus());
+        assertEquals(ReviewStatus.DELETED, rejected.getStatus());
+        assertEquals("MOD-1", rejected.getModeratorId());
+        assertEquals(ReviewStatus.ACTIVE, reviewRepository.findById(unflagged.getId()).orElseThrow().getStatus());
+
+        RatingSummary summary = ratingSummaryRepository.findByEntityTypeAndEntityId("MODERATION", "PROD-1").orElseThrow();
+        assertEquals(2, summary.getTotalReviews());
+        assertEquals(3.5, summary.getAverageRating());
+        assertEquals(ReviewStatus.ACTIVE, reviewRepository.findById(kept.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void approve_OnlyAppliesToPendingReviews() throws Exception {
+        Review pending = saveReview("USER-1", 4, ModerationStatus.PENDING);
+        Review notFlagged = saveReview("USER-2", 4, null);
+
+        mockMvc.perform(post("/api/v1/moderation/approve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(decision(List.of(pending.getId(), notFlagged.getId())))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated").value(1))
+            .andExpect(jsonPath("$.summariesRecomputed").value(0));
+
+        assertEquals(ModerationStatus.APPROVED, reviewRepository.findById(pending.getId()).orElseThrow().getModerationStatus());
+        assertNull(reviewRepository.findById(notFlagged.getId()).orElseThrow().getModerationStatus());
+    }
+
+    @Test
+    void approve_MoreThanBatchLimit_ReturnsBadRequest() throws Exception {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().collect(Collectors.toList());
+
+        mockMvc.perform(post("/api/v1/moderation/approve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(decision(ids))))
+            .andExpect(status().isBadRequest());
+    }
+
+    private ModerationDecisionRequest decision(List<Long> reviewIds) {
+        return ModerationDecisionRequest.builder()
+            .reviewIds(reviewIds)
+            .moderatorId("MOD-1")
+            .note("Checked")
+            .build();
+    }
+
+    private Review saveReview(String userId, int rating, ModerationStatus moderationStatus) {
+        return reviewRepository.saveAndFlush(Review.builder()
+            .entityType("MODERATION")
+            .entityId("PROD-1")
+            .userId(userId)
+            .rating(rating)
+            .title("Title")
+            .comment("Comment")
+            .moderationStatus(moderationStatus)
+            .build());
+    }
+}
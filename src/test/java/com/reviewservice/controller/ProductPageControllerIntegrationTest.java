@@ -0,0 +1,133 @@
+package com.reviewservice.controller;
+
+import com.reviewservice.entity.RatingSummary;
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.repository.RatingSummaryRepository;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.service.EntityVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class ProductPageControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @BeforeEach
+    void setUp() {
+        reviewRepository.deleteAll();
+        ratingSummaryRepository.deleteAll();
+
+        reviewRepository.save(Review.builder()
+            .entityType("PRODUCT")
+            .entityId("PROD-123")
+            .userId("USER-1")
+            .rating(5)
+            .helpfulCount(7)
+            .status(ReviewStatus.ACTIVE)
+            .build());
+        reviewRepository.save(Review.builder()
+            .entityType("PRODUCT")
+            .entityId("PROD-123")
+            .userId("USER-2")
+            .rating(3)
+            .status(ReviewStatus.ACTIVE)
+            .build());
+
+        ratingSummaryRepository.save(RatingSummary.builder()
+            .entityType("PRODUCT")
+            .entityId("PROD-123")
+            .averageRating(4.0)
+            .totalReviews(2)
+            .fiveStarCount(1)
+            .threeStarCount(1)
+            .build());
+
+        entityVersionService.bumpVersion("PRODUCT", "PROD-123");
+    }
+
+    @Test
+    void getProductPage_ReturnsSummaryReviewsAndMostHelpful() throws Exception {
+        mockMvc.perform(get("/api/v1/product-page")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.summary.averageRating").value(4.0))
+            .andExpect(jsonPath("$.reviews.content.length()").value(2))
+            .andExpect(jsonPath("$.reviews.content[0].images").isArray())
+            .andExpect(jsonPath("$.mostHelpful.length()").value(1))
+            .andExpect(jsonPath("$.mostHelpful[0].helpfulCount").value(7));
+    }
+
+    @Test
+    void getProductPage_MatchingETag_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/product-page")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/product-page")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getProductPage_StaleETag_ReturnsOk() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/product-page")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        entityVersionService.bumpVersion("PRODUCT", "PROD-123");
+
+        mockMvc.perform(get("/api/v1/product-page")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.reviews.content.length()").value(2));
+    }
+
+    @Test
+    void getProductPage_SizeOrTopHelpfulOutOfRange_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/product-page")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123")
+                .param("size", "1000000"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/product-page")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123")
+                .param("topHelpful", "1000"))
+            .andExpect(status().isBadRequest());
+    }
+}
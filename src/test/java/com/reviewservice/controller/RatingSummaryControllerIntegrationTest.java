@@ -1,18 +1,26 @@
 package com.reviewservice.controller;
 
+import com.reviewservice.dto.ReviewRequest;
+import com.reviewservice.dto.ReviewUpdateRequest;
 import com.reviewservice.entity.RatingSummary;
 import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
 import com.reviewservice.repository.RatingSummaryRepository;
 import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.service.EntityVersionService;
+import com.reviewservice.service.RatingBucketBackfill;
+import com.reviewservice.service.ReviewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -33,6 +41,15 @@ class RatingSummaryControllerIntegrationTest {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private RatingBucketBackfill ratingBucketBackfill;
+
     @BeforeEach
     void setUp() {
         reviewRepository.deleteAll();
@@ -64,6 +81,31 @@ class RatingSummaryControllerIntegrationTest {
             .andExpect(jsonPath("$.totalReviews").value(10));
     }
 
+    @Test
+    void getRatingSummary_UnchangedVersion_ReturnsNotModified() throws Exception {
+        ratingSummaryRepository.save(RatingSummary.builder()
+            .entityType("PRODUCT")
+            .entityId("PROD-123")
+            .averageRating(4.0)
+            .totalReviews(1)
+            .fourStarCount(1)
+            .build());
+        entityVersionService.bumpVersion("PRODUCT", "PROD-123");
+
+        String etag = mockMvc.perform(get("/api/v1/ratings")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/ratings")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-123")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+    }
+
     @Test
     void getRatingSummary_NonExistingSummary_ReturnsNotFound() throws Exception {
         mockMvc.perform(get("/api/v1/ratings")
@@ -79,7 +121,7 @@ class RatingSummaryControllerIntegrationTest {
             .entityId("PROD-123")
             .userId("USER-1")
             .rating(5)
-            .status("ACTIVE")
+            .status(ReviewStatus.ACTIVE)
             // .images(new ArrayList<>())
             .build();
 
@@ -88,7 +130,7 @@ class RatingSummaryControllerIntegrationTest {
             .entityId("PROD-123")
             .userId("USER-2")
             .rating(4)
-            .status("ACTIVE")
+            .status(ReviewStatus.ACTIVE)
             // .images(new ArrayList<>())
             .build();
 
@@ -100,4 +142,69 @@ class RatingSummaryControllerIntegrationTest {
                 .param("entityId", "PROD-123"))
             .andExpect(status().isOk());
     }
+
+    @Test
+    void getRatingWindow_AfterReviewWrites_SumsDailyBuckets() throws Exception {
+        Long first = reviewService.createReview(reviewRequest("USER-1", 5), null).getId();
+        reviewService.createReview(reviewRequest("USER-2", 3), null);
+        Long third = reviewService.createReview(reviewRequest("USER-3", 1), null).getId();
+        reviewService.updateReview(first, "USER-1", ReviewUpdateRequest.builder().rating(4).build(), null);
+        reviewService.deleteReview(third, "USER-3");
+
+        mockMvc.perform(get("/api/v1/ratings/window")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-TREND"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalReviews").value(2))
+            .andExpect(jsonPath("$.averageRating").value(3.5))
+            .andExpect(jsonPath("$.ratingDistribution['4']").value(1))
+            .andExpect(jsonPath("$.ratingDistribution['5']").value(0))
+            .andExpect(jsonPath("$.ratingDistribution['1']").value(0));
+
+        mockMvc.perform(get("/api/v1/ratings/trend")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-TREND")
+                .param("from", LocalDate.now().minusDays(7).toString())
+                .param("interval", "WEEK"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[-1:].totalReviews").value(2));
+    }
+
+    @Test
+    void getRatingWindow_AfterBackfill_CountsExistingReviews() throws Exception {
+        reviewRepository.save(Review.builder()
+            .entityType("PRODUCT").entityId("PROD-LEGACY").userId("USER-1").rating(5).status(ReviewStatus.ACTIVE).build());
+        reviewRepository.save(Review.builder()
+            .entityType("PRODUCT").entityId("PROD-LEGACY").userId("USER-2").rating(2).status(ReviewStatus.ACTIVE).build());
+        reviewRepository.save(Review.builder()
+            .entityType("PRODUCT").entityId("PROD-LEGACY").userId("USER-3").rating(4).status(ReviewStatus.DELETED).build());
+
+        ratingBucketBackfill.backfill();
+
+        mockMvc.perform(get("/api/v1/ratings/window")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-LEGACY"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalReviews").value(2))
+            .andExpect(jsonPath("$.averageRating").value(3.5));
+    }
+
+    @Test
+    void getRatingTrend_InvertedRange_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/ratings/trend")
+                .param("entityType", "PRODUCT")
+                .param("entityId", "PROD-TREND")
+                .param("from", "2024-02-01")
+                .param("to", "2024-01-01"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private ReviewRequest reviewRequest(String userId, int rating) {
+        return ReviewRequest.builder()
+            .entityType("PRODUCT")
+            .entityId("PROD-TREND")
+            .userId(userId)
+            .rating(rating)
+            .build();
+    }
 }
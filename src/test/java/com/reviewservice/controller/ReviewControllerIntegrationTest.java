@@ -1,13 +1,19 @@
 package com.reviewservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.dto.ResponseRequest;
 import com.reviewservice.dto.ReviewRequest;
 import com.reviewservice.dto.ReviewUpdateRequest;
 import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewHelpfulness;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.repository.ReviewHelpfulnessRepository;
 import com.reviewservice.repository.ReviewImageRepository;
 import com.reviewservice.repository.ReviewRepository;
 import com.reviewservice.repository.RatingSummaryRepository;
+import com.reviewservice.service.EntityVersionService;
 import com.reviewservice.service.ImageStorageService;
+import com.reviewservice.service.ReviewPageCache;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.mock.web.MockMultipartFile;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +31,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -52,8 +60,18 @@ class ReviewControllerIntegrationTest {
     @Autowired
     private ReviewImageRepository reviewImageRepository;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Autowired
+    private ReviewHelpfulnessRepository helpfulnessRepository;
+
+    @Autowired
+    private ReviewPageCache reviewPageCache;
+
     @BeforeEach
     void setUp() {
+        reviewPageCache.clear();
         reviewImageRepository.deleteAll();
         reviewRepository.deleteAll();
         ratingSummaryRepository.deleteAll();
@@ -116,7 +134,7 @@ class ReviewControllerIntegrationTest {
                 .entityId("PROD-123")
                 .userId("USER-1")
                 .rating(4)
-                .status("ACTIVE")
+                .status(ReviewStatus.ACTIVE)
                 .build();
         reviewRepository.save(existingReview);
 
@@ -137,7 +155,7 @@ class ReviewControllerIntegrationTest {
                 .userId("USER-1")
                 .rating(5)
                 .title("Great")
-                .status("ACTIVE")
+                .status(ReviewStatus.ACTIVE)
                 .build();
         Review savedReview = reviewRepository.save(review);
 
@@ -161,7 +179,7 @@ class ReviewControllerIntegrationTest {
                 .userId("USER-1")
                 .rating(4)
                 .title("Good")
-                .status("ACTIVE")
+                .status(ReviewStatus.ACTIVE)
                 .build();
         Review savedReview = reviewRepository.save(review);
 
@@ -188,7 +206,7 @@ class ReviewControllerIntegrationTest {
                 .entityId("PROD-123")
                 .userId("USER-1")
                 .rating(4)
-                .status("ACTIVE")
+                .status(ReviewStatus.ACTIVE)
                 .build();
         Review savedReview = reviewRepository.save(review);
 
@@ -204,7 +222,7 @@ class ReviewControllerIntegrationTest {
                 .entityId("PROD-123")
                 .userId("USER-1")
                 .rating(5)
-                .status("ACTIVE")
+                .status(ReviewStatus.ACTIVE)
                 .build();
 
         Review review2 = Review.builder()
@@ -212,7 +230,7 @@ class ReviewControllerIntegrationTest {
                 .entityId("PROD-123")
                 .userId("USER-2")
                 .rating(4)
-                .status("ACTIVE")
+                .status(ReviewStatus.ACTIVE)
                 .build();
 
         reviewRepository.save(review1);
@@ -225,4 +243,162 @@ class ReviewControllerIntegrationTest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content.length()").value(2));
     }
+
+    @Test
+    void getReviewsByEntity_VersionChange_RendersNewPage() throws Exception {
+        reviewRepository.save(Review.builder()
+                .entityType("PRODUCT")
+                .entityId("PROD-456")
+                .userId("USER-1")
+                .rating(5)
+                .status(ReviewStatus.ACTIVE)
+                .build());
+        entityVersionService.bumpVersion("PRODUCT", "PROD-456");
+
+        mockMvc.perform(get("/api/v1/reviews")
+                        .param("entityType", "PRODUCT")
+                        .param("entityId", "PROD-456"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Entity-Version", "1"))
+                .andExpect(jsonPath("$.content.length()").value(1));
+
+        reviewRepository.save(Review.builder()
+                .entityType("PRODUCT")
+                .entityId("PROD-456")
+                .userId("USER-2")
+                .rating(4)
+                .status(ReviewStatus.ACTIVE)
+                .build());
+        entityVersionService.bumpVersion("PRODUCT", "PROD-456");
+
+        mockMvc.perform(get("/api/v1/reviews")
+                        .param("entityType", "PRODUCT")
+                        .param("entityId", "PROD-456"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Entity-Version", "2"))
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    @Test
+    void getReviewsByEntity_WithViewer_IncludesViewerVotes() throws Exception {
+        Review voted = reviewRepository.save(Review.builder()
+                .entityType("PRODUCT")
+                .entityId("PROD-789")
+                .userId("USER-1")
+                .rating(5)
+                .status(ReviewStatus.ACTIVE)
+                .build());
+        Review notVoted = reviewRepository.save(Review.builder()
+                .entityType("PRODUCT")
+                .entityId("PROD-789")
+                .userId("USER-2")
+                .rating(3)
+                .status(ReviewStatus.ACTIVE)
+                .build());
+        helpfulnessRepository.save(ReviewHelpfulness.builder()
+                .reviewId(voted.getId())
+                .reviewCreatedAt(voted.getCreatedAt())
+                .userId("VIEWER-1")
+                .helpful(true)
+                .build());
+
+        mockMvc.perform(get("/api/v1/reviews")
+                        .param("entityType", "PRODUCT")
+                        .param("entityId", "PROD-789")
+                        .param("viewerId", "VIEWER-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("private")))
+                .andExpect(jsonPath("$.content[?(@.id == " + voted.getId() + ")].viewerVote", contains("HELPFUL")))
+                .andExpect(jsonPath("$.content[?(@.id == " + notVoted.getId() + ")].viewerVote", contains("NONE")));
+
+        mockMvc.perform(get("/api/v1/reviews")
+                        .param("entityType", "PRODUCT")
+                        .param("entityId", "PROD-789"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].viewerVote").doesNotExist());
+    }
+
+    @Test
+    void getReviewsByEntity_IncludeResponses_ReturnsLatestResponseAndCount() throws Exception {
+        Review answered = reviewRepository.save(Review.builder()
+                .entityType("PRODUCT")
+                .entityId("PROD-321")
+                .userId("USER-1")
+                .rating(2)
+                .status(ReviewStatus.ACTIVE)
+                .build());
+        reviewRepository.save(Review.builder()
+                .entityType("PRODUCT")
+                .entityId("PROD-321")
+                .userId("USER-2")
+                .rating(5)
+                .status(ReviewStatus.ACTIVE)
+                .build());
+
+        for (String text : new String[] {"Sorry to hear that", "A replacement is on its way"}) {
+            mockMvc.perform(post("/api/v1/reviews/" + answered.getId() + "/responses")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new ResponseRequest("VENDOR-1", "VENDOR", text))))
+                    .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/v1/reviews")
+                        .param("entityType", "PRODUCT")
+                        .param("entityId", "PROD-321")
+                        .param("sortBy", "rating")
+                        .param("direction", "ASC")
+                        .param("includeResponses", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].responseCount").value(2))
+                .andExpect(jsonPath("$.content[0].latestResponse.response").value("A replacement is on its way"))
+                .andExpect(jsonPath("$.content[1].responseCount").value(0))
+                .andExpect(jsonPath("$.content[1].latestResponse").doesNotExist());
+    }
+
+    @Test
+    void getReviewsByUser_PageOrSizeOutOfRange_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/reviews/user/USER-1")
+                        .param("size", "1000000"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/reviews/user/USER-1")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/reviews/user/USER-1")
+                        .param("page", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getReviewsByEntity_SizeOutOfRange_ReturnsBadRequest() throws Exception {
+        reviewRepository.save(Review.builder()
+                .entityType("PRODUCT")
+                .entityId("PROD-789")
+                .userId("USER-1")
+                .rating(4)
+                .status(ReviewStatus.ACTIVE)
+                .build());
+        entityVersionService.bumpVersion("PRODUCT", "PROD-789");
+
+        mockMvc.perform(get("/api/v1/reviews")
+                        .param("entityType", "PRODUCT")
+                        .param("entityId", "PROD-789")
+                        .param("size", "1000000"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/reviews")
+                        .param("entityType", "PRODUCT")
+                        .param("entityId", "PROD-789")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/reviews")
+                        .param("entityType", "PRODUCT")
+                        .param("entityId", "PROD-789")
+                        .param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1));
+    }
 }
@@ -0,0 +1,227 @@
+package com.reviewservice.grpc;
+
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.exception.ResourceNotFoundException;
+import com.reviewservice.grpc.proto.BatchGetRatingSummariesRequest;
+import com.reviewservice.grpc.proto.ExportReviewsRequest;
+import com.reviewservice.grpc.proto.GetRatingSummaryRequest;
+import com.reviewservice.grpc.proto.ListReviewsRequest;
+import com.reviewservice.grpc.proto.ListReviewsResponse;
+import com.reviewservice.grpc.proto.RatingSummary;
+import com.reviewservice.grpc.proto.Review;
+import com.reviewservice.grpc.proto.ReviewServiceGrpc;
+import com.reviewservice.service.RatingSummaryService;
+import com.reviewservice.service.ReviewService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewGrpcServiceTest {
+
+    private static final int EXPORT_CHUNK_SIZE = 2;
+
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private RatingSummaryService ratingSummaryService;
+
+    private Server server;
+    private ManagedChannel channel;
+    private ReviewServiceGrpc.ReviewServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+            .directExecutor()
+            .addService(new ReviewGrpcService(reviewService, ratingSummaryService, EXPORT_CHUNK_SIZE))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = ReviewServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void getRatingSummary_ReturnsSummary() {
+        when(ratingSummaryService.getRatingSummary("PRODUCT", "PROD-1")).thenReturn(summary("PROD-1"));
+
+        RatingSummary summary = stub.getRatingSummary(GetRatingSummaryRequest.newBuilder()
+            .setEntityType("PRODUCT")
+            .setEntityId("PROD-1")
+            .build());
+
+        assertEquals("PROD-1", summary.getEntityId());
+        assertEquals(4.5, summary.getAverageRating());
+        assertEquals(10, summary.getTotalReviews());
+        assertEquals(6, summary.getRatingDistributionOrThrow(5));
+        assertTrue(summary.hasUpdatedAt());
+    }
+
+    @Test
+    void getRatingSummary_MissingSummaryIsNotFound() {
+        when(ratingSummaryService.getRatingSummary("PRODUCT", "PROD-1"))
+            .thenThrow(new ResourceNotFoundException("Rating summary not found"));
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () ->
+            stub.getRatingSummary(GetRatingSummaryRequest.newBuilder()
+                .setEntityType("PRODUCT")
+                .setEntityId("PROD-1")
+                .build()));
+
+        assertEquals(Status.Code.NOT_FOUND, e.getStatus().getCode());
+        assertEquals("Rating summary not found", e.getStatus().getDescription());
+    }
+
+    @Test
+    void batchGetRatingSummaries_ReturnsFoundSummaries() {
+        when(ratingSummaryService.getRatingSummaries("PRODUCT", List.of("PROD-1", "PROD-2", "PROD-3")))
+            .thenReturn(List.of(summary("PROD-1"), summary("PROD-3")));
+
+        List<RatingSummary> summaries = stub.batchGetRatingSummaries(BatchGetRatingSummariesRequest.newBuilder()
+            .setEntityType("PRODUCT")
+            .addAllEntityIds(List.of("PROD-1", "PROD-2", "PROD-3"))
+            .build()).getSummariesList();
+
+        assertEquals(List.of("PROD-1", "PROD-3"),
+            summaries.stream().map(RatingSummary::getEntityId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void batchGetRatingSummaries_RejectsOversizedBatch() {
+        List<String> entityIds = IntStream.range(0, 501).mapToObj(i -> "PROD-" + i).collect(Collectors.toList());
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () ->
+            stub.batchGetRatingSummaries(BatchGetRatingSummariesRequest.newBuilder()
+                .setEntityType("PRODUCT")
+                .addAllEntityIds(entityIds)
+                .build()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+        verifyNoInteractions(ratingSummaryService);
+    }
+
+    @Test
+    void listReviews_PassesFiltersAndDefaults() {
+        Pageable expected = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(reviewService.getReviewsByEntity("PRODUCT", "PROD-1", 4, null, true, expected))
+            .thenReturn(new PageImpl<>(List.of(review(1L), review(2L)), expected, 12));
+
+        ListReviewsResponse response = stub.listReviews(ListReviewsRequest.newBuilder()
+            .setEntityType("PRODUCT")
+            .setEntityId("PROD-1")
+            .setMinRating(4)
+            .setVerifiedOnly(true)
+            .build());
+
+        assertEquals(2, response.getReviewsCount());
+        assertEquals(12, response.getTotalElements());
+        assertEquals(2, response.getTotalPages());
+        Review first = response.getReviews(0);
+        assertEquals(1L, first.getId());
+        assertEquals("Review 1", first.getTitle());
+        assertTrue(first.hasCreatedAt());
+        assertFalse(first.hasUpdatedAt());
+    }
+
+    @Test
+    void exportReviews_StreamsEveryChunkAfterTheLastId() {
+        when(reviewService.getReviewsByEntityAfter(eq("PRODUCT"), eq("PROD-1"), anyLong(), eq(EXPORT_CHUNK_SIZE)))
+            .thenAnswer(invocation -> {
+                long afterId = invocation.getArgument(2);
+                return LongStream.rangeClosed(afterId + 1, 5)
+                    .limit(EXPORT_CHUNK_SIZE)
+                    .mapToObj(ReviewGrpcServiceTest::review)
+                    .collect(Collectors.toList());
+            });
+
+        List<Long> ids = new ArrayList<>();
+        stub.exportReviews(ExportReviewsRequest.newBuilder()
+                .setEntityType("PRODUCT")
+                .setEntityId("PROD-1")
+                .build())
+            .forEachRemaining(review -> ids.add(review.getId()));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids);
+        verify(reviewService).getReviewsByEntityAfter("PRODUCT", "PROD-1", 0L, EXPORT_CHUNK_SIZE);
+        verify(reviewService).getReviewsByEntityAfter("PRODUCT", "PROD-1", 2L, EXPORT_CHUNK_SIZE);
+        verify(reviewService).getReviewsByEntityAfter("PRODUCT", "PROD-1", 4L, EXPORT_CHUNK_SIZE);
+        verify(reviewService, never()).getReviewsByEntity(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void exportReviews_EmptyEntityCompletes() {
+        when(reviewService.getReviewsByEntityAfter("PRODUCT", "PROD-1", 0L, EXPORT_CHUNK_SIZE))
+            .thenReturn(Collections.emptyList());
+
+        assertFalse(stub.exportReviews(ExportReviewsRequest.newBuilder()
+            .setEntityType("PRODUCT")
+            .setEntityId("PROD-1")
+            .build()).hasNext());
+    }
+
+    private static RatingSummaryDto summary(String entityId) {
+        return RatingSummaryDto.builder()
+            .entityType("PRODUCT")
+            .entityId(entityId)
+            .averageRating(4.5)
+            .totalReviews(10)
+            .bayesianScore(4.2)
+            .ratingDistribution(Map.of(5, 6, 4, 3, 3, 1, 2, 0, 1, 0))
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    static ReviewResponseDto review(long id) {
+        return ReviewResponseDto.builder()
+            .id(id)
+            .entityType("PRODUCT")
+            .entityId("PROD-1")
+            .userId("USER-" + id)
+            .rating(5)
+            .title("Review " + id)
+            .comment("A comment long enough to look like a real review, number " + id)
+            .verified(true)
+            .helpfulCount(3)
+            .unhelpfulCount(1)
+            .responseCount(0)
+            .images(List.of())
+            .status("ACTIVE")
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.reviewservice.grpc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.grpc.proto.ListReviewsResponse;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares a listing page as Protobuf against the JSON the REST API sends for it, in
+ * bytes on the wire and CPU spent serializing. Runs with {@code mvn test -Pbenchmark}.
+ */
+class ReviewProtoMapperBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 2_000;
+    private static final int ROUNDS = 2_000;
+
+    // Configured as Spring Boot's: dates as ISO strings
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final List<ReviewResponseDto> page = LongStream.rangeClosed(1, PAGE_SIZE)
+        .mapToObj(ReviewGrpcServiceTest::review)
+        .collect(Collectors.toList());
+
+    @Test
+    void listingPage_BytesAndCpuPerPage() throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isCurrentThreadCpuTimeSupported(), "Thread CPU time is not measured on this JVM");
+
+        byte[] json = objectMapper.writeValueAsBytes(page);
+        byte[] proto = toProto(page).toByteArray();
+        long jsonNanos = cpuPerPage(threads, () -> objectMapper.writeValueAsBytes(page));
+        long protoNanos = cpuPerPage(threads, () -> toProto(page).toByteArray());
+
+        System.out.printf("Page of %d reviews: JSON %,d bytes in %,d ns, Protobuf %,d bytes in %,d ns (%.0f%% smaller)%n",
+            PAGE_SIZE, json.length, jsonNanos, proto.length, protoNanos,
+            100.0 * (json.length - proto.length) / json.length);
+    }
+
+    private static ListReviewsResponse toProto(List<ReviewResponseDto> page) {
+        ListReviewsResponse.Builder response = ListReviewsResponse.newBuilder();
+        page.forEach(review -> response.addReviews(ReviewProtoMapper.toProto(review)));
+        return response.build();
+    }
+
+    private static long cpuPerPage(ThreadMXBean threads, Callable<byte[]> serialize) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            serialize.call();
+        }
+        long before = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            serialize.call();
+        }
+        return (threads.getCurrentThreadCpuTime() - before) / ROUNDS;
+    }
+}
@@ -0,0 +1,69 @@
+package com.reviewservice.grpc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.grpc.proto.ListReviewsResponse;
+import com.reviewservice.grpc.proto.Review;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewProtoMapperTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    // Configured as Spring Boot's: dates as ISO strings
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final List<ReviewResponseDto> page = LongStream.rangeClosed(1, PAGE_SIZE)
+        .mapToObj(ReviewGrpcServiceTest::review)
+        .collect(Collectors.toList());
+
+    @Test
+    void toProto_KeepsFieldsAndTime() throws InvalidProtocolBufferException {
+        ReviewResponseDto dto = page.get(0);
+
+        Review review = Review.parseFrom(ReviewProtoMapper.toProto(dto).toByteArray());
+
+        assertEquals(dto.getId(), review.getId());
+        assertEquals(dto.getComment(), review.getComment());
+        assertEquals(dto.getHelpfulCount(), review.getHelpfulCount());
+        assertEquals(dto.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().getEpochSecond(),
+            review.getCreatedAt().getSeconds());
+        assertEquals(dto.getCreatedAt().getNano(), review.getCreatedAt().getNanos());
+    }
+
+    @Test
+    void toProto_LeavesAbsentValuesUnset() {
+        Review review = ReviewProtoMapper.toProto(ReviewResponseDto.builder().id(1L).build());
+
+        assertEquals("", review.getTitle());
+        assertEquals(0, review.getRating());
+        assertFalse(review.hasCreatedAt());
+        assertEquals(0, review.getImagesCount());
+    }
+
+    @Test
+    void listingPage_ProtobufIsSmallerThanJson() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(page);
+        byte[] proto = toProto().toByteArray();
+
+        assertTrue(proto.length < json.length, "Protobuf " + proto.length + " bytes, JSON " + json.length + " bytes");
+    }
+
+    private ListReviewsResponse toProto() {
+        ListReviewsResponse.Builder response = ListReviewsResponse.newBuilder();
+        page.forEach(review -> response.addReviews(ReviewProtoMapper.toProto(review)));
+        return response.build();
+    }
+}
@@ -0,0 +1,203 @@
+package com.reviewservice.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.reviewservice.dto.EntityVersionDto;
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.event.RatingSummaryChangedEvent;
+import com.reviewservice.service.EntityVersionService;
+import com.reviewservice.service.RatingSummaryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RatingSummaryStreamTest {
+
+    @Mock
+    private RatingSummaryService ratingSummaryService;
+
+    @Mock
+    private EntityVersionService entityVersionService;
+
+    private RatingSummaryStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new RatingSummaryStream(ratingSummaryService, entityVersionService,
+            new ObjectMapper().registerModule(new JavaTimeModule()), Duration.ofMillis(20), Duration.ofMinutes(1),
+            Duration.ofSeconds(2), 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        stream.shutdown();
+    }
+
+    @Test
+    void subscribe_SendsSummaryThenOneDeltaPerBurst() {
+        when(ratingSummaryService.findRatingSummary("PRODUCT", "PROD-1"))
+            .thenReturn(Optional.of(summary(4.0, 10)))
+            .thenReturn(Optional.of(summary(4.5, 12)));
+        RecordingEmitter emitter = new RecordingEmitter(null);
+
+        assertTrue(stream.subscribe("PRODUCT", "PROD-1", emitter).isPresent());
+        await(() -> emitter.events.size() == 1);
+        assertTrue(emitter.events.get(0).startsWith("event:summary\ndata:"));
+
+        for (int i = 0; i < 5; i++) {
+            stream.onRatingSummaryChanged(new RatingSummaryChangedEvent(1L, "PRODUCT", "PROD-1", 4.5, 12, 4.2));
+        }
+        await(() -> emitter.events.size() == 2);
+
+        String delta = emitter.events.get(1);
+        assertTrue(delta.startsWith("event:delta\ndata:"));
+        assertTrue(delta.contains("\"averageRating\":4.5"));
+        assertTrue(delta.contains("\"totalReviews\":12"));
+        assertFalse(delta.contains("ratingDistribution"));
+        verify(ratingSummaryService, times(2)).findRatingSummary("PRODUCT", "PROD-1");
+    }
+
+    @Test
+    void slowSubscriber_SkipsIntermediateStates() throws InterruptedException {
+        when(ratingSummaryService.findRatingSummary("PRODUCT", "PROD-1"))
+            .thenReturn(Optional.of(summary(4.0, 10)))
+            .thenReturn(Optional.of(summary(4.5, 12)))
+            .thenReturn(Optional.of(summary(3.5, 14)));
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+
+        stream.subscribe("PRODUCT", "PROD-1", slow);
+        await(() -> stream.version("PRODUCT", "PROD-1") == 1);
+        stream.onRatingSummaryChanged(new RatingSummaryChangedEvent(1L, "PRODUCT", "PROD-1", 4.5, 12, 4.2));
+        await(() -> stream.version("PRODUCT", "PROD-1") == 2);
+        stream.onRatingSummaryChanged(new RatingSummaryChangedEvent(1L, "PRODUCT", "PROD-1", 3.5, 14, 3.6));
+        await(() -> stream.version("PRODUCT", "PROD-1") == 3);
+
+        release.countDown();
+        await(() -> slow.events.size() == 2);
+        Thread.sleep(50);
+
+        assertEquals(2, slow.events.size());
+        assertTrue(slow.events.get(1).startsWith("event:summary\ndata:"));
+        assertTrue(slow.events.get(1).contains("\"averageRating\":3.5"));
+    }
+
+    @Test
+    void stuckSend_ClosesSubscriberAndFreesSender() {
+        when(ratingSummaryService.findRatingSummary("PRODUCT", "PROD-1")).thenReturn(Optional.of(summary(4.0, 10)));
+        RecordingEmitter stuck = new RecordingEmitter(new CountDownLatch(1));
+
+        stream.subscribe("PRODUCT", "PROD-1", stuck);
+        await(() -> stream.version("PRODUCT", "PROD-1") == 1);
+
+        // Dropped after send-timeout, freeing its slot and the sender thread
+        assertTrue(stream.subscribe("PRODUCT", "PROD-1", new RecordingEmitter(null)).isPresent());
+        assertTrue(stream.subscribe("PRODUCT", "PROD-2", new RecordingEmitter(null)).isEmpty());
+        await(() -> stream.subscribe("PRODUCT", "PROD-1", new RecordingEmitter(null)).isPresent());
+        assertTrue(stuck.events.isEmpty());
+    }
+
+    @Test
+    void pollVersions_FlushesEntitiesChangedElsewhere() {
+        when(ratingSummaryService.findRatingSummary("PRODUCT", "PROD-1"))
+            .thenReturn(Optional.of(summary(4.0, 10)))
+            .thenReturn(Optional.of(summary(4.0, 10)))
+            .thenReturn(Optional.of(summary(5.0, 11)));
+        when(entityVersionService.getVersions("PRODUCT", List.of("PROD-1")))
+            .thenReturn(List.of(version(3)))
+            .thenReturn(List.of(version(3)))
+            .thenReturn(List.of(version(4)));
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        stream.subscribe("PRODUCT", "PROD-1", emitter);
+        await(() -> emitter.events.size() == 1);
+
+        stream.pollVersions();
+        verify(ratingSummaryService, timeout(1000).times(2)).findRatingSummary("PRODUCT", "PROD-1");
+        stream.pollVersions();
+        stream.pollVersions();
+        await(() -> emitter.events.size() == 2);
+
+        assertTrue(emitter.events.get(1).contains("\"averageRating\":5.0"));
+        verify(ratingSummaryService, times(3)).findRatingSummary("PRODUCT", "PROD-1");
+    }
+
+    @Test
+    void subscribe_BeyondLimitIsRefused() {
+        when(ratingSummaryService.findRatingSummary("PRODUCT", "PROD-1")).thenReturn(Optional.empty());
+
+        assertTrue(stream.subscribe("PRODUCT", "PROD-1", new RecordingEmitter(null)).isPresent());
+        assertTrue(stream.subscribe("PRODUCT", "PROD-1", new RecordingEmitter(null)).isPresent());
+        assertTrue(stream.subscribe("PRODUCT", "PROD-1", new RecordingEmitter(null)).isEmpty());
+    }
+
+    private static RatingSummaryDto summary(double average, int total) {
+        return RatingSummaryDto.builder()
+            .entityType("PRODUCT")
+            .entityId("PROD-1")
+            .averageRating(average)
+            .totalReviews(total)
+            .ratingDistribution(Map.of(5, 1))
+            .build();
+    }
+
+    private static EntityVersionDto version(long version) {
+        return EntityVersionDto.builder()
+            .entityType("PRODUCT")
+            .entityId("PROD-1")
+            .version(version)
+            .build();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out");
+            Thread.onSpinWait();
+        }
+    }
+
+    // Records what would be written; blocks the first send until released, like a stalled client
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            events.add(builder.build().stream()
+                .map(data -> data.getData().toString())
+                .collect(Collectors.joining()));
+        }
+    }
+}
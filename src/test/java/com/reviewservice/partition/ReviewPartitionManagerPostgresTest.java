@@ -0,0 +1,103 @@
+package com.reviewservice.partition;
+
+import com.reviewservice.dto.ReviewRequest;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.service.ReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Partitioning is PostgreSQL only, so this runs against a real one; not @Transactional, since
+// rows must move between partitions as committed
+@SpringBootTest(properties = "review.partitioning.enabled=true")
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class ReviewPartitionManagerPostgresTest {
+
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("'p'yyyy_MM");
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "update");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private ReviewPartitionManager partitionManager;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void initialize_CreatesMonthPartitionsSplitByStatus() {
+        // The current month is in the legacy partition; month partitions start with the next one
+        String next = "reviews_" + YearMonth.now().plusMonths(1).format(MONTH_SUFFIX);
+
+        assertTrue(tableExists(next));
+        assertTrue(tableExists(next + "_active"));
+        assertTrue(tableExists(next + "_deleted"));
+        assertTrue(tableExists("review_helpfulness_" + YearMonth.now().plusMonths(1).format(MONTH_SUFFIX)));
+    }
+
+    @Test
+    void deleteReview_MovesRowToDeletedPartitionOfItsMonth() throws Exception {
+        ReviewResponseDto review = reviewService.createReview(ReviewRequest.builder()
+            .entityType("PRODUCT")
+            .entityId("PARTITIONED-1")
+            .userId("USER-PARTITION")
+            .rating(4)
+            .title("Partitioned")
+            .comment("Lands in a month partition")
+            .build(), null);
+        assertEquals("reviews_legacy", partitionOf(review.getId()));
+
+        jdbcTemplate.update("UPDATE reviews SET created_at = created_at + interval '1 month' WHERE id = ?",
+            review.getId());
+        String month = "reviews_" + YearMonth.now().plusMonths(1).format(MONTH_SUFFIX);
+        assertEquals(month + "_active", partitionOf(review.getId()));
+
+        reviewService.deleteReview(review.getId(), "USER-PARTITION");
+        assertEquals(month + "_deleted", partitionOf(review.getId()));
+    }
+
+    @Test
+    void maintain_RunsAgainWithoutChanges() {
+        partitionManager.maintain();
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_constraint WHERE conrelid = 'reviews'::regclass AND contype = 'p'",
+            Integer.class));
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+
+    private String partitionOf(long reviewId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM reviews WHERE id = ?",
+            String.class, reviewId);
+    }
+}
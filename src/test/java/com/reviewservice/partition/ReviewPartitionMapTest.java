@@ -0,0 +1,54 @@
+package com.reviewservice.partition;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReviewPartitionMapTest {
+
+    private static final LocalDateTime MARCH = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime APRIL = LocalDateTime.of(2025, 4, 1, 0, 0);
+
+    @Test
+    void createdAtRange_EmptyMap_Unbounded() {
+        assertTrue(new ReviewPartitionMap().createdAtRange(42L).isEmpty());
+    }
+
+    @Test
+    void createdAtRange_BoundedByOwnAndNextPartition() {
+        ReviewPartitionMap map = mapOf(1L, null, 1_000L, MARCH, 2_000L, APRIL);
+
+        ReviewPartitionMap.CreatedAtRange legacy = map.createdAtRange(500L).orElseThrow();
+        assertTrue(legacy.getFrom().isBefore(LocalDateTime.of(2000, 1, 1, 0, 0)));
+        assertEquals(MARCH.plus(ReviewPartitionMap.MARGIN), legacy.getTo());
+
+        ReviewPartitionMap.CreatedAtRange march = map.createdAtRange(1_500L).orElseThrow();
+        assertEquals(MARCH.minus(ReviewPartitionMap.MARGIN), march.getFrom());
+        assertEquals(APRIL.plus(ReviewPartitionMap.MARGIN), march.getTo());
+    }
+
+    @Test
+    void createdAtRange_NewestPartition_OpenEnded() {
+        ReviewPartitionMap map = mapOf(1_000L, MARCH, 2_000L, APRIL);
+
+        ReviewPartitionMap.CreatedAtRange range = map.createdAtRange(5_000L).orElseThrow();
+
+        assertEquals(APRIL.minus(ReviewPartitionMap.MARGIN), range.getFrom());
+        assertTrue(range.getTo().isAfter(LocalDateTime.of(3000, 1, 1, 0, 0)));
+        assertTrue(map.createdAtRange(999L).isEmpty());
+    }
+
+    private ReviewPartitionMap mapOf(Object... firstIdAndStart) {
+        Map<Long, LocalDateTime> partitions = new HashMap<>();
+        for (int i = 0; i < firstIdAndStart.length; i += 2) {
+            partitions.put((Long) firstIdAndStart[i], (LocalDateTime) firstIdAndStart[i + 1]);
+        }
+        ReviewPartitionMap map = new ReviewPartitionMap();
+        map.replace(partitions);
+        return map;
+    }
+}
@@ -0,0 +1,104 @@
+package com.reviewservice.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.dto.HelpfulnessRequest;
+import com.reviewservice.entity.Review;
+import com.reviewservice.repository.ReviewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+    "review.rate-limit.enabled=true",
+    "review.rate-limit.endpoints.helpfulness.per-user.capacity=2",
+    "review.rate-limit.endpoints.helpfulness.per-user.period=1h",
+    "review.rate-limit.endpoints.helpfulness.per-entity.capacity=3",
+    "review.rate-limit.endpoints.helpfulness.per-entity.period=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Test
+    void markHelpfulness_OverUserLimit_Returns429WithRetryAfter() throws Exception {
+        String body = objectMapper.writeValueAsString(new HelpfulnessRequest("BOT-1", true));
+        Long first = saveReview("USER-1").getId();
+        Long second = saveReview("USER-2").getId();
+        Long third = saveReview("USER-3").getId();
+
+        mockMvc.perform(post("/api/v1/reviews/{reviewId}/helpfulness", first)
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/reviews/{reviewId}/helpfulness", second)
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/reviews/{reviewId}/helpfulness", third)
+                .contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string("Retry-After", "1800"))
+            .andExpect(jsonPath("$.status").value(429));
+
+        String otherUser = objectMapper.writeValueAsString(new HelpfulnessRequest("USER-9", true));
+        mockMvc.perform(post("/api/v1/reviews/{reviewId}/helpfulness", third)
+                .contentType(MediaType.APPLICATION_JSON).content(otherUser))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void markHelpfulness_OverEntityLimit_CountsAllReviewsOfTheEntityAndKeepsUserTokens() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post("/api/v1/reviews/{reviewId}/helpfulness", saveReview("PROD-2", "USER-" + i).getId())
+                    .contentType(MediaType.APPLICATION_JSON).content(vote("VOTER-" + i)))
+                .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post("/api/v1/reviews/{reviewId}/helpfulness", saveReview("PROD-2", "USER-4").getId())
+                .contentType(MediaType.APPLICATION_JSON).content(vote("VOTER-4")))
+            .andExpect(status().isTooManyRequests());
+
+        // The rejected vote took none of VOTER-4's two tokens
+        for (int i = 5; i <= 6; i++) {
+            mockMvc.perform(post("/api/v1/reviews/{reviewId}/helpfulness", saveReview("PROD-3", "USER-" + i).getId())
+                    .contentType(MediaType.APPLICATION_JSON).content(vote("VOTER-4")))
+                .andExpect(status().isOk());
+        }
+    }
+
+    private String vote(String userId) throws Exception {
+        return objectMapper.writeValueAsString(new HelpfulnessRequest(userId, true));
+    }
+
+    private Review saveReview(String userId) {
+        return saveReview("PROD-1", userId);
+    }
+
+    private Review saveReview(String entityId, String userId) {
+        return reviewRepository.saveAndFlush(Review.builder()
+            .entityType("RATE_LIMIT")
+            .entityId(entityId)
+            .userId(userId)
+            .rating(4)
+            .title("Title")
+            .comment("Comment")
+            .build());
+    }
+}
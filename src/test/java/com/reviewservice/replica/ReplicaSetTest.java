@@ -0,0 +1,87 @@
+package com.reviewservice.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplicaSetTest {
+
+    private static final String PRIMARY = "jdbc:h2:mem:replica-set-primary";
+    private static final String REPLICA = "jdbc:h2:mem:replica-set-replica";
+
+    private ReplicaSet replicaSet;
+
+    @BeforeEach
+    void setUp() {
+        replicaSet = new ReplicaSet("test", h2(PRIMARY), List.of(h2(REPLICA)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaContext.clear();
+    }
+
+    @Test
+    void readOnly_NoHealthCheckYet_UsesPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(PRIMARY, urlOf(replicaSet));
+    }
+
+    @Test
+    void readOnly_HealthyReplica_UsesReplica() throws SQLException {
+        replicaSet.checkHealth(Duration.ofSeconds(5), 1024 * 1024);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(1, replicaSet.healthyReplicas());
+        assertEquals(REPLICA, urlOf(replicaSet));
+    }
+
+    @Test
+    void readWrite_HealthyReplica_UsesPrimary() throws SQLException {
+        replicaSet.checkHealth(Duration.ofSeconds(5), 1024 * 1024);
+
+        assertEquals(PRIMARY, urlOf(replicaSet));
+    }
+
+    @Test
+    void readOnly_PrimaryRequiredAfterWrite_UsesPrimary() throws SQLException {
+        replicaSet.checkHealth(Duration.ofSeconds(5), 1024 * 1024);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaContext.requirePrimary();
+
+        assertEquals(PRIMARY, urlOf(replicaSet));
+    }
+
+    @Test
+    void readOnly_UnreachableReplica_FallsBackToPrimary() throws SQLException {
+        ReplicaSet unreachable = new ReplicaSet("test", h2(PRIMARY),
+            List.of(h2("jdbc:unreachable:replica")));
+        unreachable.checkHealth(Duration.ofSeconds(5), 1024 * 1024);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(0, unreachable.healthyReplicas());
+        assertEquals(PRIMARY, urlOf(unreachable));
+    }
+
+    private String urlOf(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    private DataSource h2(String url) {
+        return new DriverManagerDataSource(url, "sa", "");
+    }
+}
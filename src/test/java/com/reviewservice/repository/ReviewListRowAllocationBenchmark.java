@@ -0,0 +1,108 @@
+package com.reviewservice.repository;
+
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the heap allocated per listing page when reviews are loaded as managed
+ * entities against the row projection the listing endpoints use. Runs with
+ * {@code mvn test -Pbenchmark}, on JVMs that count allocations per thread.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ReviewListRowAllocationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 200;
+    private static final int ROUNDS = 200;
+    private static final String WHERE =
+        "WHERE r.entityType = :entityType AND r.entityId = :entityId AND r.status = :status ORDER BY r.id";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            reviewRepository.save(Review.builder()
+                .entityType("ALLOCATION")
+                .entityId("PROD-1")
+                .userId("USER-" + i)
+                .rating(1 + i % 5)
+                .title("Review " + i)
+                .comment("A comment long enough to look like a real review, number " + i)
+                .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listingPage_RowsAllocateLessThanEntities() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean allocations
+            && allocations.isThreadAllocatedMemorySupported(), "Per-thread allocation is not measured on this JVM");
+
+        long entities = allocatedPerPage(() -> {
+            List<Review> page = entityManager.createQuery("SELECT r FROM Review r " + WHERE, Review.class)
+                .setParameter("entityType", "ALLOCATION")
+                .setParameter("entityId", "PROD-1")
+                .setParameter("status", ReviewStatus.ACTIVE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+            assertEquals(PAGE_SIZE, page.size());
+            // Managed entities are dirty checked when the transaction flushes
+            entityManager.flush();
+            entityManager.clear();
+        });
+
+        long rows = allocatedPerPage(() -> {
+            List<ReviewListRow> page = entityManager.createQuery(ReviewListRow.SELECT + WHERE, ReviewListRow.class)
+                .setParameter("entityType", "ALLOCATION")
+                .setParameter("entityId", "PROD-1")
+                .setParameter("status", ReviewStatus.ACTIVE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+            assertEquals(PAGE_SIZE, page.size());
+            entityManager.flush();
+            entityManager.clear();
+        });
+
+        System.out.printf("Allocated per page of %d reviews: entities %,d bytes, rows %,d bytes (%.0f%% less)%n",
+            PAGE_SIZE, entities, rows, 100.0 * (entities - rows) / entities);
+        assertTrue(rows < entities, "rows " + rows + " bytes, entities " + entities + " bytes");
+    }
+
+    private long allocatedPerPage(Runnable page) {
+        for (int i = 0; i < WARMUP; i++) {
+            page.run();
+        }
+        long before = allocatedBytes();
+        for (int i = 0; i < ROUNDS; i++) {
+            page.run();
+        }
+        return (allocatedBytes() - before) / ROUNDS;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,149 @@
+package com.reviewservice.search;
+
+import com.reviewservice.dto.ReviewSearchResultDto;
+import com.reviewservice.entity.EntityVersion;
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.exception.InvalidRequestException;
+import com.reviewservice.repository.EntityVersionRepository;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardRouter;
+import com.reviewservice.sharding.ShardingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LuceneReviewSearchEngineTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private EntityVersionRepository entityVersionRepository;
+
+    private LuceneReviewSearchEngine engine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        engine = new LuceneReviewSearchEngine(reviewRepository, entityVersionRepository,
+                new ShardRouter(new ShardingProperties()), "", Duration.ofMinutes(1));
+
+        index(1L, "PROD-1", 5, true, "Great battery", "The battery life is excellent and charging is fast");
+        index(2L, "PROD-1", 2, false, "Poor fit", "The fit is too tight around the battery cover");
+        index(3L, "PROD-2", 4, true, "Good value", "Fast delivery and solid build");
+        engine.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        engine.close();
+    }
+
+    @Test
+    void search_Keyword_ReturnsStemmedMatchesWithHighlights() {
+        Page<ReviewSearchResultDto> result = search(ReviewSearchQuery.builder().text("batteries").build());
+
+        assertEquals(2, result.getTotalElements());
+        ReviewSearchResultDto first = result.getContent().get(0);
+        assertEquals(1L, first.getId());
+        assertTrue(first.getTitleHighlight().contains("<mark>battery</mark>"));
+        assertTrue(first.getCommentHighlight().contains("<mark>"));
+    }
+
+    @Test
+    void search_Phrase_MatchesOnlyAdjacentTerms() {
+        Page<ReviewSearchResultDto> result = search(ReviewSearchQuery.builder().text("\"battery life\"").build());
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(1L, result.getContent().get(0).getId());
+    }
+
+    @Test
+    void search_RatingAndVerifiedFilters_Applied() {
+        assertEquals(1, search(ReviewSearchQuery.builder()
+                .text("battery").maxRating(3).build()).getTotalElements());
+        assertEquals(1, search(ReviewSearchQuery.builder()
+                .text("fast").verifiedOnly(true).entityId("PROD-2").build()).getTotalElements());
+    }
+
+    @Test
+    void onReviewChanged_Deleted_RemovedFromIndex() {
+        Review review = Review.builder()
+                .id(1L).entityType("PRODUCT").entityId("PROD-1").userId("USER-1").rating(5).build();
+        engine.onReviewChanged(ReviewChangedEvent.deleted(review));
+        assertEquals(2, search(ReviewSearchQuery.builder().text("battery").build()).getTotalElements());
+        engine.refresh();
+
+        Page<ReviewSearchResultDto> result = search(ReviewSearchQuery.builder().text("battery").build());
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(2L, result.getContent().get(0).getId());
+    }
+
+    @Test
+    void search_PageBeyondResultWindow_Rejected() {
+        ReviewSearchQuery query = ReviewSearchQuery.builder().text("battery").build();
+
+        assertThrows(InvalidRequestException.class, () -> engine.search(query, PageRequest.of(Integer.MAX_VALUE, 100)));
+        assertThrows(InvalidRequestException.class, () -> engine.search(query, PageRequest.of(100, 100)));
+        assertEquals(0, engine.search(query, PageRequest.of(99, 100)).getNumberOfElements());
+    }
+
+    @Test
+    void catchUp_AppliesReviewsWrittenThroughOtherInstances() {
+        when(entityVersionRepository.findChangedAfter(any(), anyLong(), any())).thenReturn(List.of(
+                EntityVersion.builder().id(7L).entityType("PRODUCT").entityId("PROD-1")
+                        .version(3L).updatedAt(LocalDateTime.now()).build()));
+        when(reviewRepository.findByEntityTypeAndEntityIdAndUpdatedAtGreaterThanEqual(eq("PRODUCT"), eq("PROD-1"), any()))
+                .thenReturn(List.of(
+                        Review.builder().id(2L).entityType("PRODUCT").entityId("PROD-1").userId("USER-2")
+                                .rating(2).status(ReviewStatus.DELETED).build(),
+                        Review.builder().id(4L).entityType("PRODUCT").entityId("PROD-1").userId("USER-4")
+                                .rating(4).title("Spare battery").comment("Bought a second battery")
+                                .createdAt(LocalDateTime.now()).build()));
+
+        engine.catchUp();
+        engine.refresh();
+
+        Page<ReviewSearchResultDto> result = search(ReviewSearchQuery.builder().text("battery").build());
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(1L, 4L), result.getContent().stream().map(ReviewSearchResultDto::getId).sorted().toList());
+    }
+
+    private Page<ReviewSearchResultDto> search(ReviewSearchQuery query) {
+        return engine.search(query, PageRequest.of(0, 10));
+    }
+
+    private void index(Long id, String entityId, int rating, boolean verified, String title, String comment) {
+        Review review = Review.builder()
+                .id(id)
+                .entityType("PRODUCT")
+                .entityId(entityId)
+                .userId("USER-" + id)
+                .rating(rating)
+                .verified(verified)
+                .title(title)
+                .comment(comment)
+                .createdAt(LocalDateTime.now())
+                .build();
+        engine.onReviewChanged(ReviewChangedEvent.created(review));
+    }
+}
@@ -0,0 +1,139 @@
+package com.reviewservice.search;
+
+import com.reviewservice.dto.AspectCountDto;
+import com.reviewservice.entity.EntityVersion;
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.repository.EntityVersionRepository;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardRouter;
+import com.reviewservice.sharding.ShardingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewAspectIndexTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private EntityVersionRepository entityVersionRepository;
+
+    private ReviewAspectIndex reviewAspectIndex;
+
+    @BeforeEach
+    void setUp() {
+        reviewAspectIndex = new ReviewAspectIndex(reviewRepository, entityVersionRepository,
+                new ShardRouter(new ShardingProperties()), 100, Duration.ofMinutes(1));
+
+        when(reviewRepository.findByEntityTypeAndEntityIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                eq("PRODUCT"), eq("PROD-1"), eq(ReviewStatus.ACTIVE), anyLong(), any()))
+                .thenReturn(List.of(
+                        review(1L, "The battery life is great and the batteries charge fast"),
+                        review(2L, "Battery died after a week, delivery was quick though"),
+                        review(3L, "Fit is perfect. Delivery took too long")));
+    }
+
+    @Test
+    void getTopAspects_CountsReviewsPerStemWithReadableLabels() {
+        List<AspectCountDto> aspects = reviewAspectIndex.getTopAspects("PRODUCT", "PROD-1", 10, 2);
+
+        assertEquals(List.of(
+                new AspectCountDto("battery", 2),
+                new AspectCountDto("delivery", 2)), aspects);
+    }
+
+    @Test
+    void getTopAspects_BuildsEntityOnce() {
+        reviewAspectIndex.getTopAspects("PRODUCT", "PROD-1", 10, 1);
+        reviewAspectIndex.getTopAspects("PRODUCT", "PROD-1", 5, 1);
+
+        verify(reviewRepository, times(1)).findByEntityTypeAndEntityIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void getReviewIds_MatchesStemmedAspectNewestFirst() {
+        Page<Long> ids = reviewAspectIndex.getReviewIds("PRODUCT", "PROD-1", "Batteries", PageRequest.of(0, 10));
+
+        assertEquals(List.of(2L, 1L), ids.getContent());
+        assertEquals(2, ids.getTotalElements());
+        assertTrue(reviewAspectIndex.getReviewIds("PRODUCT", "PROD-1", "the", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void onReviewChanged_UpdatesLoadedEntity() {
+        reviewAspectIndex.getTopAspects("PRODUCT", "PROD-1", 10, 1);
+
+        Review edited = review(2L, "Fit runs small");
+        reviewAspectIndex.onReviewChanged(ReviewChangedEvent.updated(edited, 1));
+        reviewAspectIndex.onReviewChanged(ReviewChangedEvent.created(review(4L, "Battery is fine")));
+        reviewAspectIndex.onReviewChanged(ReviewChangedEvent.deleted(review(3L, null)));
+
+        assertEquals(List.of(4L, 1L), reviewAspectIndex.getReviewIds(
+                "PRODUCT", "PROD-1", "battery", PageRequest.of(0, 10)).getContent());
+        assertEquals(List.of(2L), reviewAspectIndex.getReviewIds(
+                "PRODUCT", "PROD-1", "fit", PageRequest.of(0, 10)).getContent());
+        assertTrue(reviewAspectIndex.getReviewIds(
+                "PRODUCT", "PROD-1", "delivery", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void catchUp_AppliesChangesFromOtherInstancesToLoadedEntitiesOnly() {
+        reviewAspectIndex.getTopAspects("PRODUCT", "PROD-1", 10, 1);
+        when(entityVersionRepository.findChangedAfter(any(), anyLong(), any())).thenReturn(List.of(
+                version(1L, "PROD-1"),
+                version(2L, "PROD-9")));
+        Review deleted = review(3L, "Fit is perfect. Delivery took too long");
+        deleted.setStatus(ReviewStatus.DELETED);
+        when(reviewRepository.findByEntityTypeAndEntityIdAndUpdatedAtGreaterThanEqual(eq("PRODUCT"), eq("PROD-1"), any()))
+                .thenReturn(List.of(review(4L, "Battery is fine"), deleted));
+
+        reviewAspectIndex.catchUp();
+
+        assertEquals(List.of(4L, 2L, 1L), reviewAspectIndex.getReviewIds(
+                "PRODUCT", "PROD-1", "battery", PageRequest.of(0, 10)).getContent());
+        assertTrue(reviewAspectIndex.getReviewIds(
+                "PRODUCT", "PROD-1", "fit", PageRequest.of(0, 10)).isEmpty());
+        verify(reviewRepository, never()).findByEntityTypeAndEntityIdAndUpdatedAtGreaterThanEqual(any(), eq("PROD-9"), any());
+    }
+
+    private EntityVersion version(Long id, String entityId) {
+        return EntityVersion.builder()
+                .id(id)
+                .entityType("PRODUCT")
+                .entityId(entityId)
+                .version(2L)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Review review(Long id, String comment) {
+        return Review.builder()
+                .id(id)
+                .entityType("PRODUCT")
+                .entityId("PROD-1")
+                .userId("USER-" + id)
+                .rating(4)
+                .comment(comment)
+                .status(ReviewStatus.ACTIVE)
+                .build();
+    }
+}
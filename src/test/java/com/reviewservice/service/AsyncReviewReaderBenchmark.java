@@ -0,0 +1,89 @@
+package com.reviewservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.dto.RatingSummaryDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Measures what a read waiting for the pool costs: threads started and heap retained per
+ * in-flight read, against a stalled database. Runs with {@code mvn test -Pbenchmark}.
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncReviewReaderBenchmark {
+
+    private static final int THREADS = 2;
+    private static final int IN_FLIGHT = 100_000;
+
+    @Mock
+    private RatingSummaryService ratingSummaryService;
+
+    private AsyncReviewReader reader;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        reader.shutdown();
+    }
+
+    @Test
+    void inFlightReads_ThreadsAndHeapPerRead() throws Exception {
+        reader = new AsyncReviewReader(mock(ReviewService.class), ratingSummaryService, new ObjectMapper(),
+            THREADS, IN_FLIGHT, 10, Duration.ofSeconds(30));
+        CountDownLatch release = new CountDownLatch(1);
+        when(ratingSummaryService.getRatingSummary("PRODUCT", "PROD-1")).thenAnswer(invocation -> {
+            release.await();
+            return new RatingSummaryDto();
+        });
+        // Starts the pool's threads, so only the reads themselves are counted
+        List<CompletableFuture<RatingSummaryDto>> reads = new ArrayList<>(IN_FLIGHT);
+        for (int i = 0; i < THREADS; i++) {
+            reads.add(reader.getRatingSummary("PRODUCT", "PROD-1"));
+        }
+        verify(ratingSummaryService, timeout(1000).times(THREADS)).getRatingSummary("PRODUCT", "PROD-1");
+
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        long heapBefore = retainedHeap();
+        for (int i = THREADS; i < IN_FLIGHT; i++) {
+            reads.add(reader.getRatingSummary("PRODUCT", "PROD-1"));
+        }
+        long heapPerRead = (retainedHeap() - heapBefore) / (IN_FLIGHT - THREADS);
+        int threadsAdded = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+
+        System.out.printf("%,d reads in flight on %d threads: %d threads added, %,d heap bytes retained per read%n",
+            IN_FLIGHT, THREADS, threadsAdded, heapPerRead);
+        release.countDown();
+        CompletableFuture.allOf(reads.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+        assertEquals(0, threadsAdded);
+    }
+
+    // Heap in use once collections stop freeing anything, so garbage is not counted
+    private static long retainedHeap() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(20);
+            long now = memory.getHeapMemoryUsage().getUsed();
+            if (now >= used) {
+                return now;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,263 @@
+package com.reviewservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.exception.RateLimitExceededException;
+import com.reviewservice.replica.ReplicaContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncReviewReaderTest {
+
+    @Mock
+    private ReviewService reviewService;
+
+    @Mock
+    private RatingSummaryService ratingSummaryService;
+
+    private AsyncReviewReader reader;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        ReplicaContext.clear();
+        reader.shutdown();
+    }
+
+    @Test
+    void streamReviewsByEntity_WritesNdjsonChunksUpToLimit() throws Exception {
+        reader = reader(2, 100, 2);
+        stubPages("PROD-1");
+        MockHttpServletRequest request = asyncRequest();
+        StreamingResponse response = new StreamingResponse();
+
+        reader.streamReviewsByEntity("PRODUCT", "PROD-1", null, null, null, Sort.by("id"), 5, request, response);
+
+        awaitCompletion(request);
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        String[] lines = response.out.body().split("\n");
+        assertEquals(5, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":0"));
+        assertTrue(lines[4].startsWith("{\"id\":4"));
+        assertEquals(3, response.out.writes);
+        verify(reviewService, times(3)).getReviewsByEntity(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void streamReviewsByEntity_StalledClientHoldsNoThreadAndFetchesNoFurther() throws Exception {
+        reader = reader(1, 100, 2);
+        stubPages("PROD-1");
+        stubPages("PROD-2");
+        MockHttpServletRequest stalledRequest = asyncRequest();
+        StreamingResponse stalled = new StreamingResponse();
+        stalled.out.ready = false;
+
+        reader.streamReviewsByEntity("PRODUCT", "PROD-1", null, null, null, Sort.by("id"), 5, stalledRequest, stalled);
+        verify(reviewService, timeout(1000)).getReviewsByEntity(eq("PRODUCT"), eq("PROD-1"), any(), any(), any(), any());
+
+        // The only read thread is free for another stream while the first client is not reading
+        MockHttpServletRequest request = asyncRequest();
+        StreamingResponse response = new StreamingResponse();
+        reader.streamReviewsByEntity("PRODUCT", "PROD-2", null, null, null, Sort.by("id"), 5, request, response);
+        awaitCompletion(request);
+        assertEquals(5, response.out.body().split("\n").length);
+
+        assertTrue(stalledRequest.isAsyncStarted());
+        assertEquals("", stalled.out.body());
+        verify(reviewService, times(1)).getReviewsByEntity(eq("PRODUCT"), eq("PROD-1"), any(), any(), any(), any());
+
+        stalled.out.resume();
+        awaitCompletion(stalledRequest);
+        assertEquals(5, stalled.out.body().split("\n").length);
+    }
+
+    @Test
+    void streamReviewsByEntity_FailedChunkEndsTheStream() throws Exception {
+        reader = reader(2, 100, 2);
+        when(reviewService.getReviewsByEntity(any(), any(), any(), any(), any(), any()))
+            .thenThrow(new IllegalStateException("database down"));
+        MockHttpServletRequest request = asyncRequest();
+        StreamingResponse response = new StreamingResponse();
+
+        reader.streamReviewsByEntity("PRODUCT", "PROD-1", null, null, null, Sort.by("id"), 5, request, response);
+
+        awaitCompletion(request);
+        assertEquals(500, response.getStatus());
+    }
+
+    @Test
+    void getReviewById_RunsOffTheCallerKeepingPrimaryRequirement() throws Exception {
+        reader = reader(2, 100, 10);
+        List<String> seen = new ArrayList<>();
+        when(reviewService.getReviewById(1L)).thenAnswer(invocation -> {
+            seen.add(Thread.currentThread().getName() + " " + ReplicaContext.isPrimaryRequired());
+            return ReviewResponseDto.builder().id(1L).build();
+        });
+
+        ReplicaContext.requirePrimary();
+        assertEquals(1L, reader.getReviewById(1L).get(5, TimeUnit.SECONDS).getId());
+
+        assertEquals(1, seen.size());
+        assertTrue(seen.get(0).startsWith("review-read-"));
+        assertTrue(seen.get(0).endsWith("true"));
+    }
+
+    @Test
+    void submit_BeyondQueueCapacityIsRejected() throws Exception {
+        reader = reader(1, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ratingSummaryService.getRatingSummary("PRODUCT", "PROD-1")).thenAnswer(invocation -> {
+            release.await();
+            return new RatingSummaryDto();
+        });
+
+        CompletableFuture<RatingSummaryDto> running = reader.getRatingSummary("PRODUCT", "PROD-1");
+        verify(ratingSummaryService, timeout(1000)).getRatingSummary("PRODUCT", "PROD-1");
+        CompletableFuture<RatingSummaryDto> queued = reader.getRatingSummary("PRODUCT", "PROD-1");
+
+        assertThrows(RateLimitExceededException.class, () -> reader.getRatingSummary("PRODUCT", "PROD-1"));
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        queued.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Keeps 10,000 reads in flight against a stalled database. A thread per request would
+     * need 10,000 threads; here the reads wait as queued tasks on the pool's 2 threads.
+     */
+    @Test
+    void inFlightReads_HoldNoThreadEach() throws Exception {
+        int inFlight = 10_000;
+        reader = reader(2, inFlight, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ratingSummaryService.getRatingSummary("PRODUCT", "PROD-1")).thenAnswer(invocation -> {
+            release.await();
+            return new RatingSummaryDto();
+        });
+
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        List<CompletableFuture<RatingSummaryDto>> reads = new ArrayList<>(inFlight);
+        for (int i = 0; i < inFlight; i++) {
+            reads.add(reader.getRatingSummary("PRODUCT", "PROD-1"));
+        }
+        int threadsAdded = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+
+        assertTrue(threadsAdded <= 2, "threads added " + threadsAdded);
+
+        release.countDown();
+        CompletableFuture.allOf(reads.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+    }
+
+    private void stubPages(String entityId) {
+        lenient().when(reviewService.getReviewsByEntity(eq("PRODUCT"), eq(entityId), isNull(), isNull(), isNull(), any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                Pageable pageable = invocation.getArgument(5);
+                List<ReviewResponseDto> content = LongStream.range(0, 2)
+                    .mapToObj(i -> ReviewResponseDto.builder().id(pageable.getPageNumber() * 2L + i).build())
+                    .collect(Collectors.toList());
+                return new PageImpl<>(content, pageable, 10);
+            });
+    }
+
+    private MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private void awaitCompletion(MockHttpServletRequest request) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (request.isAsyncStarted()) {
+            assertTrue(System.nanoTime() < deadline, "stream did not complete");
+            Thread.sleep(10);
+        }
+    }
+
+    private AsyncReviewReader reader(int threads, int queueCapacity, int chunkSize) {
+        return new AsyncReviewReader(reviewService, ratingSummaryService,
+            new ObjectMapper().registerModule(new JavaTimeModule()),
+            threads, queueCapacity, chunkSize, Duration.ofSeconds(30));
+    }
+
+    private static class StreamingResponse extends MockHttpServletResponse {
+
+        final RecordingOutputStream out = new RecordingOutputStream();
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+    }
+
+    // Reports not ready while the client is stalled, and calls the listener back once it resumes
+    private static class RecordingOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private WriteListener listener;
+        volatile boolean ready = true;
+        int writes;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            this.listener = listener;
+            if (ready) {
+                listener.onWritePossible();
+            }
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            bytes.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            bytes.write(b, off, len);
+            writes++;
+        }
+
+        void resume() throws IOException {
+            ready = true;
+            listener.onWritePossible();
+        }
+
+        synchronized String body() {
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
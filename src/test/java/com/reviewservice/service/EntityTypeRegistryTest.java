@@ -0,0 +1,91 @@
+package com.reviewservice.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityTypeRegistryTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private EntityTypeRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:entity-type-registry;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE entity_types (id SMALLINT PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE)");
+        registry = new EntityTypeRegistry(dataSource, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        jdbcTemplate.execute("DROP TABLE entity_types");
+    }
+
+    @Test
+    void idOf_NewNames_AssignsSequentialIds() {
+        assertEquals(1, registry.idOf("PRODUCT"));
+        assertEquals(2, registry.idOf("SELLER"));
+        assertEquals(1, registry.idOf("PRODUCT"));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM entity_types", Integer.class));
+    }
+
+    @Test
+    void nameOf_RegisteredElsewhere_ReadsFromTable() {
+        jdbcTemplate.update("INSERT INTO entity_types (id, name) VALUES (7, 'STORE')");
+
+        assertEquals("STORE", registry.nameOf((short) 7));
+        assertEquals(7, registry.idOf("STORE"));
+    }
+
+    @Test
+    void idOf_ReadOnlyTransaction_DoesNotRegister() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(EntityTypeRegistry.UNKNOWN, registry.idOf("UNSEEN"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM entity_types", Integer.class));
+    }
+
+    @Test
+    void idOf_ReadOnlyUnknownName_NotLookedUpAgainUntilTtl() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(EntityTypeRegistry.UNKNOWN, registry.idOf("TYPO"));
+
+        jdbcTemplate.update("INSERT INTO entity_types (id, name) VALUES (3, 'TYPO')");
+        assertEquals(EntityTypeRegistry.UNKNOWN, registry.idOf("TYPO"));
+    }
+
+    @Test
+    void idOf_ReadOnlyUnknownName_LookedUpAgainAfterTtl() {
+        EntityTypeRegistry expiring = new EntityTypeRegistry(dataSource, Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(EntityTypeRegistry.UNKNOWN, expiring.idOf("LATE"));
+
+        jdbcTemplate.update("INSERT INTO entity_types (id, name) VALUES (4, 'LATE')");
+        assertEquals(4, expiring.idOf("LATE"));
+    }
+
+    @Test
+    void idOf_Miss_LoadsEveryType() {
+        jdbcTemplate.update("INSERT INTO entity_types (id, name) VALUES (1, 'PRODUCT'), (2, 'SELLER')");
+        assertEquals(1, registry.idOf("PRODUCT"));
+
+        jdbcTemplate.execute("DELETE FROM entity_types");
+        assertEquals(2, registry.idOf("SELLER"));
+        assertEquals("SELLER", registry.nameOf((short) 2));
+    }
+
+    @Test
+    void nameOf_UnknownId_Throws() {
+        assertThrows(IllegalStateException.class, () -> registry.nameOf((short) 42));
+    }
+}
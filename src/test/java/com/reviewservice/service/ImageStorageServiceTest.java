@@ -1,8 +1,10 @@
 package com.reviewservice.service;
 
+import com.reviewservice.entity.Review;
 import com.reviewservice.entity.ReviewImage;
 import com.reviewservice.exception.ResourceNotFoundException;
 import com.reviewservice.repository.ReviewImageRepository;
+import com.reviewservice.repository.ReviewRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,6 +26,12 @@ public class ImageStorageServiceTest {
     @Mock
     private ReviewImageRepository imageRepository;
 
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private EntityVersionService entityVersionService;
+
     @InjectMocks
     private ImageStorageService imageStorageService;
 
@@ -169,6 +177,22 @@ public class ImageStorageServiceTest {
         verify(imageRepository, times(1)).deleteById(1L);
     }
 
+    @Test
+    void deleteImage_BumpsEntityVersion() {
+        Review review = Review.builder()
+                .id(100L)
+                .entityType("PRODUCT")
+                .entityId("PROD-123")
+                .build();
+        when(imageRepository.findReviewIdById(1L)).thenReturn(Optional.of(100L));
+        when(reviewRepository.findById(100L)).thenReturn(Optional.of(review));
+
+        imageStorageService.deleteImage(1L);
+
+        verify(entityVersionService, times(1)).bumpVersion("PRODUCT", "PROD-123");
+        verify(imageRepository, times(1)).deleteById(1L);
+    }
+
     @Test
     void deleteImagesByReviewId_Success() {
         imageStorageService.deleteImagesByReviewId(100L);
@@ -3,15 +3,20 @@ package com.reviewservice.service;
 import com.reviewservice.dto.RatingSummaryDto;
 import com.reviewservice.entity.RatingSummary;
 import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.RatingSummaryChangedEvent;
 import com.reviewservice.exception.ResourceNotFoundException;
 import com.reviewservice.repository.RatingSummaryRepository;
 import com.reviewservice.repository.ReviewRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,6 +35,9 @@ public class RatingSummaryServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RatingSummaryService ratingSummaryService;
 
@@ -64,7 +72,7 @@ public class RatingSummaryServiceTest {
     @Test
     void updateRatingSummary_NewSummary_Success() {
         when(reviewRepository.findByEntityTypeAndEntityIdAndStatusOrderByCreatedAtDesc(
-                "PRODUCT", "PROD-123", "ACTIVE"))
+                "PRODUCT", "PROD-123", ReviewStatus.ACTIVE))
                 .thenReturn(reviews);
         when(ratingSummaryRepository.findByEntityTypeAndEntityId("PRODUCT", "PROD-123"))
                 .thenReturn(Optional.empty());
@@ -79,7 +87,7 @@ public class RatingSummaryServiceTest {
     @Test
     void updateRatingSummary_ExistingSummary_Success() {
         when(reviewRepository.findByEntityTypeAndEntityIdAndStatusOrderByCreatedAtDesc(
-                "PRODUCT", "PROD-123", "ACTIVE"))
+                "PRODUCT", "PROD-123", ReviewStatus.ACTIVE))
                 .thenReturn(reviews);
         when(ratingSummaryRepository.findByEntityTypeAndEntityId("PRODUCT", "PROD-123"))
                 .thenReturn(Optional.of(ratingSummary));
@@ -91,10 +99,31 @@ public class RatingSummaryServiceTest {
         verify(ratingSummaryRepository, times(1)).save(any(RatingSummary.class));
     }
 
+    @Test
+    void updateRatingSummary_ShrinksScoreTowardsPrior() {
+        ReflectionTestUtils.setField(ratingSummaryService, "priorMean", 3.5);
+        ReflectionTestUtils.setField(ratingSummaryService, "priorWeight", 10.0);
+        when(reviewRepository.findByEntityTypeAndEntityIdAndStatusOrderByCreatedAtDesc(
+                "PRODUCT", "PROD-123", ReviewStatus.ACTIVE))
+                .thenReturn(reviews);
+        when(ratingSummaryRepository.findByEntityTypeAndEntityId("PRODUCT", "PROD-123"))
+                .thenReturn(Optional.empty());
+        when(ratingSummaryRepository.save(any(RatingSummary.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        ratingSummaryService.updateRatingSummary("PRODUCT", "PROD-123");
+
+        ArgumentCaptor<RatingSummary> saved = ArgumentCaptor.forClass(RatingSummary.class);
+        verify(ratingSummaryRepository).save(saved.capture());
+        // (10 * 3.5 + 45) / (10 + 10)
+        assertEquals(4.0, saved.getValue().getBayesianScore(), 1e-9);
+        verify(eventPublisher).publishEvent(any(RatingSummaryChangedEvent.class));
+    }
+
     @Test
     void updateRatingSummary_NoReviews_Success() {
         when(reviewRepository.findByEntityTypeAndEntityIdAndStatusOrderByCreatedAtDesc(
-                "PRODUCT", "PROD-123", "ACTIVE"))
+                "PRODUCT", "PROD-123", ReviewStatus.ACTIVE))
                 .thenReturn(new ArrayList<>());
         when(ratingSummaryRepository.findByEntityTypeAndEntityId("PRODUCT", "PROD-123"))
                 .thenReturn(Optional.of(ratingSummary));
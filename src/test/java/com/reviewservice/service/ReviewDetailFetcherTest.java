@@ -0,0 +1,181 @@
+package com.reviewservice.service;
+
+import com.reviewservice.dto.RatingSummaryDto;
+import com.reviewservice.entity.Review;
+import com.reviewservice.entity.ReviewImage;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.replica.ReplicaContext;
+import com.reviewservice.repository.ReviewResponseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReviewDetailFetcherTest {
+
+    @Mock
+    private ImageStorageService imageStorageService;
+
+    @Mock
+    private ReviewResponseRepository reviewResponseRepository;
+
+    @Mock
+    private RatingSummaryService ratingSummaryService;
+
+    private ReviewDetailFetcher fetcher;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        fetcher = new ReviewDetailFetcher(
+                imageStorageService, reviewResponseRepository, ratingSummaryService, 4, 128, 200);
+
+        review = Review.builder()
+                .id(1L)
+                .entityType("PRODUCT")
+                .entityId("PROD-123")
+                .userId("USER-1")
+                .rating(5)
+                .status(ReviewStatus.ACTIVE)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaContext.clear();
+        fetcher.shutdown();
+    }
+
+    @Test
+    void fetch_PrimaryRequired_PoolThreadsReadFromPrimary() {
+        List<Boolean> primaryRequired = new ArrayList<>();
+        when(imageStorageService.getImagesByReviewId(1L)).thenAnswer(invocation -> {
+            synchronized (primaryRequired) {
+                primaryRequired.add(ReplicaContext.isPrimaryRequired());
+            }
+            return new ArrayList<ReviewImage>();
+        });
+        when(reviewResponseRepository.findByReviewIdOrderByCreatedAtDesc(1L)).thenAnswer(invocation -> {
+            synchronized (primaryRequired) {
+                primaryRequired.add(ReplicaContext.isPrimaryRequired());
+            }
+            return new ArrayList<>();
+        });
+        when(ratingSummaryService.findRatingSummary("PRODUCT", "PROD-123")).thenAnswer(invocation -> {
+            synchronized (primaryRequired) {
+                primaryRequired.add(ReplicaContext.isPrimaryRequired());
+            }
+            return Optional.empty();
+        });
+
+        ReplicaContext.requirePrimary();
+        ReviewDetail detail = fetcher.fetch(review);
+
+        assertFalse(detail.isDegraded());
+        assertEquals(List.of(true, true, true), primaryRequired);
+    }
+
+    @Test
+    void fetch_AllPartsComplete_NotDegraded() {
+        RatingSummaryDto summary = RatingSummaryDto.builder()
+                .entityType("PRODUCT")
+                .entityId("PROD-123")
+                .averageRating(4.5)
+                .totalReviews(2)
+                .build();
+
+        when(imageStorageService.getImagesByReviewId(1L))
+                .thenReturn(List.of(ReviewImage.builder().id(10L).reviewId(1L).build()));
+        when(reviewResponseRepository.findByReviewIdOrderByCreatedAtDesc(1L))
+                .thenReturn(new ArrayList<>());
+        when(ratingSummaryService.findRatingSummary("PRODUCT", "PROD-123"))
+                .thenReturn(Optional.of(summary));
+
+        ReviewDetail detail = fetcher.fetch(review);
+
+        assertFalse(detail.isDegraded());
+        assertEquals(1, detail.getImages().size());
+        assertNotNull(detail.getResponses());
+        assertEquals(4.5, detail.getRatingSummary().getAverageRating());
+    }
+
+    @Test
+    void fetch_SlowPart_CancelledAndDegraded() {
+        when(imageStorageService.getImagesByReviewId(1L)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return new ArrayList<ReviewImage>();
+        });
+        when(reviewResponseRepository.findByReviewIdOrderByCreatedAtDesc(1L))
+                .thenReturn(new ArrayList<>());
+        when(ratingSummaryService.findRatingSummary("PRODUCT", "PROD-123"))
+                .thenReturn(Optional.empty());
+
+        long start = System.nanoTime();
+        ReviewDetail detail = fetcher.fetch(review);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(detail.isDegraded());
+        assertEquals(List.of(ReviewDetailFetcher.IMAGES), detail.getMissingParts());
+        assertNull(detail.getImages());
+        assertNotNull(detail.getResponses());
+        assertTrue(elapsedMillis < 2_000);
+    }
+
+    @Test
+    void fetch_SaturatedPool_SkipsPartsWithinDeadline() {
+        fetcher.shutdown();
+        fetcher = new ReviewDetailFetcher(
+                imageStorageService, reviewResponseRepository, ratingSummaryService, 1, 1, 200);
+        CountDownLatch release = new CountDownLatch(1);
+        when(imageStorageService.getImagesByReviewId(1L)).thenAnswer(invocation -> {
+            release.await();
+            return new ArrayList<ReviewImage>();
+        });
+        // Only reached if the thread frees up before the deadline
+        lenient().when(reviewResponseRepository.findByReviewIdOrderByCreatedAtDesc(1L)).thenAnswer(invocation -> {
+            release.await();
+            return new ArrayList<>();
+        });
+
+        long start = System.nanoTime();
+        ReviewDetail detail;
+        try {
+            // Images take the only thread, responses the only queue slot; the summary is rejected
+            detail = fetcher.fetch(review);
+        } finally {
+            release.countDown();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(List.of(ReviewDetailFetcher.IMAGES, ReviewDetailFetcher.RESPONSES,
+                ReviewDetailFetcher.RATING_SUMMARY), detail.getMissingParts());
+        assertTrue(elapsedMillis < 2_000);
+        verify(ratingSummaryService, never()).findRatingSummary(any(), any());
+    }
+
+    @Test
+    void fetch_FailingPart_Degraded() {
+        when(imageStorageService.getImagesByReviewId(1L)).thenReturn(new ArrayList<>());
+        when(reviewResponseRepository.findByReviewIdOrderByCreatedAtDesc(1L))
+                .thenThrow(new IllegalStateException("connection reset"));
+        when(ratingSummaryService.findRatingSummary("PRODUCT", "PROD-123"))
+                .thenReturn(Optional.empty());
+
+        ReviewDetail detail = fetcher.fetch(review);
+
+        assertTrue(detail.isDegraded());
+        assertEquals(List.of(ReviewDetailFetcher.RESPONSES), detail.getMissingParts());
+        assertNull(detail.getRatingSummary());
+    }
+}
@@ -0,0 +1,74 @@
+package com.reviewservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReviewPageCacheTest {
+
+    private ReviewPageCache reviewPageCache;
+
+    @BeforeEach
+    void setUp() {
+        reviewPageCache = new ReviewPageCache(new ObjectMapper(), 2, 4_096);
+    }
+
+    @Test
+    void getOrRender_SameKey_RendersOnce() {
+        AtomicInteger renders = new AtomicInteger();
+        ReviewPageKey key = key(1L, 0);
+
+        byte[] first = reviewPageCache.getOrRender(key, () -> {
+            renders.incrementAndGet();
+            return Map.of("content", List.of("a", "b"));
+        });
+        byte[] second = reviewPageCache.getOrRender(key, () -> {
+            renders.incrementAndGet();
+            return Map.of("content", List.of());
+        });
+
+        assertEquals(1, renders.get());
+        assertArrayEquals(first, second);
+        assertEquals("{\"content\":[\"a\",\"b\"]}", new String(first));
+    }
+
+    @Test
+    void getOrRender_NewVersion_RendersAgain() {
+        AtomicInteger renders = new AtomicInteger();
+
+        reviewPageCache.getOrRender(key(1L, 0), () -> renders.incrementAndGet());
+        reviewPageCache.getOrRender(key(2L, 0), () -> renders.incrementAndGet());
+
+        assertEquals(2, renders.get());
+    }
+
+    @Test
+    void getOrRender_OverByteBudget_EvictsByWeight() {
+        String payload = "x".repeat(1_000);
+        for (int version = 0; version < 20; version++) {
+            reviewPageCache.getOrRender(key(version, 0), () -> payload);
+        }
+        reviewPageCache.cleanUp();
+
+        assertTrue(reviewPageCache.weightedSize() <= 4_096);
+    }
+
+    @Test
+    void isCacheable_OnlyFirstPages() {
+        assertTrue(reviewPageCache.isCacheable(0));
+        assertTrue(reviewPageCache.isCacheable(1));
+        assertFalse(reviewPageCache.isCacheable(2));
+    }
+
+    private ReviewPageKey key(long version, int page) {
+        return new ReviewPageKey("PRODUCT", "PROD-123", version,
+                null, null, null, page, 10, "createdAt", Sort.Direction.DESC, false);
+    }
+}
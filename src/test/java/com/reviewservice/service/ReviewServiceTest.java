@@ -5,12 +5,16 @@ import com.reviewservice.dto.ReviewResponseDto;
 import com.reviewservice.dto.ReviewUpdateRequest;
 import com.reviewservice.entity.Review;
 import com.reviewservice.entity.ReviewImage;
+import com.reviewservice.entity.ReviewStatus;
 import com.reviewservice.exception.DuplicateReviewException;
 import com.reviewservice.exception.ResourceNotFoundException;
 import com.reviewservice.exception.UnauthorizedException;
+import com.reviewservice.partition.ReviewPartitionMap;
 import com.reviewservice.repository.ReviewHelpfulnessRepository;
+import com.reviewservice.repository.ReviewListRow;
 import com.reviewservice.repository.ReviewRepository;
 import com.reviewservice.repository.ReviewResponseRepository;
+import com.reviewservice.sharding.ShardRouter;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,14 +23,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -51,6 +60,24 @@ public class ReviewServiceTest {
     @Mock
     private ImageStorageService imageStorageService;
 
+    @Mock
+    private ReviewDetailFetcher reviewDetailFetcher;
+
+    @Mock
+    private EntityVersionService entityVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReviewPartitionMap reviewPartitionMap;
+
+    @Mock
+    private ShardRouter shardRouter;
+
+    @Mock
+    private DuplicateReviewFilter duplicateReviewFilter;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -77,7 +104,7 @@ public class ReviewServiceTest {
                 .title("Great Product")
                 .comment("Excellent quality and fast delivery")
                 .verified(false)
-                .status("ACTIVE")
+                .status(ReviewStatus.ACTIVE)
                 .helpfulCount(0)
                 .unhelpfulCount(0)
                 .build();
@@ -85,6 +112,7 @@ public class ReviewServiceTest {
 
     @Test
     void createReview_Success() throws IOException {
+        when(duplicateReviewFilter.mightHaveReviewed("PRODUCT", "PROD-123", "USER-1")).thenReturn(true);
         when(reviewRepository.existsByEntityTypeAndEntityIdAndUserId(
                 anyString(), anyString(), anyString())).thenReturn(false);
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
@@ -99,6 +127,8 @@ public class ReviewServiceTest {
         verify(reviewRepository, times(1)).save(any(Review.class));
         verify(ratingSummaryService, times(1))
                 .updateRatingSummary(review.getEntityType(), review.getEntityId());
+        verify(entityVersionService, times(1))
+                .bumpVersion(review.getEntityType(), review.getEntityId());
     }
 
     @Test
@@ -108,8 +138,6 @@ public class ReviewServiceTest {
                 new MockMultipartFile("image2", "test2.png", "image/png", "test image 2".getBytes())
         );
 
-        when(reviewRepository.existsByEntityTypeAndEntityIdAndUserId(
-                anyString(), anyString(), anyString())).thenReturn(false);
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
         when(imageStorageService.storeImages(anyLong(), anyList())).thenReturn(List.of(1L, 2L));
         when(imageStorageService.getImagesByReviewId(anyLong())).thenReturn(createMockImages());
@@ -128,6 +156,7 @@ public class ReviewServiceTest {
 
     @Test
     void createReview_DuplicateReview_ThrowsException() {
+        when(duplicateReviewFilter.mightHaveReviewed(anyString(), anyString(), anyString())).thenReturn(true);
         when(reviewRepository.existsByEntityTypeAndEntityIdAndUserId(
                 anyString(), anyString(), anyString())).thenReturn(true);
 
@@ -137,6 +166,29 @@ public class ReviewServiceTest {
         verify(reviewRepository, never()).save(any(Review.class));
     }
 
+    @Test
+    void createReview_FilterMiss_SkipsExistenceQuery() throws IOException {
+        when(reviewRepository.save(any(Review.class))).thenReturn(review);
+        when(imageStorageService.getImagesByReviewId(anyLong())).thenReturn(new ArrayList<>());
+
+        reviewService.createReview(reviewRequest, null);
+
+        verify(reviewRepository, never()).existsByEntityTypeAndEntityIdAndUserId(anyString(), anyString(), anyString());
+        verify(duplicateReviewFilter).recordReview("PRODUCT", "PROD-123", "USER-1");
+    }
+
+    @Test
+    void createReview_UniqueConstraintViolation_ThrowsDuplicate() {
+        when(reviewRepository.save(any(Review.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", null, "PUBLIC.UK_REVIEW_ENTITY_USER_INDEX_8")));
+
+        assertThrows(DuplicateReviewException.class, () ->
+                reviewService.createReview(reviewRequest, null));
+
+        verify(duplicateReviewFilter, never()).recordReview(anyString(), anyString(), anyString());
+        verify(ratingSummaryService, never()).updateRatingSummary(anyString(), anyString());
+    }
+
     @Test
     void updateReview_Success() throws IOException {
         ReviewUpdateRequest updateRequest = ReviewUpdateRequest.builder()
@@ -145,7 +197,7 @@ public class ReviewServiceTest {
                 .comment("Updated comment")
                 .build();
 
-        when(reviewRepository.findByIdAndStatus(1L, "ACTIVE"))
+        when(reviewRepository.findByIdAndStatus(1L, ReviewStatus.ACTIVE))
                 .thenReturn(Optional.of(review));
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
         when(imageStorageService.getImagesByReviewId(anyLong())).thenReturn(new ArrayList<>());
@@ -165,7 +217,7 @@ public class ReviewServiceTest {
                 .title("Updated Title")
                 .build();
 
-        when(reviewRepository.findByIdAndStatus(1L, "ACTIVE"))
+        when(reviewRepository.findByIdAndStatus(1L, ReviewStatus.ACTIVE))
                 .thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () ->
@@ -174,6 +226,25 @@ public class ReviewServiceTest {
         verify(reviewRepository, never()).save(any(Review.class));
     }
 
+    @Test
+    void updateReview_OutsidePartitionRange_FallsBackToUnboundedLookup() throws IOException {
+        LocalDateTime from = LocalDateTime.of(2024, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 4, 2, 0, 0);
+        when(reviewPartitionMap.createdAtRange(1L))
+                .thenReturn(Optional.of(new ReviewPartitionMap.CreatedAtRange(from, to)));
+        when(reviewRepository.findByIdAndStatusAndCreatedAtBetween(1L, ReviewStatus.ACTIVE, from, to))
+                .thenReturn(Optional.empty());
+        when(reviewRepository.findByIdAndStatus(1L, ReviewStatus.ACTIVE))
+                .thenReturn(Optional.of(review));
+        when(reviewRepository.save(any(Review.class))).thenReturn(review);
+        when(imageStorageService.getImagesByReviewId(anyLong())).thenReturn(new ArrayList<>());
+
+        ReviewResponseDto result = reviewService.updateReview(1L, "USER-1",
+                ReviewUpdateRequest.builder().rating(4).build(), null);
+
+        assertEquals(review.getId(), result.getId());
+    }
+
     @Test
     void updateReview_Unauthorized_ThrowsException() {
         ReviewUpdateRequest updateRequest = ReviewUpdateRequest.builder()
@@ -181,7 +252,7 @@ public class ReviewServiceTest {
                 .title("Updated Title")
                 .build();
 
-        when(reviewRepository.findByIdAndStatus(1L, "ACTIVE"))
+        when(reviewRepository.findByIdAndStatus(1L, ReviewStatus.ACTIVE))
                 .thenReturn(Optional.of(review));
 
         assertThrows(UnauthorizedException.class, () ->
@@ -192,7 +263,7 @@ public class ReviewServiceTest {
 
     @Test
     void deleteReview_Success() {
-        when(reviewRepository.findByIdAndStatus(1L, "ACTIVE"))
+        when(reviewRepository.findByIdAndStatus(1L, ReviewStatus.ACTIVE))
                 .thenReturn(Optional.of(review));
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
 
@@ -201,11 +272,13 @@ public class ReviewServiceTest {
         verify(reviewRepository, times(1)).save(any(Review.class));
         verify(ratingSummaryService, times(1))
                 .updateRatingSummary(review.getEntityType(), review.getEntityId());
+        verify(entityVersionService, times(1))
+                .bumpVersion(review.getEntityType(), review.getEntityId());
     }
 
     @Test
     void deleteReview_NotFound_ThrowsException() {
-        when(reviewRepository.findByIdAndStatus(1L, "ACTIVE"))
+        when(reviewRepository.findByIdAndStatus(1L, ReviewStatus.ACTIVE))
                 .thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () ->
@@ -216,30 +289,46 @@ public class ReviewServiceTest {
 
     @Test
     void getReviewById_Success() {
-        when(reviewRepository.findByIdAndStatus(1L, "ACTIVE"))
+        when(reviewRepository.findByIdAndStatus(1L, ReviewStatus.ACTIVE))
                 .thenReturn(Optional.of(review));
-        when(reviewResponseRepository.findByReviewIdOrderByCreatedAtDesc(1L))
-                .thenReturn(new ArrayList<>());
-        when(imageStorageService.getImagesByReviewId(1L)).thenReturn(new ArrayList<>());
+        when(reviewDetailFetcher.fetch(review))
+                .thenReturn(new ReviewDetail(createMockImages(), new ArrayList<>(), null, new ArrayList<>()));
 
         ReviewResponseDto result = reviewService.getReviewById(1L);
 
         assertNotNull(result);
         assertEquals(review.getId(), result.getId());
-        verify(reviewRepository, times(1)).findByIdAndStatus(1L, "ACTIVE");
-        verify(imageStorageService, times(1)).getImagesByReviewId(1L);
+        assertEquals(2, result.getImages().size());
+        assertNotNull(result.getResponses());
+        assertNull(result.getDegraded());
+        verify(reviewRepository, times(1)).findByIdAndStatus(1L, ReviewStatus.ACTIVE);
+        verify(reviewDetailFetcher, times(1)).fetch(review);
+    }
+
+    @Test
+    void getReviewById_SubFetchMissing_ReturnsDegraded() {
+        when(reviewRepository.findByIdAndStatus(1L, ReviewStatus.ACTIVE))
+                .thenReturn(Optional.of(review));
+        when(reviewDetailFetcher.fetch(review))
+                .thenReturn(new ReviewDetail(null, new ArrayList<>(), null, List.of("images")));
+
+        ReviewResponseDto result = reviewService.getReviewById(1L);
+
+        assertEquals(review.getId(), result.getId());
+        assertTrue(result.getImages().isEmpty());
+        assertTrue(result.getDegraded());
+        assertEquals(List.of("images"), result.getDegradedParts());
     }
 
     @Test
     void getReviewsByEntity_Success() {
-        List<Review> reviews = List.of(review);
-        Page<Review> reviewPage = new PageImpl<>(reviews);
+        Page<ReviewListRow> reviewPage = new PageImpl<>(List.of(ReviewListRow.of(review)));
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(reviewRepository.findByEntityTypeAndEntityIdAndStatus(
-                "PRODUCT", "PROD-123", "ACTIVE", pageable))
+        when(reviewRepository.findRowsByEntity(
+                "PRODUCT", "PROD-123", ReviewStatus.ACTIVE, pageable))
                 .thenReturn(reviewPage);
-        when(imageStorageService.getImagesByReviewId(anyLong())).thenReturn(new ArrayList<>());
+        when(imageStorageService.getImageMetadataByReviewIds(List.of(1L))).thenReturn(Map.of());
 
         Page<ReviewResponseDto> result = reviewService.getReviewsByEntity(
                 "PRODUCT", "PROD-123", null, null, null, pageable);
@@ -247,25 +336,24 @@ public class ReviewServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         verify(reviewRepository, times(1))
-                .findByEntityTypeAndEntityIdAndStatus("PRODUCT", "PROD-123", "ACTIVE", pageable);
+                .findRowsByEntity("PRODUCT", "PROD-123", ReviewStatus.ACTIVE, pageable);
     }
 
     @Test
     void getReviewsByUser_Success() {
-        List<Review> reviews = List.of(review);
-        Page<Review> reviewPage = new PageImpl<>(reviews);
+        Page<ReviewListRow> reviewPage = new PageImpl<>(List.of(ReviewListRow.of(review)));
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(reviewRepository.findByUserIdAndStatus("USER-1", "ACTIVE", pageable))
+        when(reviewRepository.findRowsByUser("USER-1", ReviewStatus.ACTIVE, pageable))
                 .thenReturn(reviewPage);
-        when(imageStorageService.getImagesByReviewId(anyLong())).thenReturn(new ArrayList<>());
+        when(imageStorageService.getImageMetadataByReviewIds(List.of(1L))).thenReturn(Map.of());
 
         Page<ReviewResponseDto> result = reviewService.getReviewsByUser("USER-1", pageable);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         verify(reviewRepository, times(1))
-                .findByUserIdAndStatus("USER-1", "ACTIVE", pageable);
+                .findRowsByUser("USER-1", ReviewStatus.ACTIVE, pageable);
     }
 
     private List<ReviewImage> createMockImages() {
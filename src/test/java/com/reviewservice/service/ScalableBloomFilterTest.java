@@ -0,0 +1,49 @@
+package com.reviewservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    void mightContain_NeverMissesAddedKeys() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 20_000; i++) {
+            filter.put("PRODUCT\0PROD-" + (i % 500) + "\0USER-" + i);
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            assertTrue(filter.mightContain("PRODUCT\0PROD-" + (i % 500) + "\0USER-" + i));
+        }
+    }
+
+    @Test
+    void mightContain_FalsePositiveRateStaysBoundedAsFilterGrows() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 50_000; i++) {
+            filter.put("added-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 1_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void put_GrowsInsteadOfSaturating() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, 0.01);
+        long initialBits = filter.bitCount();
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("key-" + i);
+        }
+
+        assertTrue(filter.bitCount() > initialBits * 8);
+    }
+}
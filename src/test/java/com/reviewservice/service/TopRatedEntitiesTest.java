@@ -0,0 +1,82 @@
+package com.reviewservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TopRatedEntitiesTest {
+
+    @Test
+    void first_LoadsOnceAndServesFromMemory() {
+        TopRatedEntities top = new TopRatedEntities(3);
+        AtomicInteger loads = new AtomicInteger();
+        List<TopRatedEntities.Entry> db = List.of(entry(1L, 4.8), entry(2L, 4.5), entry(3L, 4.1));
+
+        top.first(2, () -> { loads.incrementAndGet(); return db; });
+        List<TopRatedEntities.Entry> first = top.first(3, () -> { loads.incrementAndGet(); return db; });
+
+        assertEquals(1, loads.get());
+        assertEquals(List.of(1L, 2L, 3L), ids(first));
+    }
+
+    @Test
+    void update_BetterEntityDisplacesLast() {
+        TopRatedEntities top = new TopRatedEntities(3);
+        top.first(3, () -> List.of(entry(1L, 4.8), entry(2L, 4.5), entry(3L, 4.1)));
+
+        top.update(entry(9L, 4.6), true);
+
+        assertEquals(List.of(1L, 9L, 2L), ids(top.first(3, List::of)));
+    }
+
+    @Test
+    void update_DroppedEntryEvictedAndReloadedOnDemand() {
+        TopRatedEntities top = new TopRatedEntities(3);
+        List<TopRatedEntities.Entry> db = new ArrayList<>(List.of(entry(1L, 4.8), entry(2L, 4.5), entry(3L, 4.1)));
+        top.first(3, () -> db);
+
+        // Unseen entity 4 (4.0) may now outrank entity 1, so entity 1 cannot stay in the prefix
+        top.update(entry(1L, 3.0), true);
+        assertEquals(2, top.size());
+        assertEquals(List.of(2L), ids(top.first(1, List::of)));
+
+        List<TopRatedEntities.Entry> reloaded = top.first(3, () -> List.of(entry(2L, 4.5), entry(3L, 4.1), entry(4L, 4.0)));
+        assertEquals(List.of(2L, 3L, 4L), ids(reloaded));
+    }
+
+    @Test
+    void replace_TakesChangesMadeElsewhere() {
+        TopRatedEntities top = new TopRatedEntities(3);
+        top.first(3, () -> List.of(entry(1L, 4.8), entry(2L, 4.5), entry(3L, 4.1)));
+
+        // Entity 7 was rated through another instance, so no local update saw it
+        top.replace(List.of(entry(7L, 4.9), entry(1L, 4.8), entry(2L, 4.5)));
+
+        assertEquals(List.of(7L, 1L, 2L), ids(top.first(3, List::of)));
+    }
+
+    @Test
+    void update_BelowThreshold_Removed() {
+        TopRatedEntities top = new TopRatedEntities(3);
+        top.first(3, () -> List.of(entry(1L, 4.8), entry(2L, 4.5)));
+
+        top.update(entry(2L, 4.5), false);
+        top.update(entry(5L, 3.9), true);
+
+        // The prefix held every qualifying entity, so a newcomer joins without a reload
+        assertEquals(List.of(1L, 5L), ids(top.first(3, List::of)));
+    }
+
+    private TopRatedEntities.Entry entry(Long id, double score) {
+        return new TopRatedEntities.Entry(id, "PRODUCT", "PROD-" + id, score, 20, score);
+    }
+
+    private List<Long> ids(List<TopRatedEntities.Entry> entries) {
+        return entries.stream().map(TopRatedEntities.Entry::getSummaryId).collect(Collectors.toList());
+    }
+}
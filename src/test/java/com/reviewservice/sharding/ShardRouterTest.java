@@ -0,0 +1,53 @@
+package com.reviewservice.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardRouterTest {
+
+    private ShardRouter shardRouter;
+
+    @BeforeEach
+    void setUp() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setShards(List.of(new ShardingProperties.Shard(), new ShardingProperties.Shard()));
+        properties.setLegacyMaxId(100);
+        shardRouter = new ShardRouter(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardRouter.shutdown();
+    }
+
+    @Test
+    void isLegacyId_UpToLegacyMaxId() {
+        assertTrue(shardRouter.isLegacyId(1));
+        assertTrue(shardRouter.isLegacyId(100));
+        assertFalse(shardRouter.isLegacyId(101));
+    }
+
+    @Test
+    void groupByShard_PutsLegacyIdsOnEveryShard() {
+        Map<Integer, List<Long>> idsByShard = shardRouter.groupByShard(List.of(7L, 101L, 102L, 104L));
+
+        assertEquals(Map.of(0, List.of(7L, 102L, 104L), 1, List.of(7L, 101L)), idsByShard);
+    }
+
+    @Test
+    void groupByShard_Unsharded_NothingIsLegacy() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setLegacyMaxId(100);
+        ShardRouter unsharded = new ShardRouter(properties);
+
+        assertFalse(unsharded.isLegacyId(7));
+        assertEquals(Map.of(0, List.of(7L, 101L)), unsharded.groupByShard(List.of(7L, 101L)));
+    }
+}
@@ -0,0 +1,145 @@
+package com.reviewservice.sharding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reviewservice.dto.EntityVersionDto;
+import com.reviewservice.dto.ReviewRequest;
+import com.reviewservice.dto.ReviewResponseDto;
+import com.reviewservice.service.EntityVersionService;
+import com.reviewservice.service.ReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: a test transaction would pin every call to one shard
+@SpringBootTest(properties = {
+    "review.sharding.enabled=true",
+    "review.sharding.shards[0].url=jdbc:h2:mem:shard0",
+    "review.sharding.shards[0].username=sa",
+    "review.sharding.shards[0].password=",
+    "review.sharding.shards[1].url=jdbc:h2:mem:shard1",
+    "review.sharding.shards[1].username=sa",
+    "review.sharding.shards[1].password="
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ShardingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createReview_StoredOnEntityShardWithShardEncodedId() throws Exception {
+        for (String entityId : entityPerShard("PLACE")) {
+            int shard = shardRouter.shardFor("PRODUCT", entityId);
+            ReviewResponseDto review = reviewService.createReview(request(entityId, "USER-PLACE", 4), null);
+
+            assertEquals(shard, shardRouter.shardForId(review.getId()));
+            assertEquals(1, countReviews(shard, entityId));
+            assertEquals(0, countReviews(1 - shard, entityId));
+
+            mockMvc.perform(get("/api/v1/reviews/" + review.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entityId").value(entityId))
+                .andExpect(jsonPath("$.ratingSummary.totalReviews").value(1));
+        }
+    }
+
+    @Test
+    void getReviewsByUser_MergesShardsInRequestedOrder() throws Exception {
+        List<String> entityIds = new ArrayList<>(entityPerShard("USER-A"));
+        entityIds.addAll(entityPerShard("USER-B"));
+        List<Long> created = new ArrayList<>();
+        for (String entityId : entityIds) {
+            created.add(reviewService.createReview(request(entityId, "USER-MERGE", 5), null).getId());
+        }
+
+        String body = mockMvc.perform(get("/api/v1/reviews/user/USER-MERGE")
+                .param("size", "3")
+                .param("sortBy", "id")
+                .param("direction", "DESC"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(4))
+            .andReturn().getResponse().getContentAsString();
+
+        JsonNode content = objectMapper.readTree(body).get("content");
+        List<Long> expected = created.stream().sorted((a, b) -> Long.compare(b, a)).toList();
+        assertEquals(3, content.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected.get(i), content.get(i).get("id").asLong());
+        }
+
+        mockMvc.perform(get("/api/v1/reviews/user/USER-MERGE")
+                .param("page", "1")
+                .param("size", "3")
+                .param("sortBy", "id")
+                .param("direction", "DESC"))
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].id").value(expected.get(3)));
+    }
+
+    @Test
+    void getVersions_EntitiesOnDifferentShards() throws Exception {
+        List<String> entityIds = entityPerShard("VERSION");
+        for (String entityId : entityIds) {
+            reviewService.createReview(request(entityId, "USER-VERSION", 3), null);
+        }
+
+        List<EntityVersionDto> versions = entityVersionService.getVersions("PRODUCT", entityIds);
+
+        assertEquals(2, versions.size());
+        versions.forEach(version -> assertEquals(1L, version.getVersion()));
+    }
+
+    // One entity ID hashing to each of the two shards
+    private List<String> entityPerShard(String prefix) {
+        String[] entityIds = new String[2];
+        for (int i = 0; entityIds[0] == null || entityIds[1] == null; i++) {
+            String entityId = prefix + "-" + i;
+            entityIds[shardRouter.shardFor("PRODUCT", entityId)] = entityId;
+        }
+        return List.of(entityIds);
+    }
+
+    private long countReviews(int shard, String entityId) {
+        return ShardContext.call(shard, () -> jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM reviews WHERE entity_id = ?", Long.class, entityId));
+    }
+
+    private ReviewRequest request(String entityId, String userId, int rating) {
+        return ReviewRequest.builder()
+            .entityType("PRODUCT")
+            .entityId(entityId)
+            .userId(userId)
+            .rating(rating)
+            .title("Sharded")
+            .comment("Stored on the entity's shard")
+            .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.reviewservice.spam;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearDuplicateIndexTest {
+
+    private static final String SPAM =
+        "Best deal ever, visit our store for amazing discounts on every product you can imagine today";
+    private static final String SPAM_VARIANT =
+        "Best deal ever!! Visit our store for amazing discounts on every product you can imagine today";
+    private static final String GENUINE =
+        "The battery lasts two days with heavy use and the screen is bright enough outdoors in summer";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void signature_IgnoresCaseAndPunctuation() {
+        assertEquals(1.0, MinHash.similarity(sig(SPAM), sig(SPAM_VARIANT)));
+        assertTrue(MinHash.similarity(sig(SPAM), sig(GENUINE)) < 0.2);
+    }
+
+    @Test
+    void signature_ShortTextIsSkipped() {
+        assertNull(MinHash.signature("Great product, love it", 8));
+        assertNull(MinHash.signature(null, 8));
+    }
+
+    @Test
+    void addAndMatch_FindsNearDuplicatesOnly() {
+        NearDuplicateIndex index = new NearDuplicateIndex(100);
+
+        assertTrue(index.addAndMatch(1L, 10, sig(SPAM), 0.8, 20).isEmpty());
+        assertTrue(index.addAndMatch(2L, 20, sig(GENUINE), 0.8, 20).isEmpty());
+        List<NearDuplicateIndex.Match> matches = index.addAndMatch(3L, 30, sig(SPAM_VARIANT), 0.8, 20);
+
+        assertEquals(1, matches.size());
+        assertEquals(1L, matches.get(0).getReviewId());
+        assertEquals(10, matches.get(0).getEntityKey());
+    }
+
+    @Test
+    void addAndMatch_ReindexingReviewDoesNotMatchItself() {
+        NearDuplicateIndex index = new NearDuplicateIndex(100);
+        index.addAndMatch(1L, 10, sig(SPAM), 0.8, 20);
+
+        assertTrue(index.addAndMatch(1L, 10, sig(SPAM), 0.8, 20).isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void remove_AndEviction_DropReviewsFromMatches() {
+        NearDuplicateIndex index = new NearDuplicateIndex(2);
+        index.addAndMatch(1L, 10, sig(SPAM), 0.8, 20);
+        index.remove(1L);
+        assertTrue(index.addAndMatch(2L, 20, sig(SPAM), 0.8, 20).isEmpty());
+
+        index.addAndMatch(3L, 30, sig(GENUINE), 0.8, 20);
+        index.addAndMatch(4L, 40, sig(GENUINE + " again"), 0.5, 20);
+
+        assertEquals(2, index.size());
+        assertTrue(index.addAndMatch(5L, 50, sig(SPAM), 0.8, 20).isEmpty());
+    }
+
+    @Test
+    void saveAndLoad_RestoresIndex() throws Exception {
+        NearDuplicateIndex index = new NearDuplicateIndex(100);
+        index.addAndMatch(1L, 10, sig(SPAM), 0.8, 20);
+        index.addAndMatch(2L, 20, sig(GENUINE), 0.8, 20);
+        Path file = tempDir.resolve("near-duplicates.bin");
+        index.save(file);
+
+        NearDuplicateIndex restored = new NearDuplicateIndex(100);
+        restored.load(file);
+
+        assertEquals(2, restored.size());
+        assertEquals(1L, restored.addAndMatch(3L, 30, sig(SPAM_VARIANT), 0.8, 20).get(0).getReviewId());
+    }
+
+    private static int[] sig(String text) {
+        return MinHash.signature(text, 8);
+    }
+}
@@ -0,0 +1,75 @@
+package com.reviewservice.spam;
+
+import com.reviewservice.entity.ModerationStatus;
+import com.reviewservice.entity.ReviewStatus;
+import com.reviewservice.event.ReviewChangedEvent;
+import com.reviewservice.repository.ReviewRepository;
+import com.reviewservice.sharding.ShardRouter;
+import com.reviewservice.sharding.ShardingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpamDetectorTest {
+
+    private static final String SPAM =
+        "Best deal ever, visit our store for amazing discounts on every product you can imagine today";
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private SpamDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new SpamDetector(reviewRepository, new ShardRouter(new ShardingProperties()),
+            0.8, 8, 1000, 10, "");
+    }
+
+    @Test
+    void process_CopiedCommentFlagsBothReviews() {
+        detector.process(event(ReviewChangedEvent.Type.CREATED, 1L, "PROD-1", SPAM));
+        verifyNoInteractions(reviewRepository);
+
+        detector.process(event(ReviewChangedEvent.Type.CREATED, 2L, "PROD-2", SPAM));
+
+        verify(reviewRepository).flagForModeration(eq(List.of(2L)), eq(SpamDetector.MODERATOR_ID),
+            contains("closest is review 1"), any(LocalDateTime.class),
+            eq(ModerationStatus.PENDING), eq(ReviewStatus.ACTIVE));
+        verify(reviewRepository).flagForModeration(eq(List.of(1L)), eq(SpamDetector.MODERATOR_ID),
+            eq("Near-duplicate of review 2"), any(LocalDateTime.class),
+            eq(ModerationStatus.PENDING), eq(ReviewStatus.ACTIVE));
+    }
+
+    @Test
+    void process_DeletedReviewIsNotMatched() {
+        detector.process(event(ReviewChangedEvent.Type.CREATED, 1L, "PROD-1", SPAM));
+        detector.process(event(ReviewChangedEvent.Type.DELETED, 1L, "PROD-1", SPAM));
+
+        detector.process(event(ReviewChangedEvent.Type.CREATED, 2L, "PROD-2", SPAM));
+
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void process_ShortCommentsAreIgnored() {
+        detector.process(event(ReviewChangedEvent.Type.CREATED, 1L, "PROD-1", "Great product"));
+        detector.process(event(ReviewChangedEvent.Type.CREATED, 2L, "PROD-2", "Great product"));
+
+        verifyNoInteractions(reviewRepository);
+    }
+
+    private ReviewChangedEvent event(ReviewChangedEvent.Type type, Long reviewId, String entityId, String comment) {
+        return new ReviewChangedEvent(type, reviewId, "PRODUCT", entityId, "USER-" + reviewId,
+            5, null, "Title", comment, false, LocalDateTime.now());
+    }
+}